@@ -86,6 +86,10 @@ public class DatabaseConfiguration extends Configuration {
      * The Derby port.
      */
     private String derby_port;
+    /**
+     * Whether to use 'in-memory' mode for Derby.
+     */
+    private boolean derby_in_memory;
 
     /**
      * Construct using the default Properties file location.
@@ -273,4 +277,14 @@ public class DatabaseConfiguration extends Configuration {
     public String getDerbyPort() {
         return derby_port;
     }
+
+    /**
+     * Whether to use 'in-memory' mode for Derby, with an embedded database
+     * rather than one on the network server.
+     *
+     * @return the derby_in_memory
+     */
+    public boolean getDerbyInMemory() {
+        return derby_in_memory;
+    }
 }
@@ -5,7 +5,8 @@ package org.schemaanalyst.configuration;
 
 /**
  * Contains the properties describing how to connect to the experimental 
- * results database.
+ * results database, how many workers to use when running experiments, and
+ * how large the test suite and mutant result caches may grow.
  *
  * @author Chris J. Wright
  */
@@ -16,6 +17,10 @@ public class ExperimentConfiguration extends Configuration {
     private String tableName;
     private String username;
     private String password;
+    private int threads = 4;
+    private int queueSize = 0;
+    private int testSuiteCacheSize = 256;
+    private int mutantResultCacheSize = 64;
 
     /**
      * @return the databaseUrl
@@ -45,6 +50,34 @@ public class ExperimentConfiguration extends Configuration {
         return password;
     }
 
+    /**
+     * @return the number of worker threads for parallel techniques
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return the maximum number of queued tasks (0 for no limit)
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * @return the maximum size of the test suite cache, in megabytes
+     */
+    public int getTestSuiteCacheSize() {
+        return testSuiteCacheSize;
+    }
+
+    /**
+     * @return the maximum size of the mutant result cache, in megabytes
+     */
+    public int getMutantResultCacheSize() {
+        return mutantResultCacheSize;
+    }
+
     public ExperimentConfiguration() {
         load(PROPERTIES_LOCATION, this);
     }
@@ -46,6 +46,14 @@ public class LocationsConfiguration extends Configuration {
      * The results folder, for storing experiment results.
      */
     private String results_dir;
+    /**
+     * The test suite cache folder, for storing generated test suites.
+     */
+    private String testsuite_cache_dir;
+    /**
+     * The mutant result cache folder, for storing whether mutants were killed.
+     */
+    private String mutant_result_cache_dir;
     /**
      * The folder where the original SQL for each schema is located.
      */
@@ -163,6 +171,24 @@ public class LocationsConfiguration extends Configuration {
         return results_dir;
     }
 
+    /**
+     * The test suite cache folder, for storing generated test suites.
+     *
+     * @return the testsuite_cache_dir
+     */
+    public String getTestSuiteCacheDir() {
+        return testsuite_cache_dir;
+    }
+
+    /**
+     * The mutant result cache folder, for storing whether mutants were killed.
+     *
+     * @return the mutant_result_cache_dir
+     */
+    public String getMutantResultCacheDir() {
+        return mutant_result_cache_dir;
+    }
+
     /**
      * The folder where the original SQL for each schema is located.
      *
@@ -119,6 +119,13 @@ public class Data implements Serializable {
         return rows;
     }
 
+    /**
+     * Removes all rows, for all tables, from this data instance.
+     */
+    public void clear() {
+        data.clear();
+    }
+
     /**
      * Gets the tables involved in this data instance.
      * @return A list of tables involved in this data instance.
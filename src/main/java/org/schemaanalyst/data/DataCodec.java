@@ -0,0 +1,379 @@
+package org.schemaanalyst.data;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * <p>
+ * Encodes values, and the numbers they are made of, in a compact binary form.
+ * Each value is written as a tag identifying its class, followed by its
+ * fields. Integers are written as variable-length zig-zag integers, and
+ * decimals as their scale and unscaled value, so that small numbers (e.g., the
+ * characters of strings) take a byte or two.
+ * </p>
+ *
+ * <p>
+ * Values are read back exactly as written, including the ranges of numeric
+ * values and the character ranges of strings.
+ * </p>
+ */
+public class DataCodec {
+
+    private static final int NULL = 0;
+    private static final int BOOLEAN = 1;
+    private static final int NUMERIC = 2;
+    private static final int TIMESTAMP = 3;
+    private static final int STRING = 4;
+    private static final int DATE = 5;
+    private static final int DATE_TIME = 6;
+    private static final int TIME = 7;
+
+    private static final int DECIMAL_NULL = 0;
+    private static final int DECIMAL_LONG = 1;
+    private static final int DECIMAL_BIG = 2;
+
+    private static final int CHARACTERS_IN_RANGE = 0;
+    private static final int CHARACTERS_WITH_RANGES = 1;
+
+    private DataCodec() {
+    }
+
+    /**
+     * Writes a long as a variable-length zig-zag integer, using a byte for
+     * every seven bits of its magnitude.
+     *
+     * @param out The output
+     * @param value The value
+     * @throws IOException If the output fails
+     */
+    public static void writeVarLong(DataOutput out, long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.writeByte((int) zigZag);
+    }
+
+    /**
+     * Reads a long written by {@link #writeVarLong(DataOutput, long)}.
+     *
+     * @param in The input
+     * @return The value
+     * @throws IOException If the input fails or the value is malformed
+     */
+    public static long readVarLong(DataInput in) throws IOException {
+        long zigZag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * Writes an int as a variable-length zig-zag integer.
+     *
+     * @param out The output
+     * @param value The value
+     * @throws IOException If the output fails
+     */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        writeVarLong(out, value);
+    }
+
+    /**
+     * Reads an int written by {@link #writeVarInt(DataOutput, int)}.
+     *
+     * @param in The input
+     * @return The value
+     * @throws IOException If the input fails or the value is malformed
+     */
+    public static int readVarInt(DataInput in) throws IOException {
+        long value = readVarLong(in);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IOException("Variable-length integer " + value + " is out of range");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Writes a decimal, which may be null.
+     *
+     * @param out The output
+     * @param value The decimal
+     * @throws IOException If the output fails
+     */
+    public static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeByte(DECIMAL_NULL);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < 64) {
+            out.writeByte(DECIMAL_LONG);
+            writeVarLong(out, unscaled.longValue());
+        } else {
+            out.writeByte(DECIMAL_BIG);
+            byte[] bytes = unscaled.toByteArray();
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+        writeVarInt(out, value.scale());
+    }
+
+    /**
+     * Reads a decimal written by {@link #writeDecimal(DataOutput, BigDecimal)}.
+     *
+     * @param in The input
+     * @return The decimal, or null
+     * @throws IOException If the input fails or the decimal is malformed
+     */
+    public static BigDecimal readDecimal(DataInput in) throws IOException {
+        int type = in.readUnsignedByte();
+        BigInteger unscaled;
+        switch (type) {
+            case DECIMAL_NULL:
+                return null;
+            case DECIMAL_LONG:
+                unscaled = BigInteger.valueOf(readVarLong(in));
+                break;
+            case DECIMAL_BIG:
+                byte[] bytes = new byte[readLength(in)];
+                in.readFully(bytes);
+                unscaled = new BigInteger(bytes);
+                break;
+            default:
+                throw new IOException("Unknown decimal encoding " + type);
+        }
+        return new BigDecimal(unscaled, readVarInt(in));
+    }
+
+    /**
+     * Reads a non-negative length or count.
+     *
+     * @param in The input
+     * @return The length
+     * @throws IOException If the input fails or the length is negative
+     */
+    public static int readLength(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0) {
+            throw new IOException("Negative length " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Writes a value, which may be null.
+     *
+     * @param out The output
+     * @param value The value
+     * @throws IOException If the output fails
+     */
+    public static void writeValue(DataOutput out, Value value) throws IOException {
+        int tag = getTag(value);
+        out.writeByte(tag);
+        switch (tag) {
+            case BOOLEAN:
+                out.writeBoolean(((BooleanValue) value).get());
+                break;
+            case NUMERIC:
+            case TIMESTAMP:
+                writeNumeric(out, (NumericValue) value);
+                break;
+            case STRING:
+                writeString(out, (StringValue) value);
+                break;
+            case DATE_TIME:
+                DateTimeValue dateTime = (DateTimeValue) value;
+                writeNumeric(out, dateTime.getHour());
+                writeNumeric(out, dateTime.getMinute());
+                writeNumeric(out, dateTime.getSecond());
+                writeDate(out, dateTime);
+                break;
+            case DATE:
+                writeDate(out, (DateValue) value);
+                break;
+            case TIME:
+                TimeValue time = (TimeValue) value;
+                writeNumeric(out, time.getHour());
+                writeNumeric(out, time.getMinute());
+                writeNumeric(out, time.getSecond());
+                break;
+        }
+    }
+
+    private static void writeDate(DataOutput out, DateValue date) throws IOException {
+        writeNumeric(out, date.getYear());
+        writeNumeric(out, date.getMonth());
+        writeNumeric(out, date.getDay());
+    }
+
+    private static int getTag(Value value) {
+        if (value == null) {
+            return NULL;
+        }
+
+        class TagVisitor implements ValueVisitor {
+            int tag;
+
+            @Override
+            public void visit(BooleanValue value) {
+                tag = BOOLEAN;
+            }
+
+            @Override
+            public void visit(DateValue value) {
+                tag = DATE;
+            }
+
+            @Override
+            public void visit(DateTimeValue value) {
+                tag = DATE_TIME;
+            }
+
+            @Override
+            public void visit(NumericValue value) {
+                tag = NUMERIC;
+            }
+
+            @Override
+            public void visit(StringValue value) {
+                tag = STRING;
+            }
+
+            @Override
+            public void visit(TimeValue value) {
+                tag = TIME;
+            }
+
+            @Override
+            public void visit(TimestampValue value) {
+                tag = TIMESTAMP;
+            }
+        }
+
+        TagVisitor visitor = new TagVisitor();
+        value.accept(visitor);
+        return visitor.tag;
+    }
+
+    /**
+     * Reads a value written by {@link #writeValue(DataOutput, Value)}.
+     *
+     * @param in The input
+     * @return The value, or null
+     * @throws IOException If the input fails or the value is malformed
+     */
+    public static Value readValue(DataInput in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return new BooleanValue(in.readBoolean());
+            case NUMERIC:
+                return readNumeric(in, new NumericValue());
+            case TIMESTAMP:
+                return readNumeric(in, new TimestampValue(0));
+            case STRING:
+                return readString(in);
+            case DATE:
+                DateValue date = new DateValue();
+                readNumeric(in, date.getYear());
+                readNumeric(in, date.getMonth());
+                readNumeric(in, date.getDay());
+                return date;
+            case DATE_TIME:
+                DateTimeValue dateTime = new DateTimeValue();
+                readNumeric(in, dateTime.getHour());
+                readNumeric(in, dateTime.getMinute());
+                readNumeric(in, dateTime.getSecond());
+                readNumeric(in, dateTime.getYear());
+                readNumeric(in, dateTime.getMonth());
+                readNumeric(in, dateTime.getDay());
+                return dateTime;
+            case TIME:
+                TimeValue time = new TimeValue();
+                readNumeric(in, time.getHour());
+                readNumeric(in, time.getMinute());
+                readNumeric(in, time.getSecond());
+                return time;
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    private static void writeNumeric(DataOutput out, NumericValue value) throws IOException {
+        writeDecimal(out, value.min);
+        writeDecimal(out, value.max);
+        writeDecimal(out, value.value);
+    }
+
+    private static NumericValue readNumeric(DataInput in, NumericValue value) throws IOException {
+        value.min = readDecimal(in);
+        value.max = readDecimal(in);
+        // the value was in range when written, so is assigned rather than set
+        value.value = readDecimal(in);
+        return value;
+    }
+
+    private static void writeString(DataOutput out, StringValue value) throws IOException {
+        writeVarInt(out, value.maxLength);
+        writeVarInt(out, value.characterDefault);
+        writeVarInt(out, value.characterMin);
+        writeVarInt(out, value.characterMax);
+
+        boolean inRange = true;
+        for (NumericValue character : value.characters) {
+            inRange &= isCharacter(character, value.characterMin, value.characterMax);
+        }
+        out.writeByte(inRange ? CHARACTERS_IN_RANGE : CHARACTERS_WITH_RANGES);
+        writeVarInt(out, value.characters.size());
+        for (NumericValue character : value.characters) {
+            if (inRange) {
+                writeVarInt(out, character.value.intValue());
+            } else {
+                writeNumeric(out, character);
+            }
+        }
+    }
+
+    private static boolean isCharacter(NumericValue character, int min, int max) {
+        return character.getClass() == NumericValue.class
+                && character.value.scale() == 0
+                && character.value.unscaledValue().bitLength() < 32
+                && BigDecimal.valueOf(min).equals(character.min)
+                && BigDecimal.valueOf(max).equals(character.max);
+    }
+
+    private static StringValue readString(DataInput in) throws IOException {
+        StringValue value = new StringValue(readVarInt(in));
+        value.characterDefault = readVarInt(in);
+        value.characterMin = readVarInt(in);
+        value.characterMax = readVarInt(in);
+
+        int encoding = in.readUnsignedByte();
+        int length = readLength(in);
+        for (int i = 0; i < length; i++) {
+            NumericValue character;
+            if (encoding == CHARACTERS_IN_RANGE) {
+                character = new NumericValue(value.characterMin, value.characterMax);
+                character.value = BigDecimal.valueOf(readVarInt(in));
+            } else if (encoding == CHARACTERS_WITH_RANGES) {
+                character = readNumeric(in, new NumericValue());
+            } else {
+                throw new IOException("Unknown character encoding " + encoding);
+            }
+            value.characters.add(character);
+        }
+        return value;
+    }
+}
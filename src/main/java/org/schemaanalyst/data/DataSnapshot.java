@@ -0,0 +1,87 @@
+package org.schemaanalyst.data;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A copy of a data instance that is brought up to date with it by copying
+ * only the cells reported as changed since the last update, rather than
+ * duplicating the whole instance. The rows of the data instance must not be
+ * added to or removed while the snapshot is in use.
+ */
+public class DataSnapshot {
+
+    private Data copy;
+    private Map<Cell, Cell> copyCells;
+    private Set<Cell> changedCells;
+    private boolean allCellsChanged;
+
+    /**
+     * Constructor.
+     * @param data The data instance to take snapshots of.
+     */
+    public DataSnapshot(Data data) {
+        copy = data.duplicate();
+        copyCells = new IdentityHashMap<>();
+        changedCells = Collections.newSetFromMap(new IdentityHashMap<Cell, Boolean>());
+
+        Iterator<Cell> copyIterator = copy.getCells().iterator();
+        for (Cell cell : data.getCells()) {
+            copyCells.put(cell, copyIterator.next());
+        }
+    }
+
+    /**
+     * Reports that a cell of the data instance has changed, or is about to
+     * change, since the last update.
+     * @param cell The cell.
+     */
+    public void cellChanged(Cell cell) {
+        if (!allCellsChanged) {
+            changedCells.add(cell);
+        }
+    }
+
+    /**
+     * Reports that any cell of the data instance may have changed since the
+     * last update.
+     */
+    public void allCellsChanged() {
+        allCellsChanged = true;
+        changedCells.clear();
+    }
+
+    /**
+     * Copies the values of the cells reported as changed to the snapshot.
+     */
+    public void update() {
+        if (allCellsChanged) {
+            for (Map.Entry<Cell, Cell> entry : copyCells.entrySet()) {
+                copyValue(entry.getKey(), entry.getValue());
+            }
+        } else {
+            for (Cell cell : changedCells) {
+                copyValue(cell, copyCells.get(cell));
+            }
+        }
+        changedCells.clear();
+        allCellsChanged = false;
+    }
+
+    private void copyValue(Cell source, Cell target) {
+        Value value = source.getValue();
+        target.setValue((value == null) ? null : value.duplicate());
+    }
+
+    /**
+     * Returns the snapshot, as of the last update. The same instance is
+     * returned, and modified, by every update.
+     * @return The data instance holding the snapshot.
+     */
+    public Data getData() {
+        return copy;
+    }
+}
@@ -19,6 +19,8 @@ public class AlternatingValueSearch extends Search<Data> {
     protected Data data; // protected so that test class can access
     private List<Cell> cells;
     private ObjectiveValue lastObjVal;
+    private Cell changedCell; // the only cell changed since the last evaluation, if known
+    private DataSnapshot bestDataSnapshot;
 
     public AlternatingValueSearch(Random random,
                                   CellInitializer startInitializer,
@@ -37,6 +39,8 @@ public class AlternatingValueSearch extends Search<Data> {
 
         // start
         startInitialiser.initialize(data);
+        bestDataSnapshot = new DataSnapshot(data);
+        changedCell = null;
         lastObjVal = null;
         evaluate();
 
@@ -51,6 +55,8 @@ public class AlternatingValueSearch extends Search<Data> {
 
             if (!terminationCriterion.satisfied()) {
                 restartInitialiser.initialize(data);
+                bestDataSnapshot.allCellsChanged();
+                changedCell = null;
                 lastObjVal = null;
                 evaluate();
             }
@@ -58,6 +64,12 @@ public class AlternatingValueSearch extends Search<Data> {
     }
 
     protected boolean evaluate() {
+        // each move changes one cell, so the objective function need only
+        // recompute the parts of the objective value that read it
+        if (changedCell != null) {
+            objFun.cellChanged(changedCell);
+            bestDataSnapshot.cellChanged(changedCell);
+        }
         ObjectiveValue nextObjVal = evaluate(data);
 
         boolean improvement = (lastObjVal == null || nextObjVal.betterThan(lastObjVal));
@@ -69,6 +81,27 @@ public class AlternatingValueSearch extends Search<Data> {
         return improvement;
     }
 
+    /**
+     * Records the data being searched in a snapshot that is kept for the
+     * whole search, so the returned data is the same object each time and is
+     * overwritten by the next snapshot. Other candidate solutions are
+     * duplicated.
+     *
+     * @param candidateSolution The candidate solution.
+     * @return The snapshot of the candidate solution, valid until the next
+     * snapshot.
+     */
+    @Override
+    protected Data snapshot(Data candidateSolution) {
+        if (candidateSolution != data || bestDataSnapshot == null) {
+            return super.snapshot(candidateSolution);
+        }
+        // copies only the cells changed since the best solution was last
+        // recorded, as a restart is the only move that changes them all
+        bestDataSnapshot.update();
+        return bestDataSnapshot.getData();
+    }
+
     protected void alternateThroughValues() {
         int numValues = cells.size();
         int valuesWithoutImprovement = 0;
@@ -92,6 +125,11 @@ public class AlternatingValueSearch extends Search<Data> {
     }
 
     protected boolean valueSearch(Cell cell) {
+        // the last cell searched may have been reset since it was evaluated
+        if (changedCell != null) {
+            objFun.cellChanged(changedCell);
+        }
+        changedCell = cell;
         boolean improvement = invertNullMove(cell);
 
         if (!cell.isNull()) {
@@ -80,13 +80,27 @@ public abstract class Search<T> {
 
         if (bestObjVal == null || objVal.betterThan(bestObjVal)) {
             bestObjVal = objVal;
-            bestCandidateSolution = duplicator.duplicate(candidateSolution);
+            bestCandidateSolution = snapshot(candidateSolution);
         }
 
         evaluationsCounter.increment();
         return objVal;
     }
 
+    /**
+     * Returns a copy of a candidate solution, to be kept as the best found
+     * so far. By default, the candidate solution is duplicated, but a
+     * subclass may instead return an object it reuses, which is only valid
+     * until the next snapshot is taken.
+     *
+     * @param candidateSolution The candidate solution.
+     * @return A copy of the candidate solution that will not change until
+     * the next snapshot.
+     */
+    protected T snapshot(T candidateSolution) {
+        return duplicator.duplicate(candidateSolution);
+    }
+
     /**
      * Returns the best objective value found by the generation so far.
      *
@@ -98,7 +112,8 @@ public abstract class Search<T> {
 
     /**
      * Returns the candidate solution with the best objective value found by the
-     * generation so far.
+     * generation so far. It may be changed by a later improvement, so it
+     * should be copied if it is to be kept while the generation continues.
      *
      * @return The candidate solution with the best objective value found by the
      * generation so far.
@@ -1,7 +1,13 @@
 package org.schemaanalyst.data.generation.search.objective;
 
+import java.math.BigDecimal;
+
 public class BestOfMultiObjectiveValue extends MultiObjectiveValue {
 
+    private static final ObjectiveValue WORST_OBJECTIVE_VALUE = ObjectiveValue.worstObjectiveValue();
+
+    protected ObjectiveValue best;
+
     public BestOfMultiObjectiveValue() {
         super();
     }
@@ -12,26 +18,30 @@ public class BestOfMultiObjectiveValue extends MultiObjectiveValue {
 
     @Override
     protected void computeValue() {
-        ObjectiveValue best = ObjectiveValue.worstObjectiveValue(description);
+        best = WORST_OBJECTIVE_VALUE;
         for (ObjectiveValue objVal : objVals) {
             if (objVal.betterThan(best)) {
                 best = objVal;
             }
         }
-        setValue(best);
+        value = null;
+        unnormalizedValue = null;
+        doubleValue = best.getDoubleValue();
+        error = best.getError();
         computeValue = false;
     }
 
     @Override
-    public void appendToStringBuilder(StringBuilder sb, String indent) {
-        if (computeValue) {
-            computeValue();
-        }
+    protected BigDecimal computeExactValue() {
+        return best.getValue();
+    }
 
+    @Override
+    public void appendToStringBuilder(StringBuilder sb, String indent) {
         super.appendToStringBuilder(sb, indent);
 
         sb.append(" [Best: ");
-        sb.append(value);
+        sb.append(getValue());
         sb.append("]");
 
         appendObjectiveValuesToStringBuilder(sb, indent + "\t");
@@ -24,16 +24,47 @@ public abstract class MultiObjectiveValue extends ObjectiveValue {
         computeValue = true;
     }
 
+    /**
+     * Computes the double value and its error from the values of
+     * {@link #objVals}, leaving the exact value to
+     * {@link #computeExactValue()}.
+     */
     protected abstract void computeValue();
 
+    /**
+     * Computes the exact value from the values of {@link #objVals}.
+     *
+     * @return The exact value
+     */
+    protected abstract BigDecimal computeExactValue();
+
     @Override
     public BigDecimal getValue() {
         if (computeValue) {
             computeValue();
         }
+        if (value == null) {
+            value = computeExactValue();
+        }
         return value;
     }
 
+    @Override
+    public double getDoubleValue() {
+        if (computeValue) {
+            computeValue();
+        }
+        return doubleValue;
+    }
+
+    @Override
+    public double getError() {
+        if (computeValue) {
+            computeValue();
+        }
+        return error;
+    }
+
     protected void appendObjectiveValuesToStringBuilder(StringBuilder sb, String indent) {
         for (ObjectiveValue objVal : objVals) {
             sb.append("\n");
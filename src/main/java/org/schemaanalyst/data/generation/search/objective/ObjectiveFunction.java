@@ -1,9 +1,23 @@
 package org.schemaanalyst.data.generation.search.objective;
 
+import org.schemaanalyst.data.Cell;
+
 /**
  * Created by phil on 14/03/2014.
  */
 public abstract class ObjectiveFunction<T> {
 
     public abstract ObjectiveValue evaluate(T candidateSolution);
+
+    /**
+     * Reports that a cell of the candidate solution has changed since the
+     * last evaluation. If every change made between two evaluations is
+     * reported, the function may reuse the parts of its last objective value
+     * that did not read a changed cell. An evaluation with no change reported
+     * since the last one recomputes everything. Does nothing by default.
+     *
+     * @param cell The cell that has changed
+     */
+    public void cellChanged(Cell cell) {
+    }
 }
@@ -5,12 +5,38 @@ import java.math.BigDecimal;
 import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.ZERO;
 
+/**
+ * <p>
+ * The value of an objective function, between {@link #OPTIMAL} and
+ * {@link #WORST}.
+ * </p>
+ *
+ * <p>
+ * Values are held as doubles, along with a bound on how far the double may be
+ * from the exact {@link BigDecimal} value, which is only computed when it is
+ * asked for with {@link #getValue()} or when two doubles are too close to
+ * call. Comparisons therefore order values exactly as comparing their
+ * BigDecimal values would. Validation mode, switched on with
+ * {@link #setValidating(boolean)}, checks this by computing the BigDecimal
+ * value for every comparison.
+ * </p>
+ */
 public class ObjectiveValue implements Comparable<ObjectiveValue> {
 
     public static final BigDecimal OPTIMAL = ZERO, WORST = ONE;
     protected static final BigDecimal A = WORST, B = ONE;
     protected static final int PRECISION = 20;
+
+    // bound on the difference between a value normalized using doubles and
+    // the same value normalized using BigDecimals to PRECISION digits
+    protected static final double NORMALIZATION_ERROR = 4 * Math.ulp(1.0);
+
+    private static boolean validating = false;
+
     protected BigDecimal value = WORST;
+    protected BigDecimal unnormalizedValue;
+    protected double doubleValue = 1;
+    protected double error = 0;
     protected String description;
 
     public ObjectiveValue() {
@@ -34,10 +60,36 @@ public class ObjectiveValue implements Comparable<ObjectiveValue> {
 
     public void setValue(BigDecimal value) {
         this.value = value;
+        this.unnormalizedValue = null;
+        this.doubleValue = value.doubleValue();
+        this.error = (value.signum() == 0 || value.compareTo(ONE) == 0)
+                ? 0
+                : Math.max(Math.ulp(1.0), Math.ulp(doubleValue));
     }
 
     public void normalizeAndSetValue(BigDecimal value) {
-        setValue(A.subtract(A.divide(B.add(value), PRECISION, BigDecimal.ROUND_FLOOR)));
+        setNormalizedValue(value.doubleValue(), value.signum() == 0 ? 0 : NORMALIZATION_ERROR);
+        this.unnormalizedValue = value;
+    }
+
+    /**
+     * Sets the value to the normalization of another, using doubles only. The
+     * exact value must be supplied by {@link #getValue()}, either from
+     * {@link #unnormalizedValue}, or by a subclass.
+     *
+     * @param value The value to be normalized
+     * @param error The bound on the error of the value to be normalized
+     */
+    protected void setNormalizedValue(double value, double error) {
+        // A - A / (B + value), where A = B = 1
+        this.value = null;
+        this.unnormalizedValue = null;
+        this.doubleValue = 1 - 1 / (1 + value);
+        this.error = error;
+    }
+
+    protected static BigDecimal normalize(BigDecimal value) {
+        return A.subtract(A.divide(B.add(value), PRECISION, BigDecimal.ROUND_FLOOR));
     }
 
     public void setValueToOptimal() {
@@ -49,20 +101,89 @@ public class ObjectiveValue implements Comparable<ObjectiveValue> {
     }
 
     public BigDecimal getValue() {
+        if (value == null) {
+            value = normalize(unnormalizedValue);
+        }
         return value;
     }
 
+    /**
+     * Returns the value as a double, which is within {@link #getError()} of
+     * the value returned by {@link #getValue()}.
+     *
+     * @return The value as a double
+     */
+    public double getDoubleValue() {
+        return doubleValue;
+    }
+
+    /**
+     * Returns the bound on the difference between {@link #getDoubleValue()}
+     * and {@link #getValue()}. A bound of zero means the double is exact.
+     *
+     * @return The bound on the error of the double value
+     */
+    public double getError() {
+        return error;
+    }
+
     public boolean isOptimal() {
-        return getValue().compareTo(OPTIMAL) == 0;
+        return isExactly(0, OPTIMAL);
     }
     
     public boolean isWorst() {
-        return getValue().compareTo(WORST) == 0;
+        return isExactly(1, WORST);
+    }
+
+    private boolean isExactly(double doubleTarget, BigDecimal target) {
+        double difference = Math.abs(getDoubleValue() - doubleTarget);
+        boolean result;
+        if (getError() == 0) {
+            result = difference == 0;
+        } else if (difference > getError()) {
+            result = false;
+        } else {
+            result = getValue().compareTo(target) == 0;
+        }
+        if (validating && result != (getValue().compareTo(target) == 0)) {
+            throw new ObjectiveFunctionException(
+                    "Value " + getDoubleValue() + " compared differently to " + target + " than " + getValue());
+        }
+        return result;
     }
 
     @Override
     public int compareTo(ObjectiveValue other) {
-        return -getValue().compareTo(other.getValue());
+        double difference = getDoubleValue() - other.getDoubleValue();
+        double tolerance = getError() + other.getError();
+        int result;
+        if (difference > tolerance) {
+            result = -1;
+        } else if (difference < -tolerance) {
+            result = 1;
+        } else if (tolerance == 0) {
+            result = 0;
+        } else {
+            result = -getValue().compareTo(other.getValue());
+        }
+        if (validating) {
+            validate();
+            other.validate();
+            if (result != -getValue().compareTo(other.getValue())) {
+                throw new ObjectiveFunctionException(
+                        "Values " + getDoubleValue() + " and " + other.getDoubleValue()
+                        + " compared differently to " + getValue() + " and " + other.getValue());
+            }
+        }
+        return result;
+    }
+
+    private void validate() {
+        double difference = Math.abs(getDoubleValue() - getValue().doubleValue());
+        if (difference > getError() + Math.ulp(getDoubleValue())) {
+            throw new ObjectiveFunctionException(
+                    "Value " + getDoubleValue() + " is not within " + getError() + " of " + getValue());
+        }
     }
 
     public boolean betterThan(ObjectiveValue other) {
@@ -95,6 +216,21 @@ public class ObjectiveValue implements Comparable<ObjectiveValue> {
         return sb.toString();
     }
 
+    /**
+     * Switches validation mode on or off. In validation mode, every
+     * comparison is also made using BigDecimal values, and an
+     * {@link ObjectiveFunctionException} is thrown if the results differ.
+     *
+     * @param validating Whether to validate comparisons
+     */
+    public static void setValidating(boolean validating) {
+        ObjectiveValue.validating = validating;
+    }
+
+    public static boolean isValidating() {
+        return validating;
+    }
+
     public static ObjectiveValue worstObjectiveValue() {
         return worstObjectiveValue(null);
     }
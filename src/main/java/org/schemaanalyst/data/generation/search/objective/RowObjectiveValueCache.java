@@ -0,0 +1,97 @@
+package org.schemaanalyst.data.generation.search.objective;
+
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.Row;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Caches the objective values an objective function computed for each row of
+ * a candidate solution, along with the cells that each value was computed
+ * from. When the function is told that a cell has changed, through
+ * {@link #cellChanged(Cell)}, only the values that read that cell are
+ * discarded, and the rest can be reused by the next evaluation.
+ * </p>
+ *
+ * <p>
+ * Cached values are only kept for an evaluation if a change was reported
+ * since the previous one. Otherwise, any cell may have changed, and the cache
+ * is cleared by {@link #startEvaluation()}.
+ * </p>
+ */
+public class RowObjectiveValueCache {
+
+    private Map<Row, ObjectiveValue> objVals = new IdentityHashMap<>();
+    private Map<Cell, Set<Row>> dependentRows = new IdentityHashMap<>();
+    private boolean changeReported = false;
+
+    /**
+     * Discards the values computed from a cell.
+     *
+     * @param cell The cell that has changed since the last evaluation
+     */
+    public void cellChanged(Cell cell) {
+        changeReported = true;
+        Set<Row> rows = dependentRows.remove(cell);
+        if (rows != null) {
+            for (Row row : rows) {
+                objVals.remove(row);
+            }
+        }
+    }
+
+    /**
+     * Must be called at the start of every evaluation, clearing the cache
+     * unless a change has been reported since the last one.
+     */
+    public void startEvaluation() {
+        if (!changeReported) {
+            objVals.clear();
+            dependentRows.clear();
+        }
+        changeReported = false;
+    }
+
+    /**
+     * Returns the cached value of a row.
+     *
+     * @param row The row
+     * @return The value, or null if it must be computed
+     */
+    public ObjectiveValue get(Row row) {
+        return objVals.get(row);
+    }
+
+    /**
+     * Caches the value of a row. The cells that it was computed from must be
+     * added with {@link #addDependencies(Row, List)}.
+     *
+     * @param row The row
+     * @param objVal The value computed for the row
+     */
+    public void put(Row row, ObjectiveValue objVal) {
+        objVals.put(row, objVal);
+    }
+
+    /**
+     * Records that the value of a row was computed from some cells.
+     *
+     * @param row The row
+     * @param cells The cells read when computing its value
+     */
+    public void addDependencies(Row row, List<Cell> cells) {
+        for (Cell cell : cells) {
+            Set<Row> rows = dependentRows.get(cell);
+            if (rows == null) {
+                rows = Collections.newSetFromMap(new IdentityHashMap<Row, Boolean>());
+                dependentRows.put(cell, rows);
+            }
+            rows.add(row);
+        }
+    }
+}
@@ -16,20 +16,33 @@ public class SumOfMultiObjectiveValue extends MultiObjectiveValue {
 
     @Override
     protected void computeValue() {
-        sum = BigDecimal.ZERO;
+        double doubleSum = 0, sumError = 0;
         for (ObjectiveValue objVal : objVals) {
-            sum = sum.add(objVal.getValue());
+            doubleSum += objVal.getDoubleValue();
+            sumError += objVal.getError();
+            if (sumError > 0) {
+                // bounds the rounding of the addition
+                sumError += Math.ulp(doubleSum);
+            }
         }
 
-        normalizeAndSetValue(sum);
+        setNormalizedValue(doubleSum, (sumError == 0 && doubleSum == 0) ? 0 : sumError + NORMALIZATION_ERROR);
+        sum = null;
         computeValue = false;
     }
 
     @Override
-    public void appendToStringBuilder(StringBuilder sb, String indent) {
-        if (computeValue) {
-            computeValue();
+    protected BigDecimal computeExactValue() {
+        sum = BigDecimal.ZERO;
+        for (ObjectiveValue objVal : objVals) {
+            sum = sum.add(objVal.getValue());
         }
+        return normalize(sum);
+    }
+
+    @Override
+    public void appendToStringBuilder(StringBuilder sb, String indent) {
+        getValue();
 
         super.appendToStringBuilder(sb, indent);
 
@@ -1,5 +1,6 @@
 package org.schemaanalyst.data.generation.search.objective.predicate;
 
+import org.schemaanalyst.data.Cell;
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.generation.search.objective.MultiObjectiveValue;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
@@ -21,12 +22,12 @@ public abstract class ComposedPredicateObjectiveFunction extends ObjectiveFuncti
     private static final int NULL_PREDICATE_WEIGHT = 5;
     private static final int OR_PREDICATE_WEIGHT = 1;
 
-    private Predicate predicate;
+    private String description;
     private List<ObjectiveFunction<Data>> objectiveFunctions;
     private List<Integer> weights;
 
     public ComposedPredicateObjectiveFunction(ComposedPredicate predicate, final Data state) {
-        this.predicate = predicate;
+        this.description = "Predicate " + predicate;
         objectiveFunctions = new ArrayList<>();
         weights = new ArrayList<>();
 
@@ -73,7 +74,7 @@ public abstract class ComposedPredicateObjectiveFunction extends ObjectiveFuncti
     @Override
     public ObjectiveValue evaluate(Data data) {
 
-        MultiObjectiveValue objVal = createObjectiveValue("Predicate " + predicate);
+        MultiObjectiveValue objVal = createObjectiveValue(description);
 
         Iterator<ObjectiveFunction<Data>> objFunIt = objectiveFunctions.iterator();
         Iterator<Integer> weightsIt = weights.iterator();
@@ -91,4 +92,10 @@ public abstract class ComposedPredicateObjectiveFunction extends ObjectiveFuncti
         return objVal;
     }
 
+    @Override
+    public void cellChanged(Cell cell) {
+        for (ObjectiveFunction<Data> objFun : objectiveFunctions) {
+            objFun.cellChanged(cell);
+        }
+    }
 }
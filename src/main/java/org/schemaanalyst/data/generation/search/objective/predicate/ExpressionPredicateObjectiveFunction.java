@@ -1,11 +1,14 @@
 package org.schemaanalyst.data.generation.search.objective.predicate;
 
+import org.schemaanalyst.data.Cell;
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.Row;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+import org.schemaanalyst.data.generation.search.objective.RowObjectiveValueCache;
 import org.schemaanalyst.data.generation.search.objective.SumOfMultiObjectiveValue;
 import org.schemaanalyst.data.generation.search.objective.row.ExpressionRowObjectiveFunctionFactory;
+import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.ExpressionPredicate;
 
 import java.util.List;
@@ -16,26 +19,38 @@ import java.util.List;
 public class ExpressionPredicateObjectiveFunction extends ObjectiveFunction<Data> {
 
     private ExpressionPredicate expressionPredicate;
+    private ObjectiveFunction<Row> rowObjFun;
+    private List<Column> columns;
+    private String description;
+    private RowObjectiveValueCache cache;
 
     public ExpressionPredicateObjectiveFunction(ExpressionPredicate expressionPredicate) {
         this.expressionPredicate = expressionPredicate;
+        this.rowObjFun = new ExpressionRowObjectiveFunctionFactory(
+                expressionPredicate.getExpression(),
+                expressionPredicate.getTruthValue(),
+                true).create();
+        this.columns = expressionPredicate.getExpression().getColumnsInvolved();
+        this.description = expressionPredicate.toString();
+        this.cache = new RowObjectiveValueCache();
     }
 
     @Override
     public ObjectiveValue evaluate(Data data) {
-        String description = expressionPredicate.toString();
         List<Row> rows = data.getRows(expressionPredicate.getTable());
+        cache.startEvaluation();
 
         if (rows.size() > 0) {
             SumOfMultiObjectiveValue objVal = new SumOfMultiObjectiveValue(description);
 
             for (Row row : rows) {
-                objVal.add(
-                        new ExpressionRowObjectiveFunctionFactory(
-                                expressionPredicate.getExpression(),
-                                expressionPredicate.getTruthValue(),
-                                true).create().evaluate(row)
-                );
+                ObjectiveValue rowObjVal = cache.get(row);
+                if (rowObjVal == null) {
+                    rowObjVal = rowObjFun.evaluate(row);
+                    cache.put(row, rowObjVal);
+                    cache.addDependencies(row, row.getCells(columns));
+                }
+                objVal.add(rowObjVal);
             }
 
             return objVal;
@@ -43,4 +58,9 @@ public class ExpressionPredicateObjectiveFunction extends ObjectiveFunction<Data
 
         return ObjectiveValue.worstObjectiveValue(description);
     }
+
+    @Override
+    public void cellChanged(Cell cell) {
+        cache.cellChanged(cell);
+    }
 }
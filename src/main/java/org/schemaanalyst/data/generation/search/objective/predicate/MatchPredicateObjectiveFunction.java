@@ -1,5 +1,6 @@
 package org.schemaanalyst.data.generation.search.objective.predicate;
 
+import org.schemaanalyst.data.Cell;
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.Row;
 import org.schemaanalyst.data.Value;
@@ -10,6 +11,7 @@ import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.sqlrepresentation.Table;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.MatchPredicate;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -23,6 +25,9 @@ public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data> {
     private Data state;
     private Table table, referenceTable;
     private boolean forAll;
+    private String description;
+    private List<Column> columns, referenceColumns;
+    private RowObjectiveValueCache cache;
 
     public MatchPredicateObjectiveFunction(MatchPredicate matchPredicate, Data state) {
         this.matchPredicate = matchPredicate;
@@ -32,12 +37,19 @@ public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data> {
 
         // matches can hold for one row, non-matches need to hold for all rows
         this.forAll = matchPredicate.getNonMatchingColumns().size() > 0;
+
+        this.description = matchPredicate.toString();
+        this.columns = new ArrayList<>(matchPredicate.getMatchingColumns());
+        this.columns.addAll(matchPredicate.getNonMatchingColumns());
+        this.referenceColumns = new ArrayList<>(matchPredicate.getMatchingReferenceColumns());
+        this.referenceColumns.addAll(matchPredicate.getNonMatchingReferenceColumns());
+        this.cache = new RowObjectiveValueCache();
     }
 
     @Override
     public ObjectiveValue evaluate(Data data) {
-        String description = matchPredicate.toString();
         List<Row> rows = data.getRows(matchPredicate.getTable());
+        cache.startEvaluation();
 
         if (rows.size() > 0) {
             SumOfMultiObjectiveValue objVal = new SumOfMultiObjectiveValue(description);
@@ -46,20 +58,13 @@ public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data> {
             while (rowsIterator.hasNext()) {
                 Row row = rowsIterator.next();
                 int index = rowsIterator.previousIndex();
-                List<Row> compareRows = getCompareRows(data, index);
-
-                if (compareRows.size() > 0) {
-
-                    // if the predicate holds for all rows, we need a SumOf...
-                    // else if it's for one row, we need a BestOf..
-                    MultiObjectiveValue rowObjVal = (forAll)
-                            ? new SumOfMultiObjectiveValue()
-                            : new BestOfMultiObjectiveValue();
 
-                    for (Row compareRow : compareRows) {
-                        rowObjVal.add(compareRows(row, compareRow));
+                if (getNumCompareRows(data, index) > 0) {
+                    ObjectiveValue rowObjVal = cache.get(row);
+                    if (rowObjVal == null) {
+                        rowObjVal = evaluateRow(data, row, index);
+                        cache.put(row, rowObjVal);
                     }
-
                     objVal.add(rowObjVal);
                 }
 
@@ -77,19 +82,66 @@ public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data> {
         return ObjectiveValue.worstObjectiveValue(description);
     }
 
-    private List<Row> getCompareRows(Data data, int index) {
-        List<Row> compareRows = data.getRows(matchPredicate.getReferenceTable());
+    @Override
+    public void cellChanged(Cell cell) {
+        cache.cellChanged(cell);
+    }
+
+    private ObjectiveValue evaluateRow(Data data, Row row, int index) {
+        List<Row> compareRows = getDataCompareRows(data, index);
+
+        // the value for the row is computed from its own cells and the
+        // cells of the rows it is compared to, except those of the state,
+        // which do not change
+        cache.addDependencies(row, getCells(row, columns));
+        for (Row compareRow : compareRows) {
+            cache.addDependencies(row, getCells(compareRow, referenceColumns));
+        }
+        compareRows.addAll(state.getRows(referenceTable));
+
+        // if the predicate holds for all rows, we need a SumOf...
+        // else if it's for one row, we need a BestOf..
+        MultiObjectiveValue rowObjVal = (forAll)
+                ? new SumOfMultiObjectiveValue()
+                : new BestOfMultiObjectiveValue();
+
+        for (Row compareRow : compareRows) {
+            rowObjVal.add(compareRows(row, compareRow));
+        }
+
+        return rowObjVal;
+    }
+
+    private int getNumCompareRows(Data data, int index) {
+        int numCompareRows = data.getNumRows(referenceTable);
+        if (table.equals(referenceTable)) {
+            numCompareRows = matchPredicate.colsAreRefCols() ? index : index + 1;
+        }
+        return numCompareRows + state.getNumRows(referenceTable);
+    }
+
+    private List<Row> getDataCompareRows(Data data, int index) {
+        List<Row> compareRows = data.getRows(referenceTable);
         if (table.equals(referenceTable)) {
             if (!matchPredicate.colsAreRefCols()) {
                 // include the current record  -- this is an FK to the same table
                 index ++;
             }
-            compareRows = compareRows.subList(0, index);
+            compareRows = new ArrayList<>(compareRows.subList(0, index));
         }
-        compareRows.addAll(state.getRows(matchPredicate.getReferenceTable()));
         return compareRows;
     }
 
+    private List<Cell> getCells(Row row, List<Column> columns) {
+        List<Cell> cells = new ArrayList<>();
+        for (Column column : columns) {
+            if (row.hasColumn(column)) {
+                cells.add(row.getCell(column));
+            }
+        }
+        return cells;
+    }
+
     private ObjectiveValue compareRows(Row row, Row compareRow) {
         MultiObjectiveValue objVal =
                 matchPredicate.getMode() == MatchPredicate.Mode.AND
@@ -1,13 +1,16 @@
 package org.schemaanalyst.data.generation.search.objective.predicate;
 
+import org.schemaanalyst.data.Cell;
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.Row;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+import org.schemaanalyst.data.generation.search.objective.RowObjectiveValueCache;
 import org.schemaanalyst.data.generation.search.objective.SumOfMultiObjectiveValue;
 import org.schemaanalyst.data.generation.search.objective.value.NullValueObjectiveFunction;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.NullPredicate;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -16,29 +19,43 @@ import java.util.List;
 public class NullPredicateObjectiveFunction extends ObjectiveFunction<Data> {
 
     private NullPredicate nullPredicate;
+    private String description;
+    private RowObjectiveValueCache cache;
 
     public NullPredicateObjectiveFunction(NullPredicate nullPredicate) {
         this.nullPredicate = nullPredicate;
+        this.description = nullPredicate.toString();
+        this.cache = new RowObjectiveValueCache();
     }
 
     @Override
     public ObjectiveValue evaluate(Data data) {
-        String description = nullPredicate.toString();
         List<Row> rows = data.getRows(nullPredicate.getTable());
+        cache.startEvaluation();
 
         if (rows.size() > 0) {
             SumOfMultiObjectiveValue objVal = new SumOfMultiObjectiveValue(description);
 
             for (Row row : rows) {
-                objVal.add(
-                        NullValueObjectiveFunction.compute(
-                                row.getCell(nullPredicate.getColumn()).getValue(),
-                                nullPredicate.getTruthValue())
-                );
+                ObjectiveValue rowObjVal = cache.get(row);
+                if (rowObjVal == null) {
+                    Cell cell = row.getCell(nullPredicate.getColumn());
+                    rowObjVal = NullValueObjectiveFunction.compute(
+                            cell.getValue(),
+                            nullPredicate.getTruthValue());
+                    cache.put(row, rowObjVal);
+                    cache.addDependencies(row, Collections.singletonList(cell));
+                }
+                objVal.add(rowObjVal);
             }
             return objVal;
         }
 
         return ObjectiveValue.worstObjectiveValue(description);
     }
+
+    @Override
+    public void cellChanged(Cell cell) {
+        cache.cellChanged(cell);
+    }
 }
@@ -41,6 +41,7 @@ public class DBMSFactory {
         choices.add("Postgres");
         choices.add("SQLite");
         choices.add("HyperSQL");
+        choices.add("Derby");
         return choices;
     }
 }
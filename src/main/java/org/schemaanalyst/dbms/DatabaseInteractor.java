@@ -2,11 +2,31 @@ package org.schemaanalyst.dbms;
 
 import org.schemaanalyst.configuration.DatabaseConfiguration;
 import org.schemaanalyst.configuration.LocationsConfiguration;
+import org.schemaanalyst.data.BooleanValue;
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.DateTimeValue;
+import org.schemaanalyst.data.DateValue;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.StringValue;
+import org.schemaanalyst.data.TimeValue;
+import org.schemaanalyst.data.TimestampValue;
+import org.schemaanalyst.data.Value;
+import org.schemaanalyst.data.ValueVisitor;
+import org.schemaanalyst.sqlwriter.DateWriter;
 
+import java.math.BigDecimal;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -72,6 +92,12 @@ public abstract class DatabaseInteractor {
      * Whether the connection has been made yet.
      */
     protected boolean initialized = false;
+    /**
+     * The prepared statements created by {@link #executeInsert(String, Row)},
+     * keyed by their SQL.
+     */
+    protected final Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+    protected Savepoint isolationSavepoint = null;
     protected long totalInteractions = 0;
     protected long createInteractions = 0;
     protected long dropInteractions = 0;
@@ -117,10 +143,12 @@ public abstract class DatabaseInteractor {
                 initializeDatabaseConnection();
             }
             LOGGER.log(Level.FINER, "Executing statement: {0}", command);
-            Statement statement = connection.createStatement();
-            recordInteraction(command);
-            synchronized (this) {
-                returnCount = statement.executeUpdate(command);
+            releasePreparedStatementsOnSchemaChange(command);
+            try (Statement statement = connection.createStatement()) {
+                recordInteraction(command);
+                synchronized (this) {
+                    returnCount = statement.executeUpdate(command);
+                }
             }
             LOGGER.log(Level.FINE, "Statement: {0}\n Result: {1}", new Object[]{command, returnCount});
         } catch (SQLException e) {
@@ -156,18 +184,20 @@ public abstract class DatabaseInteractor {
                 initializeDatabaseConnection();
             }
             LOGGER.log(Level.FINE, "Executing statement: {0}", command);
-            Statement statement = connection.createStatement();
+            releasePreparedStatementsOnSchemaChange(command);
+            try (Statement statement = connection.createStatement()) {
 
-            // run the command and capture the number of modified
-            // values or any other type of status return code
-            recordInteraction(command);
-            synchronized (this) {
+                // run the command and capture the number of modified
+                // values or any other type of status return code
+                recordInteraction(command);
+                synchronized (this) {
 
-                boolean result = statement.execute(command);
+                    boolean result = statement.execute(command);
 
-                // this is a U,I,D that has an update count
-                if (result == UPDATE_COUNT) {
-                    returnCount = statement.getUpdateCount();
+                    // this is a U,I,D that has an update count
+                    if (result == UPDATE_COUNT) {
+                        returnCount = statement.getUpdateCount();
+                    }
                 }
             }
         } catch (SQLException e) {
@@ -247,9 +277,9 @@ public abstract class DatabaseInteractor {
                 connection.setAutoCommit(false);
 
                 for (String command : commands) {
-                    try {
-                        LOGGER.log(Level.FINER, "Executing statement: {0} (in transaction)", command);
-                        Statement statement = connection.createStatement();
+                    LOGGER.log(Level.FINER, "Executing statement: {0} (in transaction)", command);
+                    releasePreparedStatementsOnSchemaChange(command);
+                    try (Statement statement = connection.createStatement()) {
                         recordInteraction(command);
                         returnCount = statement.executeUpdate(command);
                         LOGGER.log(Level.FINE, "Statement: {0}\n Result: {1}", new Object[]{command, returnCount});
@@ -277,6 +307,53 @@ public abstract class DatabaseInteractor {
         return returnCount;
     }
 
+    /**
+     * Starts an isolated unit of work, whose changes are all discarded by
+     * {@link #rollbackIsolation()}. This is a transaction, unless one is
+     * already open, in which case it is a savepoint within it.
+     */
+    public void beginIsolation() {
+        try {
+            if (!initialized) {
+                initializeDatabaseConnection();
+            }
+            LOGGER.log(Level.FINE, "Beginning isolated unit of work");
+            synchronized (this) {
+                if (connection.getAutoCommit()) {
+                    connection.setAutoCommit(false);
+                    isolationSavepoint = null;
+                } else {
+                    isolationSavepoint = connection.setSavepoint();
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Ends the isolated unit of work started by {@link #beginIsolation()},
+     * discarding its changes. This also recovers a transaction that was
+     * aborted by a failed statement, as happens with Postgres.
+     */
+    public void rollbackIsolation() {
+        try {
+            LOGGER.log(Level.FINE, "Rolling back isolated unit of work");
+            synchronized (this) {
+                if (isolationSavepoint == null) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                } else {
+                    connection.rollback(isolationSavepoint);
+                    connection.releaseSavepoint(isolationSavepoint);
+                    isolationSavepoint = null;
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Executes a series of update statements as a JDBC batch statement.
      * 
@@ -290,23 +367,25 @@ public abstract class DatabaseInteractor {
                 initializeDatabaseConnection();
             }
 
-            Statement statement = connection.createStatement();
-            for (String command : commands) {
-                try {
-                    LOGGER.log(Level.FINE, "Executing statement: {0} (in batch)", command);
-                    statement.addBatch(command);
-                } catch (SQLException e) {
-                    LOGGER.log(Level.FINE, "Statement failed: " + command, e);
+            try (Statement statement = connection.createStatement()) {
+                for (String command : commands) {
+                    try {
+                        LOGGER.log(Level.FINE, "Executing statement: {0} (in batch)", command);
+                        releasePreparedStatementsOnSchemaChange(command);
+                        statement.addBatch(command);
+                    } catch (SQLException e) {
+                        LOGGER.log(Level.FINE, "Statement failed: " + command, e);
+                    }
                 }
-            }
-            // Only one "interaction" is made. Classify based on first item
-            recordInteraction(commands.iterator().next());
-            synchronized (this) {
-                int[] batchResults = statement.executeBatch();
-                for (int i : batchResults) {
-                    if (i == 1) {
-                        returnCount = 1;
-                        break;
+                // Only one "interaction" is made. Classify based on first item
+                recordInteraction(commands.iterator().next());
+                synchronized (this) {
+                    int[] batchResults = statement.executeBatch();
+                    for (int i : batchResults) {
+                        if (i == 1) {
+                            returnCount = 1;
+                            break;
+                        }
                     }
                 }
             }
@@ -317,6 +396,294 @@ public abstract class DatabaseInteractor {
         return returnCount;
     }
 
+    /**
+     * Executes a series of single-row INSERT statements as a JDBC batch
+     * statement, recovering the outcome of each statement from the update
+     * counts reported by the driver. Statements after the first failed one
+     * may or may not have been executed, and so have no outcome.
+     *
+     * @param commands The INSERT statements to execute
+     * @return The number of rows inserted by each statement, in order, up to
+     * and including the first that failed (for which 0 is given), or null if
+     * the driver did not report enough to tell which statement failed
+     */
+    public int[] executeInsertsAsBatch(List<String> commands) {
+        if (commands.isEmpty()) {
+            return new int[0];
+        }
+        int[] updateCounts;
+        try {
+            if (!initialized) {
+                initializeDatabaseConnection();
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (String command : commands) {
+                    LOGGER.log(Level.FINER, "Executing statement: {0} (in batch)", command);
+                    statement.addBatch(command);
+                }
+                // Only one "interaction" is made. Classify based on first item
+                recordInteraction(commands.get(0));
+                synchronized (this) {
+                    try {
+                        updateCounts = statement.executeBatch();
+                    } catch (BatchUpdateException e) {
+                        LOGGER.log(Level.FINE, "Batch failed: {0}", e.getMessage());
+                        updateCounts = e.getUpdateCounts();
+                        if (updateCounts == null) {
+                            return null;
+                        }
+                        if (updateCounts.length < commands.size()) {
+                            // the driver stopped at the failed statement
+                            updateCounts = Arrays.copyOf(updateCounts, updateCounts.length + 1);
+                            updateCounts[updateCounts.length - 1] = Statement.EXECUTE_FAILED;
+                        } else if (findFailedInsert(updateCounts) == updateCounts.length) {
+                            return null;
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.INFO, "Batch failed: {0}", e.getMessage());
+            return null;
+        }
+        int failed = findFailedInsert(updateCounts);
+        int[] results = new int[Math.min(failed + 1, updateCounts.length)];
+        for (int i = 0; i < results.length; i++) {
+            if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                results[i] = 1;
+            } else if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                results[i] = START;
+            } else {
+                results[i] = updateCounts[i];
+            }
+        }
+        LOGGER.log(Level.FINE, "Batch results: {0}", Arrays.toString(results));
+        return results;
+    }
+
+    /**
+     * Finds the first update count of a batch of single-row INSERT statements
+     * that does not indicate success.
+     *
+     * @param updateCounts The update counts
+     * @return The index of the first failed statement, or the length of the
+     * array if none failed
+     */
+    private int findFailedInsert(int[] updateCounts) {
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] != 1 && updateCounts[i] != Statement.SUCCESS_NO_INFO) {
+                return i;
+            }
+        }
+        return updateCounts.length;
+    }
+
+    /**
+     * Executes a parameterised INSERT statement, binding the values of the
+     * cells of a row to its parameters in order. A {@link PreparedStatement}
+     * is kept for each distinct statement, so inserts into the same table are
+     * only parsed once by the DBMS.
+     *
+     * @param command The INSERT statement, with a parameter for each cell
+     * @param row The row whose values are inserted
+     * @return The number of rows inserted, or 0 if the statement failed
+     */
+    public Integer executeInsert(String command, Row row) {
+        Integer returnCount = START;
+        try {
+            if (!initialized) {
+                initializeDatabaseConnection();
+            }
+            LOGGER.log(Level.FINER, "Executing prepared statement: {0}", command);
+            recordInteraction(command);
+            synchronized (this) {
+                PreparedStatement statement = getPreparedStatement(command);
+                List<Cell> cells = row.getCells();
+                for (int i = 0; i < cells.size(); i++) {
+                    bindValue(statement, i + 1, cells.get(i).getValue());
+                }
+                returnCount = statement.executeUpdate();
+            }
+            LOGGER.log(Level.FINE, "Prepared statement: {0}\n Result: {1}", new Object[]{command, returnCount});
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Prepared statement failed: " + command, e);
+            // some drivers (e.g., SQLite's) cannot reuse a statement that failed
+            releasePreparedStatement(command);
+        }
+        return returnCount;
+    }
+
+    /**
+     * Gets the cached {@link PreparedStatement} for some SQL, preparing it if
+     * it is not yet cached.
+     *
+     * @param command The SQL
+     * @return The prepared statement
+     * @throws SQLException If the statement could not be prepared
+     */
+    protected synchronized PreparedStatement getPreparedStatement(String command) throws SQLException {
+        PreparedStatement statement = preparedStatements.get(command);
+        if (statement == null) {
+            statement = connection.prepareStatement(command);
+            preparedStatements.put(command, statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Closes and forgets the cached prepared statement for some SQL, if any.
+     *
+     * @param command The SQL
+     */
+    protected synchronized void releasePreparedStatement(String command) {
+        PreparedStatement statement = preparedStatements.remove(command);
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Closing prepared statement failed", e);
+            }
+        }
+    }
+
+    /**
+     * Closes and forgets all cached prepared statements. This should be called
+     * before the tables they refer to are altered or dropped, and once this
+     * interactor is no longer needed.
+     */
+    public synchronized void releasePreparedStatements() {
+        for (PreparedStatement statement : preparedStatements.values()) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Closing prepared statement failed", e);
+            }
+        }
+        preparedStatements.clear();
+    }
+
+    /**
+     * Closes the connection to the DBMS, along with any cached prepared
+     * statements. A new connection is made if this interactor is used again.
+     */
+    public synchronized void close() {
+        releasePreparedStatements();
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Closing connection failed", e);
+            }
+            connection = null;
+        }
+        initialized = false;
+    }
+
+    /**
+     * Releases the cached prepared statements if a command changes the schema
+     * of the database (i.e., is a CREATE, ALTER or DROP statement).
+     *
+     * @param command The command about to be executed
+     */
+    protected void releasePreparedStatementsOnSchemaChange(String command) {
+        String statement = command.trim().toUpperCase();
+        if (statement.startsWith("CREATE") || statement.startsWith("ALTER") || statement.startsWith("DROP")) {
+            releasePreparedStatements();
+        }
+    }
+
+    /**
+     * Binds a value to a parameter of a prepared statement. Numeric and
+     * boolean values are bound with their own types, while strings and
+     * date/time values are bound as the text of the SQL literal that
+     * {@link org.schemaanalyst.sqlwriter.ValueSQLWriter} would write for them.
+     *
+     * @param statement The prepared statement
+     * @param index The index of the parameter (starting from 1)
+     * @param value The value, or null for an SQL NULL
+     * @throws SQLException If the value could not be bound
+     */
+    protected void bindValue(PreparedStatement statement, int index, Value value) throws SQLException {
+        if (value == null) {
+            bindNull(statement, index);
+            return;
+        }
+
+        class ParameterVisitor implements ValueVisitor {
+
+            Object parameter;
+
+            Object getParameter(Value value) {
+                value.accept(this);
+                return parameter;
+            }
+
+            @Override
+            public void visit(BooleanValue value) {
+                parameter = value.get();
+            }
+
+            @Override
+            public void visit(DateValue value) {
+                parameter = unquote(new DateWriter().writeDate(value));
+            }
+
+            @Override
+            public void visit(DateTimeValue value) {
+                parameter = unquote(value.toString());
+            }
+
+            @Override
+            public void visit(NumericValue value) {
+                parameter = value.get();
+            }
+
+            @Override
+            public void visit(StringValue value) {
+                parameter = value.get();
+            }
+
+            @Override
+            public void visit(TimeValue value) {
+                parameter = unquote(value.toString());
+            }
+
+            @Override
+            public void visit(TimestampValue value) {
+                parameter = unquote(value.toString());
+            }
+
+            String unquote(String literal) {
+                return literal.substring(1, literal.length() - 1);
+            }
+        }
+
+        Object parameter = new ParameterVisitor().getParameter(value);
+        if (parameter instanceof Boolean) {
+            bindBoolean(statement, index, (Boolean) parameter);
+        } else if (parameter instanceof BigDecimal) {
+            bindNumeric(statement, index, (BigDecimal) parameter);
+        } else {
+            bindString(statement, index, (String) parameter);
+        }
+    }
+
+    protected void bindNull(PreparedStatement statement, int index) throws SQLException {
+        statement.setNull(index, Types.NULL);
+    }
+
+    protected void bindBoolean(PreparedStatement statement, int index, boolean value) throws SQLException {
+        statement.setBoolean(index, value);
+    }
+
+    protected void bindNumeric(PreparedStatement statement, int index, BigDecimal value) throws SQLException {
+        statement.setBigDecimal(index, value);
+    }
+
+    protected void bindString(PreparedStatement statement, int index, String value) throws SQLException {
+        statement.setString(index, value);
+    }
+
     /**
      * @TODO This method should be removed and is for debugging only.
      * @return The number of tables in a database
@@ -0,0 +1,203 @@
+package org.schemaanalyst.dbms;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * A bounded pool of {@link DatabaseInteractor}s, each with its own connection,
+ * to be shared by parallel workers. An interactor is held by one worker at a
+ * time, from {@link #acquire()} until {@link #release(DatabaseInteractor)}, so
+ * workers never wait for each other's statements to finish.
+ * </p>
+ *
+ * <p>
+ * Interactors are created when needed, up to the size of the pool, by
+ * duplicating a prototype. A thread is given back the interactor it last used
+ * whenever that interactor is free, so that the state of a connection (e.g.,
+ * an in-memory database, or cached prepared statements) tends to stay with
+ * the same worker.
+ * </p>
+ */
+public class DatabaseInteractorPool {
+
+    private static final Logger LOGGER = Logger.getLogger(DatabaseInteractorPool.class.getName());
+
+    private final DatabaseInteractor prototype;
+    private final int size;
+    private final List<DatabaseInteractor> interactors = new ArrayList<>();
+    private final LinkedList<DatabaseInteractor> idle = new LinkedList<>();
+    private final Map<DatabaseInteractor, Long> acquiredAt = new IdentityHashMap<>();
+    private final ThreadLocal<DatabaseInteractor> lastUsed = new ThreadLocal<>();
+    private final long createdAt = System.nanoTime();
+    private long acquisitions = 0;
+    private long waitTime = 0;
+    private long busyTime = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param prototype The interactor duplicated to create pooled interactors,
+     * which also receives their interaction counts when the pool is closed
+     * @param size The maximum number of interactors
+     */
+    public DatabaseInteractorPool(DatabaseInteractor prototype, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1, but was " + size);
+        }
+        this.prototype = prototype;
+        this.size = size;
+    }
+
+    /**
+     * Prepares a newly created interactor before it is first handed out, for
+     * instance by creating tables in its database. Does nothing by default.
+     *
+     * @param interactor The new interactor
+     */
+    protected void initialise(DatabaseInteractor interactor) {
+    }
+
+    /**
+     * Takes an interactor from the pool, waiting until one is free if all of
+     * them are in use. It must be given back with
+     * {@link #release(DatabaseInteractor)}. If a new interactor cannot be
+     * initialised, it is closed and not counted against the size of the pool.
+     *
+     * @return The interactor
+     */
+    public DatabaseInteractor acquire() {
+        long start = System.nanoTime();
+        DatabaseInteractor interactor;
+        boolean created = false;
+        synchronized (this) {
+            while (idle.isEmpty() && interactors.size() >= size) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            DatabaseInteractor last = lastUsed.get();
+            if (last != null && idle.remove(last)) {
+                interactor = last;
+            } else if (interactors.size() < size) {
+                interactor = prototype.duplicate();
+                interactors.add(interactor);
+                created = true;
+            } else {
+                interactor = idle.removeFirst();
+            }
+            acquisitions++;
+            waitTime += System.nanoTime() - start;
+        }
+        if (created) {
+            try {
+                initialise(interactor);
+            } catch (RuntimeException | Error ex) {
+                // give up the slot, so that waiting threads may create another
+                synchronized (this) {
+                    interactors.remove(interactor);
+                    notifyAll();
+                }
+                interactor.close();
+                throw ex;
+            }
+        }
+        synchronized (this) {
+            acquiredAt.put(interactor, System.nanoTime());
+        }
+        lastUsed.set(interactor);
+        return interactor;
+    }
+
+    /**
+     * Gives back an interactor taken with {@link #acquire()}.
+     *
+     * @param interactor The interactor
+     */
+    public synchronized void release(DatabaseInteractor interactor) {
+        Long start = acquiredAt.remove(interactor);
+        if (start == null) {
+            throw new IllegalArgumentException("Interactor was not acquired from this pool");
+        }
+        busyTime += System.nanoTime() - start;
+        idle.addFirst(interactor);
+        notifyAll();
+    }
+
+    /**
+     * Closes the connections of all pooled interactors, adding their
+     * interaction counts to those of the prototype. All interactors should
+     * have been released first.
+     */
+    public synchronized void close() {
+        LOGGER.log(Level.FINE, "Closing pool: {0} interactors, {1} acquisitions, {2}ms waiting, {3} utilisation",
+                new Object[]{interactors.size(), acquisitions, getWaitTime(), getUtilisation()});
+        for (DatabaseInteractor interactor : interactors) {
+            prototype.addInteractions(interactor);
+            interactor.close();
+        }
+        interactors.clear();
+        idle.clear();
+        acquiredAt.clear();
+    }
+
+    /**
+     * Get the maximum number of interactors in this pool.
+     *
+     * @return The size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the number of interactors created so far.
+     *
+     * @return The number of interactors
+     */
+    public synchronized int getCreatedCount() {
+        return interactors.size();
+    }
+
+    /**
+     * Get the number of times an interactor has been acquired.
+     *
+     * @return The number of acquisitions
+     */
+    public synchronized long getAcquisitions() {
+        return acquisitions;
+    }
+
+    /**
+     * Get the total time spent waiting for an interactor to be free.
+     *
+     * @return The wait time, in milliseconds
+     */
+    public synchronized long getWaitTime() {
+        return waitTime / 1000000;
+    }
+
+    /**
+     * Get the proportion of the capacity of the pool (its size multiplied by
+     * the time since it was created) during which interactors were held.
+     *
+     * @return The utilisation, between 0 and 1
+     */
+    public synchronized double getUtilisation() {
+        long now = System.nanoTime();
+        long busy = busyTime;
+        for (Long start : acquiredAt.values()) {
+            busy += now - start;
+        }
+        long capacity = (now - createdAt) * size;
+        return capacity == 0 ? 0 : (double) busy / capacity;
+    }
+}
@@ -39,7 +39,7 @@ public class DerbyDBMS extends DBMS {
     @Override
     public DatabaseInteractor getDatabaseInteractor(String databaseName, DatabaseConfiguration databaseConfiguration, LocationsConfiguration locationConfiguration) {
         if (databaseInteractor == null) {
-        	return useLocalFile 
+        	return useLocalFile || databaseConfiguration.getDerbyInMemory()
         			? new DerbyDatabaseInteractor(databaseName, databaseConfiguration, locationConfiguration)
         			: new DerbyNetworkDatabaseInteractor(databaseName, databaseConfiguration, locationConfiguration);
         }
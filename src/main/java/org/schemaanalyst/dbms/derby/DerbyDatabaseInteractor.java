@@ -8,8 +8,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -30,6 +32,10 @@ public class DerbyDatabaseInteractor extends DatabaseInteractor {
      * The name for the database.
      */
     protected String databaseName;
+    /**
+     * The URL of the in-memory database, if one was created.
+     */
+    private String memoryDatabaseUrl;
 
     DerbyDatabaseInteractor(String databaseName, DatabaseConfiguration databaseConfiguration, LocationsConfiguration locationConfiguration) {
         super(databaseConfiguration, locationConfiguration);
@@ -45,6 +51,15 @@ public class DerbyDatabaseInteractor extends DatabaseInteractor {
             Class.forName(databaseConfiguration.getDerbyDriver());
             LOGGER.log(Level.INFO, "Loading Derby driver: {0}", databaseConfiguration.getDerbyDriver());
 
+            if (databaseConfiguration.getDerbyInMemory()) {
+                // a database of its own, so that duplicates do not share it
+                memoryDatabaseUrl = "jdbc:derby:memory:" + databaseName + UUID.randomUUID();
+                connection = DriverManager.getConnection(memoryDatabaseUrl + ";create=true");
+                connection.setAutoCommit(true);
+                initialized = true;
+                return;
+            }
+
             File derbyDirectory = new File(locationConfiguration.getDatabaseDir()
                     + File.separator + databaseConfiguration.getDerbyPath()
                     + File.separator + databaseName);
@@ -88,8 +103,10 @@ public class DerbyDatabaseInteractor extends DatabaseInteractor {
                 initializeDatabaseConnection();
             }
             LOGGER.log(Level.FINE, "Executing statement: {0}", command);
-            Statement statement = connection.createStatement();
-            returnCount = statement.executeUpdate(command);
+            releasePreparedStatementsOnSchemaChange(command);
+            try (Statement statement = connection.createStatement()) {
+                returnCount = statement.executeUpdate(command);
+            }
             LOGGER.log(Level.FINE, "Statement: {0}\n Result: {1}", new Object[]{command, returnCount});
         } catch (SQLException e) {
             // if this command is a create table statement and it through 
@@ -124,15 +141,17 @@ public class DerbyDatabaseInteractor extends DatabaseInteractor {
                 initializeDatabaseConnection();
             }
             LOGGER.log(Level.FINE, "Executing statement: {0}", command);
-            Statement statement = connection.createStatement();
+            releasePreparedStatementsOnSchemaChange(command);
+            try (Statement statement = connection.createStatement()) {
 
-            // run the command and capture the number of modified
-            // values or any other type of status return code
-            boolean result = statement.execute(command);
+                // run the command and capture the number of modified
+                // values or any other type of status return code
+                boolean result = statement.execute(command);
 
-            // this is a U,I,D that has an update count
-            if (result == UPDATE_COUNT) {
-                returnCount = statement.getUpdateCount();
+                // this is a U,I,D that has an update count
+                if (result == UPDATE_COUNT) {
+                    returnCount = statement.getUpdateCount();
+                }
             }
         } catch (SQLException e) {
             // if this command is a create table statement and it through 
@@ -150,6 +169,33 @@ public class DerbyDatabaseInteractor extends DatabaseInteractor {
         return returnCount;
     }
 
+    /**
+     * Derby does not accept an untyped NULL, so the type of the parameter is
+     * taken from the statement.
+     */
+    @Override
+    protected void bindNull(PreparedStatement statement, int index) throws SQLException {
+        statement.setNull(index, statement.getParameterMetaData().getParameterType(index));
+    }
+
+    /**
+     * {@inheritDoc} An in-memory database is also dropped, as Derby keeps it
+     * until the JVM exits otherwise.
+     */
+    @Override
+    public synchronized void close() {
+        super.close();
+        if (memoryDatabaseUrl != null) {
+            try {
+                DriverManager.getConnection(memoryDatabaseUrl + ";drop=true").close();
+            } catch (SQLException e) {
+                // Derby reports a successful drop as an exception
+                LOGGER.log(Level.FINE, "Dropped in-memory database: {0}", e.getMessage());
+            }
+            memoryDatabaseUrl = null;
+        }
+    }
+
     @Override
     public DatabaseInteractor duplicate() {
         return new DerbyDatabaseInteractor(databaseName, databaseConfiguration, locationConfiguration);
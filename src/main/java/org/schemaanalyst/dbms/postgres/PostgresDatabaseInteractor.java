@@ -5,9 +5,11 @@ import org.schemaanalyst.configuration.LocationsConfiguration;
 import org.schemaanalyst.dbms.DatabaseInteractor;
 
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -80,6 +82,15 @@ public class PostgresDatabaseInteractor extends DatabaseInteractor {
         }
     }
 
+    /**
+     * Binds strings with an unspecified type, so that Postgres infers the type
+     * from the column as it would for a string literal (e.g., for dates).
+     */
+    @Override
+    protected void bindString(PreparedStatement statement, int index, String value) throws SQLException {
+        statement.setObject(index, value, Types.OTHER);
+    }
+
     @Override
     public DatabaseInteractor duplicate() {
         return new PostgresDatabaseInteractor(databaseConfiguration, locationConfiguration);
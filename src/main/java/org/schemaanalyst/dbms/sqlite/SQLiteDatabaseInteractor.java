@@ -7,8 +7,10 @@ import org.sqlite.SQLiteConfig;
 
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -93,6 +95,19 @@ public class SQLiteDatabaseInteractor extends DatabaseInteractor {
         }
     }
 
+    /**
+     * Binds integral values as integers and others as reals, matching the
+     * storage classes SQLite gives to numeric literals.
+     */
+    @Override
+    protected void bindNumeric(PreparedStatement statement, int index, BigDecimal value) throws SQLException {
+        if (value.scale() <= 0 && value.toBigInteger().bitLength() < Long.SIZE) {
+            statement.setLong(index, value.longValue());
+        } else {
+            statement.setDouble(index, value.doubleValue());
+        }
+    }
+
     @Override
     public DatabaseInteractor duplicate() {
         return new SQLiteDatabaseInteractor(databaseName, databaseConfiguration, locationConfiguration);
@@ -2,6 +2,7 @@ package org.schemaanalyst.mutation.analysis.executor;
 
 import org.apache.commons.lang3.time.StopWatch;
 import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.configuration.ExperimentConfiguration;
 import org.schemaanalyst.configuration.LocationsConfiguration;
 import org.schemaanalyst.data.generation.DataGenerator;
 import org.schemaanalyst.data.generation.DataGeneratorFactory;
@@ -10,6 +11,9 @@ import org.schemaanalyst.dbms.DBMSFactory;
 import org.schemaanalyst.dbms.DatabaseInteractor;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
+import org.schemaanalyst.mutation.analysis.executor.technique.CachingTechnique;
+import org.schemaanalyst.mutation.analysis.executor.technique.MutantResultCache;
+import org.schemaanalyst.mutation.analysis.executor.technique.SequentialSampler;
 import org.schemaanalyst.mutation.analysis.executor.technique.Technique;
 import org.schemaanalyst.mutation.analysis.executor.technique.TechniqueFactory;
 import org.schemaanalyst.mutation.analysis.executor.testcase.DeletingTestCaseExecutor;
@@ -23,6 +27,8 @@ import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlwriter.SQLWriter;
 import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteReader;
+import org.schemaanalyst.testgeneration.TestSuiteCache;
 import org.schemaanalyst.testgeneration.TestSuiteGenerationReport;
 import org.schemaanalyst.testgeneration.TestSuiteGenerator;
 import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
@@ -34,9 +40,7 @@ import org.schemaanalyst.util.runner.RequiredParameters;
 import org.schemaanalyst.util.runner.Runner;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Paths;
 import java.util.*;
@@ -116,6 +120,43 @@ public class MutationAnalysis extends Runner {
      */
     @Parameter("Whether to use transactions with this technique (if possible).")
     protected boolean useTransactions = false;
+    /**
+     * Whether to execute every test case against each mutant.
+     */
+    @Parameter("Whether to execute every test case against each mutant.")
+    protected boolean fullResults = false;
+    /**
+     * Whether to insert the rows of each test case in a single JDBC batch.
+     */
+    @Parameter("Whether to insert the rows of each test case in a single JDBC"
+            + " batch (if transactions are not used).")
+    protected boolean batchInserts = false;
+    /**
+     * Whether to isolate test cases by rolling back, rather than deleting.
+     */
+    @Parameter("Whether to isolate each test case by rolling back a transaction,"
+            + " rather than deleting the contents of every table before and"
+            + " after it (if transactions are not used).")
+    protected boolean rollbackIsolation = false;
+    /**
+     * The number of worker threads used by parallel techniques.
+     */
+    @Parameter("The number of worker threads used by parallel techniques"
+            + " (defaults to the value in experiment.properties).")
+    protected int threads = 4;
+    /**
+     * The maximum number of tasks queued for the worker threads.
+     */
+    @Parameter("The maximum number of tasks queued for the worker threads, or 0"
+            + " for no limit (defaults to the value in experiment.properties).")
+    protected int queueSize = 0;
+    /**
+     * The number of threads used to generate the test suite.
+     */
+    @Parameter("The number of threads used to generate the test suite, each"
+            + " test requirement having a data generator seeded of its own, or 0"
+            + " to generate it with a single data generator, as before.")
+    protected int generationThreads = 0;
     /**
      * The location of the input test suite to load, which will be used instead
      * of generating a new test suite.
@@ -123,6 +164,65 @@ public class MutationAnalysis extends Runner {
     @Parameter("The location of the input test suite to load, which will be used"
             + " instead of generating a new test suite.")
     protected String inputTestSuite = null;
+    /**
+     * Whether to reuse test suites cached by earlier runs.
+     */
+    @Parameter("Whether to reuse the test suite generated by an earlier run with"
+            + " the same schema, DBMS, criterion, data generator and random seed,"
+            + " storing it in the test suite cache if there is none.")
+    protected boolean useTestSuiteCache = false;
+    /**
+     * Whether to analyse the mutants as they are produced.
+     */
+    @Parameter("Whether to analyse each mutant as soon as it has been produced,"
+            + " removing mutants incrementally, rather than once all of the"
+            + " mutants have been produced (techniques that need all of the"
+            + " mutants at once still wait for them).")
+    protected boolean incrementalMutation = false;
+    /**
+     * The number of threads used to produce and remove mutants.
+     */
+    @Parameter("The number of threads used to apply the mutation operators and"
+            + " the removers that decide on each mutant independently, or 1 to"
+            + " apply them serially (mutants are produced serially when"
+            + " analysed incrementally).")
+    protected int pipelineThreads = 1;
+    /**
+     * The margin to which to estimate the mutation score by sampling.
+     */
+    @Parameter("The half-width of the confidence interval around the mutation"
+            + " score at which to stop analysing a growing random sample of the"
+            + " mutants (e.g., 0.02 for a score to within 2%), or 0 to analyse"
+            + " every mutant. The score numerator and denominator are then those"
+            + " of the sample.")
+    protected double samplingMargin = 0;
+    /**
+     * The confidence level of the interval used when sampling.
+     */
+    @Parameter("The confidence level of the interval around the mutation score"
+            + " when sampling.")
+    protected double samplingConfidence = 0.95;
+    /**
+     * Whether to sample the mutants of each operator in proportion.
+     */
+    @Parameter("Whether to sample the mutants of each operator in proportion to"
+            + " their number, estimating the score from the score of each"
+            + " operator, when sampling.")
+    protected boolean samplingStratified = false;
+    /**
+     * The number of mutants analysed between estimates when sampling.
+     */
+    @Parameter("The number of mutants to analyse between estimates of the"
+            + " mutation score when sampling.")
+    protected int samplingBatchSize = 50;
+    /**
+     * Whether to reuse the results of mutants analysed by earlier runs.
+     */
+    @Parameter("Whether to reuse whether each mutant was killed in an earlier"
+            + " run with the same schema, test suite, DBMS and technique,"
+            + " storing the results of the mutants analysed in the mutant"
+            + " result cache.")
+    protected boolean useMutantResultCache = false;
     /**
      * The instantiated schema.
      */
@@ -140,9 +240,17 @@ public class MutationAnalysis extends Runner {
      */
     protected DatabaseInteractor databaseInteractor;
     /**
-     * The report produced when generating the test suite.
+     * The coverage of the generated test suite.
+     */
+    private double generationCoverage;
+    /**
+     * The data evaluations used to generate the test suite.
+     */
+    private int generationEvaluations;
+    /**
+     * The test suite cache, if one was used.
      */
-    private TestSuiteGenerationReport generationReport;
+    private TestSuiteCache testSuiteCache;
 
     private static final Logger LOGGER = Logger.getLogger(MutationAnalysis.class.getName());
 
@@ -166,12 +274,18 @@ public class MutationAnalysis extends Runner {
                 return instantiateTestSuite();
             }
         }, testGenerationTime);
-        final List<Mutant<Schema>> mutants = Timing.timedTask(new Callable<List<Mutant<Schema>>>() {
-            @Override
-            public List<Mutant<Schema>> call() throws Exception {
-                return generateMutants();
-            }
-        }, mutantGenerationTime);
+        final MutationPipeline<Schema> pipeline = instantiatePipeline();
+        final List<Mutant<Schema>> mutants;
+        if (incrementalMutation) {
+            mutants = new ArrayList<>();
+        } else {
+            mutants = Timing.timedTask(new Callable<List<Mutant<Schema>>>() {
+                @Override
+                public List<Mutant<Schema>> call() throws Exception {
+                    return pipeline.mutate();
+                }
+            }, mutantGenerationTime);
+        }
         final TestSuiteResult originalResults = Timing.timedTask(new Callable<TestSuiteResult>() {
             @Override
             public TestSuiteResult call() throws Exception {
@@ -179,10 +293,20 @@ public class MutationAnalysis extends Runner {
             }
         }, originalResultsTime);
 
-        final Technique mutTechnique = instantiateTechnique(schema, mutants, suite, dbms, databaseInteractor);
+        final SequentialSampler sampler = new SequentialSampler(samplingMargin, samplingConfidence, samplingStratified, samplingBatchSize, new Random(randomseed));
+        final MutantResultCache resultCache = useMutantResultCache ? instantiateMutantResultCache(suite) : null;
+        final Technique mutTechnique = useMutantResultCache
+                ? new CachingTechnique(instantiateTechnique(schema, mutants, suite, dbms, databaseInteractor), resultCache)
+                : instantiateTechnique(schema, mutants, suite, dbms, databaseInteractor);
         AnalysisResult analysisResult = Timing.timedTask(new Callable<AnalysisResult>() {
             @Override
             public AnalysisResult call() throws Exception {
+                if (incrementalMutation) {
+                    return mutTechnique.analyse(originalResults, pipeline.mutateIncrementally());
+                }
+                if (samplingMargin > 0) {
+                    return sampler.analyse(mutTechnique, originalResults, mutants);
+                }
                 return mutTechnique.analyse(originalResults);
             }
         }, mutationAnalysisTime);
@@ -190,6 +314,12 @@ public class MutationAnalysis extends Runner {
         // Stop timing
         totalTime.stop();
 
+        if (samplingMargin > 0) {
+            LOGGER.log(Level.INFO, "Estimated mutation score {0} +/- {1} from {2} of {3} mutants",
+                    new Object[]{sampler.getScore(), sampler.getHalfWidth(),
+                        analysisResult.getKilled().size() + analysisResult.getLive().size(), mutants.size()});
+        }
+
         // Write results
         CSVResult result = new CSVResult();
         result.addValue("dbms", databaseConfiguration.getDbms());
@@ -198,24 +328,74 @@ public class MutationAnalysis extends Runner {
         result.addValue("datagenerator", inputTestSuite == null ? dataGenerator : "NA");
         result.addValue("randomseed", randomseed);
         result.addValue("testsuitefile", inputTestSuite == null ? "NA" : Paths.get(inputTestSuite).getFileName());
-        result.addValue("coverage", inputTestSuite == null ? generationReport.coverage() : "NA");
+        result.addValue("coverage", inputTestSuite == null ? generationCoverage : "NA");
         //TODO: Include the coverage according to the comparison coverage criterion
-        result.addValue("evaluations", inputTestSuite == null ? generationReport.getNumDataEvaluations(false) : "NA");
+        result.addValue("evaluations", inputTestSuite == null ? generationEvaluations : "NA");
         result.addValue("tests", suite.getTestCases().size());
         //TODO: Include the number of insert statements
         result.addValue("mutationpipeline", mutationPipeline.replaceAll(",", "|"));
         result.addValue("scorenumerator", analysisResult.getKilled().size());
-        result.addValue("scoredenominator", mutants.size());
+        result.addValue("scoredenominator", incrementalMutation || samplingMargin > 0
+                ? analysisResult.getKilled().size() + analysisResult.getLive().size()
+                : mutants.size());
         result.addValue("technique", technique);
         result.addValue("transactions", useTransactions);
         result.addValue("testgenerationtime", testGenerationTime.getTime());
-        result.addValue("mutantgenerationtime", mutantGenerationTime.getTime());
+        result.addValue("mutantgenerationtime", incrementalMutation ? getGenerationTime(pipeline) : mutantGenerationTime.getTime());
         result.addValue("originalresultstime", originalResultsTime.getTime());
         result.addValue("mutationanalysistime", mutationAnalysisTime.getTime());
         result.addValue("timetaken", totalTime.getTime());
 
         new CSVFileWriter(locationsConfiguration.getResultsDir() + File.separator + "newmutationanalysis.dat").write(result);
 
+        // Written separately, so the columns of existing results files are unchanged
+        if (useMutantResultCache) {
+            CSVResult cacheResult = new CSVResult();
+            cacheResult.addValue("dbms", databaseConfiguration.getDbms());
+            cacheResult.addValue("casestudy", casestudy);
+            cacheResult.addValue("criterion", inputTestSuite == null ? criterion : "NA");
+            cacheResult.addValue("datagenerator", inputTestSuite == null ? dataGenerator : "NA");
+            cacheResult.addValue("randomseed", randomseed);
+            cacheResult.addValue("testsuitefile", inputTestSuite == null ? "NA" : Paths.get(inputTestSuite).getFileName());
+            cacheResult.addValue("technique", technique);
+            cacheResult.addValue("transactions", useTransactions);
+            cacheResult.addValue("hits", resultCache.getHits());
+            cacheResult.addValue("misses", resultCache.getMisses());
+            cacheResult.addValue("evictions", resultCache.getEvictions());
+            new CSVFileWriter(locationsConfiguration.getResultsDir() + File.separator + "mutantresultcache.dat").write(cacheResult);
+        }
+        if (testSuiteCache != null) {
+            CSVResult cacheResult = new CSVResult();
+            cacheResult.addValue("dbms", databaseConfiguration.getDbms());
+            cacheResult.addValue("casestudy", casestudy);
+            cacheResult.addValue("criterion", criterion);
+            cacheResult.addValue("datagenerator", dataGenerator);
+            cacheResult.addValue("randomseed", randomseed);
+            cacheResult.addValue("hits", testSuiteCache.getHits());
+            cacheResult.addValue("misses", testSuiteCache.getMisses());
+            cacheResult.addValue("evictions", testSuiteCache.getEvictions());
+            new CSVFileWriter(locationsConfiguration.getResultsDir() + File.separator + "testsuitecache.dat").write(cacheResult);
+        }
+        if (samplingMargin > 0) {
+            CSVResult samplingResult = new CSVResult();
+            samplingResult.addValue("dbms", databaseConfiguration.getDbms());
+            samplingResult.addValue("casestudy", casestudy);
+            samplingResult.addValue("criterion", inputTestSuite == null ? criterion : "NA");
+            samplingResult.addValue("datagenerator", inputTestSuite == null ? dataGenerator : "NA");
+            samplingResult.addValue("randomseed", randomseed);
+            samplingResult.addValue("testsuitefile", inputTestSuite == null ? "NA" : Paths.get(inputTestSuite).getFileName());
+            samplingResult.addValue("mutationpipeline", mutationPipeline.replaceAll(",", "|"));
+            samplingResult.addValue("technique", technique);
+            samplingResult.addValue("stratified", samplingStratified);
+            samplingResult.addValue("confidence", samplingConfidence);
+            samplingResult.addValue("margin", samplingMargin);
+            samplingResult.addValue("sampled", analysisResult.getKilled().size() + analysisResult.getLive().size());
+            samplingResult.addValue("mutants", mutants.size());
+            samplingResult.addValue("estimatedscore", sampler.getScore());
+            samplingResult.addValue("halfwidth", sampler.getHalfWidth());
+            new CSVFileWriter(locationsConfiguration.getResultsDir() + File.separator + "mutationsampling.dat").write(samplingResult);
+        }
+
         if (printLive) {
             for (Mutant<Schema> mutant : analysisResult.getLive()) {
                 System.out.println("Alive: " + mutant.getSimpleDescription() + " (" + mutant.getDescription() + ")");
@@ -253,7 +433,30 @@ public class MutationAnalysis extends Runner {
     }
 
     private Technique instantiateTechnique(Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor) {
-        return TechniqueFactory.instantiate(technique, schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
+        Technique mutTechnique = TechniqueFactory.instantiate(technique, schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
+        mutTechnique.setFullResults(fullResults);
+        mutTechnique.setBatchInserts(batchInserts);
+        mutTechnique.setRollbackIsolation(rollbackIsolation);
+        ExperimentConfiguration experimentConfiguration = new ExperimentConfiguration();
+        mutTechnique.setThreads(
+                wasParameterPassed("threads") ? threads : experimentConfiguration.getThreads(),
+                wasParameterPassed("queueSize") ? queueSize : experimentConfiguration.getQueueSize());
+        return mutTechnique;
+    }
+
+    /**
+     * Creates the mutant result cache for the schema, test suite, DBMS and
+     * technique.
+     *
+     * @param suite The test suite
+     * @return The cache
+     */
+    private MutantResultCache instantiateMutantResultCache(TestSuite suite) {
+        ExperimentConfiguration experimentConfiguration = new ExperimentConfiguration();
+        return new MutantResultCache(
+                new File(locationsConfiguration.getMutantResultCacheDir()),
+                experimentConfiguration.getMutantResultCacheSize() * 1024L * 1024L,
+                MutantResultCache.key(schema, suite, dbms, technique, useTransactions));
     }
 
     /**
@@ -262,16 +465,43 @@ public class MutationAnalysis extends Runner {
      * @return The test suite
      */
     private TestSuite instantiateTestSuite() {
-        if (inputTestSuite == null) {
+        if (inputTestSuite != null) {
+            return loadTestSuite();
+        } else if (useTestSuiteCache) {
+            return generateCachedTestSuite();
+        } else {
             return generateTestSuite();
+        }
+    }
+
+    /**
+     * Gets the test suite from the test suite cache, generating it and adding
+     * it to the cache if it is not there.
+     *
+     * @return The test suite
+     */
+    private TestSuite generateCachedTestSuite() {
+        ExperimentConfiguration experimentConfiguration = new ExperimentConfiguration();
+        testSuiteCache = new TestSuiteCache(
+                new File(locationsConfiguration.getTestSuiteCacheDir()),
+                experimentConfiguration.getTestSuiteCacheSize() * 1024L * 1024L);
+        String key = TestSuiteCache.key(schema, dbms, criterion, dataGenerator, 100000, randomseed, generationThreads > 0);
+
+        TestSuiteCache.Entry entry = testSuiteCache.get(key, schema, dbms.getValueFactory());
+        if (entry == null) {
+            entry = new TestSuiteCache.Entry(generateTestSuite(), generationCoverage, generationEvaluations);
+            testSuiteCache.put(key, entry);
         } else {
-            return loadTestSuite();
+            generationCoverage = entry.getCoverage();
+            generationEvaluations = entry.getNumDataEvaluations();
         }
+        LOGGER.log(Level.FINE, "Test suite cache: {0} hits, {1} misses, {2} evictions",
+                new Object[]{testSuiteCache.getHits(), testSuiteCache.getMisses(), testSuiteCache.getEvictions()});
+        return entry.getTestSuite();
     }
 
     private TestSuite generateTestSuite() {
         // Initialise from factories
-        final DataGenerator dataGen = DataGeneratorFactory.instantiate(dataGenerator, randomseed, 100000, schema);
         final TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(criterion, schema, dbms).generateRequirements();
 
         // Filter and reduce test requirements
@@ -279,16 +509,32 @@ public class MutationAnalysis extends Runner {
         testRequirements.reduce();
 
         // Construct generator
-        final TestSuiteGenerator generator = new TestSuiteGenerator(
-                schema,
-                testRequirements,
-                dbms.getValueFactory(),
-                dataGen
-        );
+        final TestSuiteGenerator generator;
+        if (generationThreads > 0) {
+            generator = new TestSuiteGenerator(
+                    schema,
+                    testRequirements,
+                    dbms.getValueFactory(),
+                    dataGenerator,
+                    randomseed,
+                    100000,
+                    generationThreads
+            );
+        } else {
+            final DataGenerator dataGen = DataGeneratorFactory.instantiate(dataGenerator, randomseed, 100000, schema);
+            generator = new TestSuiteGenerator(
+                    schema,
+                    testRequirements,
+                    dbms.getValueFactory(),
+                    dataGen
+            );
+        }
 
         // Generate suite
         final TestSuite testSuite = generator.generate();
-        generationReport = generator.getTestSuiteGenerationReport();
+        TestSuiteGenerationReport generationReport = generator.getTestSuiteGenerationReport();
+        generationCoverage = generationReport.coverage();
+        generationEvaluations = generationReport.getNumDataEvaluations(false);
         //TODO: Include the coverage according to the comparison coverage criterion
 
         // Ensure the test suite contains no warnings
@@ -320,29 +566,44 @@ public class MutationAnalysis extends Runner {
 
     private TestSuite loadTestSuite() {
         try {
-            FileInputStream fis = new FileInputStream(inputTestSuite);
-            try (ObjectInputStream in = new ObjectInputStream(fis)) {
-                TestSuite testSuite = (TestSuite) in.readObject();
-                return testSuite;
-            }
-        } catch (IOException | ClassNotFoundException ex) {
+            return TestSuiteReader.load(new File(inputTestSuite), schema, dbms.getValueFactory());
+        } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
     }
 
     /**
-     * Generates mutants of the instantiated schema using the named pipeline.
+     * Instantiates the named pipeline to mutate the instantiated schema.
      *
-     * @return The mutants
+     * @return The pipeline
      */
-    private List<Mutant<Schema>> generateMutants() {
-        MutationPipeline<Schema> pipeline;
+    private MutationPipeline<Schema> instantiatePipeline() {
         try {
-            pipeline = MutationPipelineFactory.<Schema>instantiate(mutationPipeline, schema, databaseConfiguration.getDbms());
+            MutationPipeline<Schema> pipeline = MutationPipelineFactory.<Schema>instantiate(mutationPipeline, schema, databaseConfiguration.getDbms());
+            pipeline.setThreads(pipelineThreads);
+            return pipeline;
         } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException ex) {
             throw new RuntimeException(ex);
         }
-        return pipeline.mutate();
+    }
+
+    /**
+     * Gets the time spent producing and removing mutants by a pipeline, which
+     * is part of the analysis time when mutants are analysed as they are
+     * produced.
+     *
+     * @param pipeline The pipeline
+     * @return The time, in milliseconds
+     */
+    private long getGenerationTime(MutationPipeline<Schema> pipeline) {
+        long time = 0;
+        for (StopWatch timer : pipeline.getProducerTimings().values()) {
+            time += timer.getTime();
+        }
+        for (StopWatch timer : pipeline.getRemoverTimings().values()) {
+            time += timer.getTime();
+        }
+        return time;
     }
 
     /**
@@ -507,7 +768,14 @@ public class MutationAnalysis extends Runner {
 
     @Override
     protected void validateParameters() {
-        // Do nothing
+        check(threads >= 1, "The number of threads must be at least 1");
+        check(queueSize >= 0, "The queue size cannot be negative");
+        check(generationThreads >= 0, "The number of generation threads cannot be negative");
+        check(pipelineThreads >= 1, "The number of pipeline threads must be at least 1");
+        check(samplingMargin >= 0, "The sampling margin cannot be negative");
+        check(samplingMargin == 0 || !incrementalMutation, "Mutants cannot be sampled when they are analysed incrementally");
+        check(samplingConfidence > 0 && samplingConfidence < 1, "The sampling confidence must be between 0 and 1");
+        check(samplingBatchSize >= 1, "The sampling batch size must be at least 1");
     }
 
     public static void main(String[] args) {
@@ -2,14 +2,14 @@
 package org.schemaanalyst.mutation.analysis.executor;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.logging.Logger;
 import org.apache.commons.lang3.time.StopWatch;
 import org.schemaanalyst.configuration.DatabaseConfiguration;
@@ -28,6 +28,7 @@ import org.schemaanalyst.mutation.pipeline.MutationPipelineFactory;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteReader;
 import org.schemaanalyst.testgeneration.TestSuiteGenerationReport;
 import org.schemaanalyst.testgeneration.TestSuiteGenerator;
 import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
@@ -86,6 +87,17 @@ public class MutationAnalysisVirtual extends Runner {
     @Parameter("The location of the input test suite to load, which will be used"
             + " instead of generating a new test suite.")
     protected String inputTestSuite = null;
+    /**
+     * Whether to execute the whole test suite against each mutant.
+     */
+    @Parameter("Whether to execute the whole test suite against each mutant.")
+    protected boolean fullResults = false;
+    /**
+     * The number of worker threads used to analyse mutants.
+     */
+    @Parameter("The number of worker threads used to analyse mutants (1 analyses"
+            + " the mutants serially).")
+    protected int threads = 1;
     /**
      * The instantiated schema.
      */
@@ -250,12 +262,8 @@ public class MutationAnalysisVirtual extends Runner {
 
     private TestSuite loadTestSuite() {
         try {
-            FileInputStream fis = new FileInputStream(inputTestSuite);
-            try (ObjectInputStream in = new ObjectInputStream(fis)) {
-                TestSuite testSuite = (TestSuite) in.readObject();
-                return testSuite;
-            }
-        } catch (IOException | ClassNotFoundException ex) {
+            return TestSuiteReader.load(new File(inputTestSuite), schema, dbms.getValueFactory());
+        } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
     }
@@ -280,24 +288,87 @@ public class MutationAnalysisVirtual extends Runner {
         VirtualTestSuiteExecutor suiteExecutor = new VirtualTestSuiteExecutor();
         return suiteExecutor.executeTestSuite(caseExecutor, suite);
     }
+
+    protected VirtualTestSuiteResult executeMutantTestSuite(Schema schema, TestSuite suite, VirtualTestSuiteResult originalResult) {
+        if (fullResults) {
+            return executeTestSuite(schema, suite);
+        }
+        VirtualTestCaseExecutor caseExecutor = new VirtualTestCaseExecutor(schema, dbms);
+        VirtualTestSuiteExecutor suiteExecutor = new VirtualTestSuiteExecutor();
+        return suiteExecutor.executeTestSuiteUntilDifferent(caseExecutor, suite, originalResult);
+    }
     
     protected AnalysisResult analyse(TestSuite suite, List<Mutant<Schema>> mutants, VirtualTestSuiteResult originalResult) {
+        boolean[] killed = new boolean[mutants.size()];
+        MutantAnalysisTask task = new MutantAnalysisTask(suite, mutants, originalResult, killed, 0, mutants.size());
+        if (threads > 1) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                pool.invoke(task);
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            task.compute();
+        }
+
+        // Collate in mutant order, so the result does not depend on scheduling
         AnalysisResult result = new AnalysisResult();
-        for (Mutant<Schema> mutant : mutants) {
-            Schema mutantSchema = mutant.getMutatedArtefact();
-            VirtualTestSuiteResult mutantResult = executeTestSuite(mutantSchema, suite);
-            if (Objects.equals(originalResult, mutantResult)) {
-                result.addLive(mutant);
+        for (int i = 0; i < mutants.size(); i++) {
+            if (killed[i]) {
+                result.addKilled(mutants.get(i));
             } else {
-                result.addKilled(mutant);
+                result.addLive(mutants.get(i));
             }
         }
         return result;
     }
+
+    /**
+     * Analyses a range of mutants, recursively splitting the range so that
+     * idle workers can steal the remaining halves. Each mutant is executed
+     * with its own {@link VirtualTestCaseExecutor}, so no executor state is
+     * shared between workers.
+     */
+    private class MutantAnalysisTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 2473418153960714652L;
+
+        private final TestSuite suite;
+        private final List<Mutant<Schema>> mutants;
+        private final VirtualTestSuiteResult originalResult;
+        private final boolean[] killed;
+        private final int from;
+        private final int to;
+
+        MutantAnalysisTask(TestSuite suite, List<Mutant<Schema>> mutants, VirtualTestSuiteResult originalResult, boolean[] killed, int from, int to) {
+            this.suite = suite;
+            this.mutants = mutants;
+            this.originalResult = originalResult;
+            this.killed = killed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (threads <= 1 || to - from <= 1) {
+                for (int i = from; i < to; i++) {
+                    Schema mutantSchema = mutants.get(i).getMutatedArtefact();
+                    VirtualTestSuiteResult mutantResult = executeMutantTestSuite(mutantSchema, suite, originalResult);
+                    killed[i] = !Objects.equals(originalResult, mutantResult);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MutantAnalysisTask(suite, mutants, originalResult, killed, from, middle),
+                        new MutantAnalysisTask(suite, mutants, originalResult, killed, middle, to));
+            }
+        }
+    }
     
     @Override
     protected void validateParameters() {
-        // Do nothing
+        check(threads >= 1, "The number of threads must be at least 1");
     }
 
     public static void main(String[] args) {
@@ -1,9 +1,7 @@
 package org.schemaanalyst.mutation.analysis.executor;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Paths;
 import java.util.List;
@@ -28,6 +26,7 @@ import org.schemaanalyst.mutation.pipeline.MutationPipelineFactory;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteReader;
 import org.schemaanalyst.testgeneration.TestSuiteGenerationReport;
 import org.schemaanalyst.testgeneration.TestSuiteGenerator;
 import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
@@ -87,6 +86,11 @@ public class MutationAnalysisVirtualWithTiming extends Runner {
     @Parameter("The location of the input test suite to load, which will be used"
             + " instead of generating a new test suite.")
     protected String inputTestSuite = null;
+    /**
+     * Whether to execute the whole test suite against each mutant.
+     */
+    @Parameter("Whether to execute the whole test suite against each mutant.")
+    protected boolean fullResults = false;
     /**
      * The instantiated schema.
      */
@@ -263,12 +267,8 @@ public class MutationAnalysisVirtualWithTiming extends Runner {
 
     private TestSuite loadTestSuite() {
         try {
-            FileInputStream fis = new FileInputStream(inputTestSuite);
-            try (ObjectInputStream in = new ObjectInputStream(fis)) {
-                TestSuite testSuite = (TestSuite) in.readObject();
-                return testSuite;
-            }
-        } catch (IOException | ClassNotFoundException ex) {
+            return TestSuiteReader.load(new File(inputTestSuite), schema, dbms.getValueFactory());
+        } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
     }
@@ -294,6 +294,15 @@ public class MutationAnalysisVirtualWithTiming extends Runner {
         return suiteExecutor.executeTestSuite(caseExecutor, suite);
     }
 
+    private VirtualTestSuiteResult executeMutantTestSuite(Schema schema, TestSuite suite, VirtualTestSuiteResult originalResult) {
+        if (fullResults) {
+            return executeTestSuite(schema, suite);
+        }
+        VirtualTestCaseExecutor caseExecutor = new VirtualTestCaseExecutor(schema, dbms);
+        VirtualTestSuiteExecutor suiteExecutor = new VirtualTestSuiteExecutor();
+        return suiteExecutor.executeTestSuiteUntilDifferent(caseExecutor, suite, originalResult);
+    }
+
     private AnalysisResult analyse(final TestSuite suite, final List<Mutant<Schema>> mutants, final VirtualTestSuiteResult originalResult) {
         final AnalysisResult result = new AnalysisResult();
         for (final Mutant<Schema> mutant : mutants) {
@@ -301,7 +310,7 @@ public class MutationAnalysisVirtualWithTiming extends Runner {
             boolean killed = Timing.timedTask(new Callable<Boolean>() {
                 @Override
                 public Boolean call() {
-                    VirtualTestSuiteResult mutantResult = executeTestSuite(mutant.getMutatedArtefact(), suite);
+                    VirtualTestSuiteResult mutantResult = executeMutantTestSuite(mutant.getMutatedArtefact(), suite, originalResult);
                     boolean killed = !Objects.equals(originalResult, mutantResult);
                     if (!killed) {
                         result.addLive(mutant);
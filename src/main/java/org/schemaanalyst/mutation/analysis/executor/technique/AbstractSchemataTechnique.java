@@ -5,7 +5,6 @@ import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DatabaseInteractor;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.analysis.executor.testcase.FullSchemataDeletingTestCaseExecutor;
-import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
 import org.schemaanalyst.sqlrepresentation.Schema;
@@ -34,6 +33,7 @@ public abstract class AbstractSchemataTechnique extends Technique {
     protected static void renameMutants(List<Mutant<Schema>> mutants) {
         for (int i = 0; i < mutants.size(); i++) {
             Schema mutantSchema = mutants.get(i).getMutatedArtefact();
+            mutantSchema.unshare();
             for (Table table : mutantSchema.getTablesInOrder()) {
                 table.setName("mutant_" + (i + 1) + "_" + table.getName());
             }
@@ -47,13 +47,11 @@ public abstract class AbstractSchemataTechnique extends Technique {
     }
 
     protected TestSuiteResult executeTestSuiteSchemata(Schema schema, TestSuite suite, String schemataPrefix, TestSuiteResult originalResults) {
-        TestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(schema, dbms, databaseInteractor, schemataPrefix);
+        FullSchemataDeletingTestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(schema, dbms, databaseInteractor, schemataPrefix);
+        caseExecutor.setBatchInserts(batchInserts);
+        caseExecutor.setRollbackIsolation(rollbackIsolation);
         TestSuiteExecutor suiteExecutor = new TestSuiteExecutor();
-        if (!useTransactions || originalResults == null) {
-            return suiteExecutor.executeTestSuite(caseExecutor, suite);
-        } else {
-            return suiteExecutor.executeTestSuite(caseExecutor, suite, originalResults);
-        }
+        return executeTestSuite(suiteExecutor, caseExecutor, suite, originalResults);
     }
 
     protected void doSchemataSteps() {
@@ -0,0 +1,134 @@
+package org.schemaanalyst.mutation.analysis.executor.technique;
+
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.sqlrepresentation.Schema;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * A {@link Technique} that looks up each mutant in a
+ * {@link MutantResultCache} before analysing it, only giving the mutants that
+ * are not in the cache to another technique, and storing their results in the
+ * cache afterwards.
+ * </p>
+ *
+ * <p>
+ * The mutants are passed on as they are supplied, so that a technique
+ * analysing each mutant on its own may still begin before the rest have been
+ * produced. The analysed mutants are listed before those found in the cache in
+ * the result.
+ * </p>
+ */
+public class CachingTechnique extends Technique {
+
+    private final Technique technique;
+    private final MutantResultCache cache;
+
+    /**
+     * Constructor, taking the schema, mutants, test suite and DBMS of the
+     * technique given.
+     *
+     * @param technique The technique to analyse mutants not in the cache with
+     * @param cache The cache
+     */
+    public CachingTechnique(Technique technique, MutantResultCache cache) {
+        super(technique.schema, technique.mutants, technique.testSuite, technique.dbms, technique.databaseInteractor, technique.useTransactions);
+        this.technique = technique;
+        this.cache = cache;
+    }
+
+    @Override
+    public AnalysisResult analyse(TestSuiteResult originalResults) {
+        return analyse(originalResults, mutants.iterator());
+    }
+
+    /**
+     * {@inheritDoc} The technique given to the constructor is only used if
+     * some of the mutants are not in the cache, and the cache is flushed
+     * afterwards.
+     */
+    @Override
+    public AnalysisResult analyse(TestSuiteResult originalResults, Iterator<Mutant<Schema>> mutants) {
+        AnalysisResult cached = new AnalysisResult();
+        Map<Mutant<Schema>, String> keys = Collections.synchronizedMap(new IdentityHashMap<Mutant<Schema>, String>());
+        Iterator<Mutant<Schema>> uncached = new UncachedIterator(mutants, cached, keys);
+
+        AnalysisResult result = new AnalysisResult();
+        if (uncached.hasNext()) {
+            AnalysisResult analysed = technique.analyse(originalResults, uncached);
+            for (Mutant<Schema> mutant : analysed.getKilled()) {
+                cache.put(keys.get(mutant), true);
+                result.addKilled(mutant);
+            }
+            for (Mutant<Schema> mutant : analysed.getLive()) {
+                cache.put(keys.get(mutant), false);
+                result.addLive(mutant);
+            }
+            cache.flush();
+        }
+        for (Mutant<Schema> mutant : cached.getKilled()) {
+            result.addKilled(mutant);
+        }
+        for (Mutant<Schema> mutant : cached.getLive()) {
+            result.addLive(mutant);
+        }
+        return result;
+    }
+
+    /**
+     * An iterator over the mutants that are not in the cache, adding those
+     * that are to a result as it passes them.
+     */
+    private class UncachedIterator implements Iterator<Mutant<Schema>> {
+
+        private final Iterator<Mutant<Schema>> mutants;
+        private final AnalysisResult cached;
+        private final Map<Mutant<Schema>, String> keys;
+        private Mutant<Schema> next;
+
+        UncachedIterator(Iterator<Mutant<Schema>> mutants, AnalysisResult cached, Map<Mutant<Schema>, String> keys) {
+            this.mutants = mutants;
+            this.cached = cached;
+            this.keys = keys;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && mutants.hasNext()) {
+                Mutant<Schema> mutant = mutants.next();
+                String key = MutantResultCache.mutantKey(mutant.getMutatedArtefact(), dbms);
+                Boolean killed = cache.get(key);
+                if (killed == null) {
+                    keys.put(mutant, key);
+                    next = mutant;
+                } else if (killed) {
+                    cached.addKilled(mutant);
+                } else {
+                    cached.addLive(mutant);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Mutant<Schema> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Mutant<Schema> mutant = next;
+            next = null;
+            return mutant;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
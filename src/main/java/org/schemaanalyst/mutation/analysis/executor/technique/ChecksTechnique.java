@@ -65,7 +65,9 @@ public class ChecksTechnique extends Technique {
         for (int i = 0; i < mutants.size(); i++) {
 //            System.out.println("MUTANT " + i);
             caseExecutor.setMutantId(i);
-            TestSuiteResult mutantResult = suiteExecutor.executeTestSuite(caseExecutor, testSuite);
+            TestSuiteResult mutantResult = fullResults
+                    ? suiteExecutor.executeTestSuite(caseExecutor, testSuite)
+                    : suiteExecutor.executeTestSuiteUntilDifferent(caseExecutor, testSuite, originalResults, false);
             if (!originalResults.equals(mutantResult)) {
 //                System.out.println("Killed (" + mutants.get(i).getMutantProducer() + "," + mutants.get(i).getDescription() + ")");
 //                System.out.println("\t Original: " + originalResults);
@@ -2,9 +2,9 @@ package org.schemaanalyst.mutation.analysis.executor.technique;
 
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.DatabaseInteractorPool;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.analysis.executor.testcase.FullSchemataDeletingTestCaseExecutor;
-import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.DeletingTestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
@@ -24,11 +24,10 @@ import java.util.concurrent.*;
  */
 public class JustInTimeSchemataTechnique extends AbstractSchemataTechnique {
     
-    protected Map<String,DatabaseInteractor> threadInteractors;
+    protected DatabaseInteractorPool interactorPool;
 
     public JustInTimeSchemataTechnique(Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
         super(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
-        threadInteractors = new HashMap<>();
     }
 
     @Override
@@ -37,10 +36,12 @@ public class JustInTimeSchemataTechnique extends AbstractSchemataTechnique {
         doSchemataSteps();
 
         // Execute mutation analysis using thread pool
-        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ExecutorService executor = getExecutorService();
+        interactorPool = new DatabaseInteractorPool(databaseInteractor, threads);
         Map<Mutant<Schema>, Future<MutantStatus>> callResults = startExecution(originalResults, executor);
         AnalysisResult result = collateResults(callResults);
-        executor.shutdown();
+        shutdownExecutorService();
+        interactorPool.close();
         
         // Return result
         return result;
@@ -126,20 +127,18 @@ public class JustInTimeSchemataTechnique extends AbstractSchemataTechnique {
 
     @Override
     protected TestSuiteResult executeTestSuiteSchemata(Schema schema, TestSuite suite, String schemataPrefix, TestSuiteResult originalResults) {
-        DatabaseInteractor threadInteractor = getInteractorForThread(Thread.currentThread());
-        TestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(schema, dbms, threadInteractor, schemataPrefix);
-        TestSuiteExecutor suiteExecutor = new DeletingTestSuiteExecutor();
-        TestSuiteResult result = suiteExecutor.executeTestSuite(caseExecutor, suite);
-        databaseInteractor.addInteractions(threadInteractor);
-        return result;
-    }
-    
-    protected synchronized DatabaseInteractor getInteractorForThread(Thread thread) {
-        String threadName = thread.getName();
-        if (!threadInteractors.containsKey(threadName)) {
-            threadInteractors.put(threadName, databaseInteractor.duplicate());
+        DatabaseInteractor threadInteractor = interactorPool.acquire();
+        try {
+            FullSchemataDeletingTestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(schema, dbms, threadInteractor, schemataPrefix);
+            caseExecutor.setBatchInserts(batchInserts);
+            caseExecutor.setRollbackIsolation(rollbackIsolation);
+            TestSuiteExecutor suiteExecutor = new DeletingTestSuiteExecutor();
+            return fullResults
+                    ? suiteExecutor.executeTestSuite(caseExecutor, suite)
+                    : suiteExecutor.executeTestSuiteUntilDifferent(caseExecutor, suite, originalResults, false);
+        } finally {
+            interactorPool.release(threadInteractor);
         }
-        return threadInteractors.get(threadName);
     }
 
     /**
@@ -0,0 +1,327 @@
+package org.schemaanalyst.mutation.analysis.executor.technique;
+
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlwriter.SQLWriter;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * An on-disk cache of whether mutants were killed, so that repeated
+ * experiments with the same schema and test suite (e.g., nightly regression
+ * runs) only execute the test suite against the mutants they have not seen
+ * before.
+ * </p>
+ *
+ * <p>
+ * The results are stored in a directory, one file for each context: the
+ * schema, the test suite (by the INSERT statements of its test cases, which
+ * are the same whether the suite was generated or loaded), the DBMS and the
+ * technique (see {@link #key}). Within a context, each mutant is identified
+ * by a hash of its CREATE TABLE statements for the DBMS (see
+ * {@link #mutantKey}), as executing the test suite against two mutants with
+ * the same statements gives the same results.
+ * The results of a context are read when first needed and written by
+ * {@link #flush()}. When the total size of the files exceeds the size of the
+ * cache, the least recently used contexts are deleted.
+ * </p>
+ */
+public class MutantResultCache {
+
+    private static final Logger LOGGER = Logger.getLogger(MutantResultCache.class.getName());
+
+    private static final String EXTENSION = ".results";
+
+    /**
+     * Changed whenever the analysis of mutants, or the serialized form of the
+     * results, change, so that results cached by earlier versions are not
+     * used.
+     */
+    private static final int VERSION = 1;
+
+    private final File directory;
+    private final long maxSize;
+    private final String key;
+    private Map<String, Boolean> results;
+    private boolean changed = false;
+    private int hits = 0;
+    private int misses = 0;
+    private int evictions = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param directory The directory to store the results in, which is
+     * created if it does not exist
+     * @param maxSize The maximum total size of the stored results, in bytes
+     * @param key The key of the context of the results
+     */
+    public MutantResultCache(File directory, long maxSize, String key) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.key = key;
+    }
+
+    /**
+     * Computes the key of the context in which mutants are analysed.
+     *
+     * @param schema The non-mutant schema
+     * @param testSuite The test suite
+     * @param dbms The DBMS
+     * @param technique The name of the technique
+     * @param useTransactions Whether the technique uses transactions
+     * @return The key, a hexadecimal SHA-256 hash
+     */
+    public static String key(Schema schema, TestSuite testSuite, DBMS dbms, String technique, boolean useTransactions) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(VERSION).append('\n');
+        sb.append(dbms.getName()).append('\n');
+        sb.append(technique).append('\n');
+        sb.append(useTransactions).append('\n');
+        appendStatements(sb, schema, dbms);
+        SQLWriter sqlWriter = dbms.getSQLWriter();
+        for (TestCase testCase : testSuite.getTestCases()) {
+            sb.append('\n');
+            for (Data data : Arrays.asList(testCase.getState(), testCase.getData())) {
+                List<Table> tables = data.getTables();
+                for (Table table : schema.getTablesInOrder()) {
+                    if (tables.contains(table)) {
+                        for (Row row : data.getRows(table)) {
+                            sb.append(sqlWriter.writeInsertStatement(row)).append('\n');
+                        }
+                    }
+                }
+                sb.append('\n');
+            }
+        }
+        return hash(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Computes the key of a mutant within its context.
+     *
+     * @param mutant The mutated schema
+     * @param dbms The DBMS
+     * @return The key, a hexadecimal SHA-256 hash
+     */
+    public static String mutantKey(Schema mutant, DBMS dbms) {
+        StringBuilder sb = new StringBuilder();
+        appendStatements(sb, mutant, dbms);
+        return hash(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendStatements(StringBuilder sb, Schema schema, DBMS dbms) {
+        for (String statement : dbms.getSQLWriter().writeCreateTableStatements(schema)) {
+            sb.append(statement).append('\n');
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Gets whether a mutant was killed.
+     *
+     * @param mutantKey The key of the mutant
+     * @return Whether the mutant was killed, or null if it is not in the cache
+     */
+    public synchronized Boolean get(String mutantKey) {
+        Boolean killed = getResults().get(mutantKey);
+        if (killed != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return killed;
+    }
+
+    /**
+     * Puts whether a mutant was killed in the cache. It is only stored on
+     * disk once the cache is flushed.
+     *
+     * @param mutantKey The key of the mutant
+     * @param killed Whether the mutant was killed
+     */
+    public synchronized void put(String mutantKey, boolean killed) {
+        getResults().put(mutantKey, killed);
+        changed = true;
+    }
+
+    private Map<String, Boolean> getResults() {
+        if (results == null) {
+            results = new HashMap<>();
+            read(results);
+        }
+        return results;
+    }
+
+    /**
+     * Reads the results of the context into a map. An unreadable file (e.g.,
+     * partly written by a process that was killed) is deleted.
+     */
+    private void read(Map<String, Boolean> into) {
+        File file = getFile();
+        if (file.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                int size = in.readInt();
+                for (int i = 0; i < size; i++) {
+                    String mutantKey = in.readUTF();
+                    into.put(mutantKey, in.readBoolean());
+                }
+                file.setLastModified(System.currentTimeMillis());
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Could not read cached mutant results " + file + ", deleting them", ex);
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Writes the results put in the cache since it was last flushed, together
+     * with those written by other processes in the meantime, then evicts the
+     * least recently used contexts until the cache is within its size. The
+     * results are written to a temporary file first, so that other processes
+     * sharing the directory never read partly written ones.
+     */
+    public synchronized void flush() {
+        if (!changed) {
+            return;
+        }
+        Map<String, Boolean> merged = new HashMap<>();
+        read(merged);
+        merged.putAll(results);
+        results = merged;
+        changed = false;
+
+        File file = getFile();
+        File temp = null;
+        try {
+            Files.createDirectories(directory.toPath());
+            temp = File.createTempFile(key + EXTENSION, ".tmp", directory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                out.writeInt(results.size());
+                for (Map.Entry<String, Boolean> entry : results.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeBoolean(entry.getValue());
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Could not cache mutant results " + file, ex);
+            if (temp != null) {
+                temp.delete();
+            }
+            return;
+        }
+        evict(file);
+    }
+
+    private void evict(File keep) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        List<File> contexts = new ArrayList<>();
+        final Map<File, Long> lastModified = new HashMap<>();
+        long size = 0;
+        for (File file : files) {
+            if (file.getName().endsWith(EXTENSION)) {
+                contexts.add(file);
+                lastModified.put(file, file.lastModified());
+                size += file.length();
+            }
+        }
+        if (size <= maxSize) {
+            return;
+        }
+
+        // least recently used first
+        Collections.sort(contexts, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                return Long.compare(lastModified.get(a), lastModified.get(b));
+            }
+        });
+        for (File file : contexts) {
+            if (size <= maxSize) {
+                break;
+            }
+            if (!file.equals(keep)) {
+                long length = file.length();
+                if (file.delete()) {
+                    size -= length;
+                    evictions++;
+                    LOGGER.log(Level.FINE, "Evicted cached mutant results {0}", file.getName());
+                }
+            }
+        }
+    }
+
+    private File getFile() {
+        return new File(directory, key + EXTENSION);
+    }
+
+    /**
+     * Get the number of mutants found in the cache.
+     *
+     * @return The number of hits
+     */
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of mutants not found in the cache.
+     *
+     * @return The number of misses
+     */
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the number of contexts deleted to keep the cache within its size.
+     *
+     * @return The number of evictions
+     */
+    public synchronized int getEvictions() {
+        return evictions;
+    }
+}
@@ -5,13 +5,13 @@ import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DatabaseInteractor;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.analysis.executor.testcase.DeletingTestCaseExecutor;
-import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.DeletingTestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.testgeneration.TestSuite;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
@@ -51,8 +51,14 @@ public class MutantTimingTechnique extends OriginalTechnique {
 
     @Override
     public AnalysisResult analyse(final TestSuiteResult originalResults) {
+        return analyse(originalResults, mutants.iterator());
+    }
+
+    @Override
+    public AnalysisResult analyse(final TestSuiteResult originalResults, Iterator<Mutant<Schema>> mutants) {
         final AnalysisResult result = new AnalysisResult();
-        for (final Mutant<Schema> mutant : mutants) {
+        while (mutants.hasNext()) {
+            final Mutant<Schema> mutant = mutants.next();
             StopWatch timer = new StopWatch();
             boolean killed = Timing.timedTask(new Callable<Boolean>() {
                 @Override
@@ -82,13 +88,11 @@ public class MutantTimingTechnique extends OriginalTechnique {
      * @return The execution results
      */
     private TestSuiteResult executeTestSuite(Schema schema, TestSuite suite, TestSuiteResult originalResults) {
-        TestCaseExecutor caseExecutor = new DeletingTestCaseExecutor(schema, dbms, databaseInteractor);
+        DeletingTestCaseExecutor caseExecutor = new DeletingTestCaseExecutor(schema, dbms, databaseInteractor);
+        caseExecutor.setBatchInserts(batchInserts);
+        caseExecutor.setRollbackIsolation(rollbackIsolation);
         TestSuiteExecutor suiteExecutor = new DeletingTestSuiteExecutor();
-        if (!useTransactions || originalResults == null) {
-            return suiteExecutor.executeTestSuite(caseExecutor, suite);
-        } else {
-            return suiteExecutor.executeTestSuite(caseExecutor, suite, originalResults);
-        }
+        return executeTestSuite(suiteExecutor, caseExecutor, suite, originalResults);
     }
 
     private void outputMutant(Mutant<Schema> mutant, boolean killed, long time) {
@@ -4,13 +4,13 @@ import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DatabaseInteractor;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.analysis.executor.testcase.DeletingTestCaseExecutor;
-import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.DeletingTestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.testgeneration.TestSuite;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -27,8 +27,17 @@ public class OriginalTechnique extends Technique {
 
     @Override
     public AnalysisResult analyse(TestSuiteResult originalResults) {
+        return analyse(originalResults, mutants.iterator());
+    }
+
+    /**
+     * {@inheritDoc} Each mutant is analysed as soon as it is supplied.
+     */
+    @Override
+    public AnalysisResult analyse(TestSuiteResult originalResults, Iterator<Mutant<Schema>> mutants) {
         AnalysisResult result = new AnalysisResult();
-        for (Mutant<Schema> mutant : mutants) {
+        while (mutants.hasNext()) {
+            Mutant<Schema> mutant = mutants.next();
             TestSuiteResult mutantResults = executeTestSuite(mutant.getMutatedArtefact(), testSuite, originalResults);
             if (!originalResults.equals(mutantResults)) {
                 result.addKilled(mutant);
@@ -49,13 +58,11 @@ public class OriginalTechnique extends Technique {
      * @return The execution results
      */
     private TestSuiteResult executeTestSuite(Schema schema, TestSuite suite, TestSuiteResult originalResults) {
-        TestCaseExecutor caseExecutor = new DeletingTestCaseExecutor(schema, dbms, databaseInteractor);
+        DeletingTestCaseExecutor caseExecutor = new DeletingTestCaseExecutor(schema, dbms, databaseInteractor);
+        caseExecutor.setBatchInserts(batchInserts);
+        caseExecutor.setRollbackIsolation(rollbackIsolation);
         TestSuiteExecutor suiteExecutor = new DeletingTestSuiteExecutor();
-        if (!useTransactions || originalResults == null) {
-            return suiteExecutor.executeTestSuite(caseExecutor, suite);
-        } else {
-            return suiteExecutor.executeTestSuite(caseExecutor, suite, originalResults);
-        }
+        return executeTestSuite(suiteExecutor, caseExecutor, suite, originalResults);
     }
 
 }
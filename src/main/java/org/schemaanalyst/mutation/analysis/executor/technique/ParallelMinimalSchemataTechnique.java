@@ -4,6 +4,7 @@ import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.Row;
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.DatabaseInteractorPool;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.analysis.executor.exceptions.InsertStatementException;
 import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseResult;
@@ -19,9 +20,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 /**
  * <p>The Minimal Schemata implementation with all possible parallelisation,
@@ -38,13 +36,13 @@ public class ParallelMinimalSchemataTechnique extends Technique {
     private List<String> deleteStmts;
     private Map<Integer, TestSuiteResult> resultMap;
     private Map<String, List<Integer>> changedTableMap;
-    private Map<String, DatabaseInteractor> threadInteractors;
-    ExecutorService executor;
+    private DatabaseInteractorPool interactorPool;
+    private List<DatabaseInteractor> groupInteractors;
+    private boolean separateDatabases;
 
     public ParallelMinimalSchemataTechnique(Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
         super(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
         this.sqlWriter = dbms.getSQLWriter();
-        threadInteractors = new HashMap<>();
     }
 
     private class ChangedTableTask implements Runnable {
@@ -82,24 +80,42 @@ public class ParallelMinimalSchemataTechnique extends Technique {
 
     }
 
+    /**
+     * Inserts a row into the tables of a group of mutants, using the
+     * interactor that the group keeps for the whole test suite. Where each
+     * interactor has its own database, the row is first inserted into the
+     * original table of that database too, unless the original schema has
+     * already rejected a row of the test case.
+     */
     private class MutantInsertsTask implements Runnable {
 
         private final String insert;
-        private final Integer mutantId;
+        private final DatabaseInteractor interactor;
+        private final List<Integer> mutantIds;
+        private final boolean insertOriginal;
         private final Map<Integer, TestCaseResult> failedMutants;
         private final TestCase testCase;
-        private final DatabaseInteractor interactor;
 
-        public MutantInsertsTask(String insert, Integer mutantId, Map<Integer, TestCaseResult> failedMutants, TestCase testCase) {
+        public MutantInsertsTask(String insert, DatabaseInteractor interactor, List<Integer> mutantIds, boolean insertOriginal, Map<Integer, TestCaseResult> failedMutants, TestCase testCase) {
             this.insert = insert;
-            this.mutantId = mutantId;
+            this.interactor = interactor;
+            this.mutantIds = mutantIds;
+            this.insertOriginal = insertOriginal;
             this.failedMutants = failedMutants;
             this.testCase = testCase;
-            interactor = getInteractorForThread(Thread.currentThread());
         }
 
         @Override
         public void run() {
+            if (insertOriginal) {
+                interactor.executeUpdate(insert);
+            }
+            for (Integer mutantId : mutantIds) {
+                insert(interactor, mutantId);
+            }
+        }
+
+        private void insert(DatabaseInteractor interactor, Integer mutantId) {
             String mutInsert = insert.replace("INSERT INTO \"", "INSERT INTO \"mutant_" + mutantId + "_");
             Integer mutResult = interactor.executeUpdate(mutInsert);
             if (mutResult != 1) {
@@ -123,17 +139,12 @@ public class ParallelMinimalSchemataTechnique extends Technique {
 
         // Build map of changed tables
         this.changedTableMap = new HashMap<>();
-        executor = Executors.newFixedThreadPool(4);
+        List<ChangedTableTask> changedTableTasks = new ArrayList<>();
         for (int id = 0; id < mutants.size(); id++) {
             Mutant<Schema> mutant = mutants.get(id);
-            executor.submit(new ChangedTableTask(changedTableMap, id, mutant));
-        }
-        executor.shutdown();
-        try {
-            executor.awaitTermination(1, TimeUnit.DAYS);
-        } catch (InterruptedException ex) {
-            throw new RuntimeException(ex);
+            changedTableTasks.add(new ChangedTableTask(changedTableMap, id, mutant));
         }
+        executeTasks(changedTableTasks);
 
         // Build the meta-mutant schema and SQL statements
         Schema metamutant = MutationAnalysisUtils.mergeMutantsParallel(schema, mutants);
@@ -147,11 +158,32 @@ public class ParallelMinimalSchemataTechnique extends Technique {
             resultMap.put(i, new TestSuiteResult());
         }
 
-        // Execute test suite
+        // Execute test suite, giving each group of mutants its own interactor.
+        // SQLite interactors each have their own database, so the original
+        // tables must be filled and emptied in every one of them.
+        separateDatabases = dbms.getName().equals("SQLite");
+        interactorPool = new DatabaseInteractorPool(databaseInteractor, threads) {
+            @Override
+            protected void initialise(DatabaseInteractor interactor) {
+                if (separateDatabases) {
+                    executeDropStmts(interactor);
+                    executeCreateStmts(interactor);
+                }
+            }
+        };
         executeDropStmts(databaseInteractor);
         executeCreateStmts(databaseInteractor);
+        groupInteractors = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            groupInteractors.add(interactorPool.acquire());
+        }
         for (TestCase testCase : testSuite.getTestCases()) {
             executeDeleteStmts(databaseInteractor);
+            if (separateDatabases) {
+                for (DatabaseInteractor interactor : groupInteractors) {
+                    executeDeleteStmts(interactor);
+                }
+            }
             TestCaseResult normalTestResult = null;
             Map<Integer, TestCaseResult> failedMutants = new HashMap<>();
 
@@ -179,6 +211,11 @@ public class ParallelMinimalSchemataTechnique extends Technique {
             }
         }
         
+        shutdownExecutorService();
+        for (DatabaseInteractor interactor : groupInteractors) {
+            interactorPool.release(interactor);
+        }
+        interactorPool.close();
         executeDropStmts(databaseInteractor);
         return result;
     }
@@ -191,28 +228,35 @@ public class ParallelMinimalSchemataTechnique extends Technique {
                 for (Row row : data.getRows(table)) {
                     String insert = sqlWriter.writeInsertStatement(row);
                     // Only insert if we haven't failed yet
-                    if (normalTestResult == null) {
+                    boolean insertOriginal = normalTestResult == null;
+                    if (insertOriginal) {
                         Integer normalResult = databaseInteractor.executeUpdate(insert);
                         if (normalResult != 1) {
                             normalTestResult = new TestCaseResult(new InsertStatementException("Failed, result was: " + normalResult, insert));
                         }
                     }
 
-                    // Setup for parallel execution
-                    executor = Executors.newFixedThreadPool(4);
+                    // Split the mutants into one group per thread, keeping
+                    // each mutant in the same group for the whole suite
+                    List<List<Integer>> mutantGroups = new ArrayList<>();
+                    for (int i = 0; i < threads; i++) {
+                        mutantGroups.add(new ArrayList<Integer>());
+                    }
                     for (Integer mutantId : applicableMutants) {
                         // Only insert if we haven't failed yet
                         if (!failedMutants.containsKey(mutantId)) {
-                            MutantInsertsTask task = new MutantInsertsTask(insert, mutantId, failedMutants, testCase);
-                            executor.submit(task);
+                            mutantGroups.get(mutantId % threads).add(mutantId);
                         }
                     }
-                    executor.shutdown();
-                    try {
-                        executor.awaitTermination(1, TimeUnit.DAYS);
-                    } catch (InterruptedException ex) {
-                        throw new RuntimeException(ex);
+                    List<MutantInsertsTask> tasks = new ArrayList<>();
+                    for (int i = 0; i < threads; i++) {
+                        List<Integer> mutantGroup = mutantGroups.get(i);
+                        boolean insertGroupOriginal = insertOriginal && separateDatabases;
+                        if (!mutantGroup.isEmpty() || insertGroupOriginal) {
+                            tasks.add(new MutantInsertsTask(insert, groupInteractors.get(i), mutantGroup, insertGroupOriginal, failedMutants, testCase));
+                        }
                     }
+                    executeTasks(tasks);
 
                     // If a mutant isn't applicable, then it should 'inherit' the normal result
                     for (int i = 0; i < mutants.size(); i++) {
@@ -257,17 +301,4 @@ public class ParallelMinimalSchemataTechnique extends Technique {
         }
     }
 
-    protected DatabaseInteractor getInteractorForThread(Thread thread) {
-        String threadName = thread.getName();
-        if (!threadInteractors.containsKey(threadName)) {
-            DatabaseInteractor interactor = databaseInteractor.duplicate();
-            threadInteractors.put(threadName, interactor);
-            if (dbms.getName().equals("SQLite")) {
-                executeDropStmts(databaseInteractor);
-                executeCreateStmts(databaseInteractor);
-            }
-        }
-        return threadInteractors.get(threadName);
-    }
-
 }
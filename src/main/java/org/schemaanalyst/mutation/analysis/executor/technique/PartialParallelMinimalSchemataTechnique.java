@@ -19,9 +19,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 /**
  * <p>The Minimal Schemata implementation with parallelisation used for setup
@@ -86,17 +83,13 @@ public class PartialParallelMinimalSchemataTechnique extends Technique {
 
         // Build map of changed tables
         this.changedTableMap = new HashMap<>();
-        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<ChangedTableTask> changedTableTasks = new ArrayList<>();
         for (int id = 0; id < mutants.size(); id++) {
             Mutant<Schema> mutant = mutants.get(id);
-            executor.submit(new ChangedTableTask(changedTableMap, id, mutant));
-        }
-        executor.shutdown();
-        try {
-            executor.awaitTermination(1, TimeUnit.DAYS);
-        } catch (InterruptedException ex) {
-            throw new RuntimeException(ex);
+            changedTableTasks.add(new ChangedTableTask(changedTableMap, id, mutant));
         }
+        executeTasks(changedTableTasks);
+        shutdownExecutorService();
 
         // Build the meta-mutant schema and SQL statements
         Schema metamutant = MutationAnalysisUtils.mergeMutantsParallel(schema, mutants);
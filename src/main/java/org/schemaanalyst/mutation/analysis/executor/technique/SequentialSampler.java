@@ -0,0 +1,221 @@
+package org.schemaanalyst.mutation.analysis.executor.technique;
+
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.sqlrepresentation.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * Analyses a random sample of mutants with a {@link Technique}, rather than
+ * all of them, enlarging the sample until the mutation score is known to
+ * within a given margin.
+ * </p>
+ *
+ * <p>
+ * The mutants are given to the technique in batches, drawn at random without
+ * replacement. After each batch, the score of all of the mutants is estimated
+ * from those analysed so far, with a confidence interval from the normal
+ * approximation (using the finite population correction, as the sample may be
+ * a large part of the mutants). Sampling stops once the half-width of the
+ * interval is no more than the margin, or once every mutant has been analysed.
+ * </p>
+ *
+ * <p>
+ * When stratified, the mutants are grouped by their simple description (the
+ * operator that produced them), each group being sampled in proportion to its
+ * size and the score being estimated from the scores of the groups weighted by
+ * their sizes. As operators differ widely in how many of their mutants are
+ * killed, this usually needs a smaller sample than sampling all of the mutants
+ * together.
+ * </p>
+ */
+public class SequentialSampler {
+
+    private static final Logger LOGGER = Logger.getLogger(SequentialSampler.class.getName());
+
+    /**
+     * The smallest sample to estimate the score from, below which the normal
+     * approximation cannot be trusted.
+     */
+    public static final int MINIMUM_SAMPLE = 30;
+
+    private final double margin;
+    private final double confidence;
+    private final boolean stratified;
+    private final int batchSize;
+    private final Random random;
+
+    private double score = Double.NaN;
+    private double halfWidth = Double.NaN;
+
+    /**
+     * Constructor.
+     *
+     * @param margin The half-width of the confidence interval at which to stop
+     * sampling, out of 1
+     * @param confidence The confidence level of the interval, out of 1
+     * @param stratified Whether to sample the mutants of each operator
+     * separately
+     * @param batchSize The number of mutants to analyse between estimates
+     * @param random The random number generator used to select the mutants
+     */
+    public SequentialSampler(double margin, double confidence, boolean stratified, int batchSize, Random random) {
+        this.margin = margin;
+        this.confidence = confidence;
+        this.stratified = stratified;
+        this.batchSize = batchSize;
+        this.random = random;
+    }
+
+    /**
+     * Analyses a sample of the mutants with a technique, until the score of
+     * all of them has been estimated to within the margin.
+     *
+     * @param technique The technique to analyse the mutants with
+     * @param originalResults The results for the non-mutant schema
+     * @param mutants The mutants to sample
+     * @return The result of the analysis of the sampled mutants
+     */
+    public AnalysisResult analyse(Technique technique, TestSuiteResult originalResults, List<Mutant<Schema>> mutants) {
+        Map<String, Stratum> strata = new LinkedHashMap<>();
+        for (Mutant<Schema> mutant : mutants) {
+            String key = getKey(mutant);
+            Stratum stratum = strata.get(key);
+            if (stratum == null) {
+                stratum = new Stratum();
+                strata.put(key, stratum);
+            }
+            stratum.mutants.add(mutant);
+        }
+        for (Stratum stratum : strata.values()) {
+            Collections.shuffle(stratum.mutants, random);
+        }
+
+        AnalysisResult result = new AnalysisResult();
+        int sampled = 0;
+        boolean finished = mutants.isEmpty();
+        while (!finished) {
+            List<Mutant<Schema>> batch = new ArrayList<>();
+            Stratum stratum;
+            while (batch.size() < batchSize && (stratum = nextStratum(strata)) != null) {
+                batch.add(stratum.mutants.get(stratum.sampled));
+                stratum.sampled++;
+            }
+            sampled += batch.size();
+
+            AnalysisResult batchResult = technique.analyse(originalResults, batch.iterator());
+            for (Mutant<Schema> mutant : batchResult.getKilled()) {
+                strata.get(getKey(mutant)).killed++;
+                result.addKilled(mutant);
+            }
+            for (Mutant<Schema> mutant : batchResult.getLive()) {
+                result.addLive(mutant);
+            }
+
+            estimate(strata.values(), mutants.size());
+            LOGGER.log(Level.FINE, "Estimated score {0} +/- {1} from {2} of {3} mutants",
+                    new Object[]{score, halfWidth, sampled, mutants.size()});
+            finished = sampled == mutants.size()
+                    || (sampled >= Math.max(MINIMUM_SAMPLE, strata.size()) && halfWidth <= margin);
+        }
+        return result;
+    }
+
+    private String getKey(Mutant<Schema> mutant) {
+        return stratified ? mutant.getSimpleDescription() : null;
+    }
+
+    /**
+     * Gets the stratum sampled least in proportion to its size, so that every
+     * stratum is sampled once before any is sampled twice, or null if every
+     * mutant has been sampled.
+     */
+    private static Stratum nextStratum(Map<String, Stratum> strata) {
+        Stratum next = null;
+        for (Stratum stratum : strata.values()) {
+            if (stratum.sampled < stratum.mutants.size()
+                    && (next == null || stratum.fraction() < next.fraction())) {
+                next = stratum;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Estimates the score and the half-width of its confidence interval from
+     * the strata, using the Laplace estimate (k + 1) / (n + 2) of the score of
+     * each stratum for its variance, so that a small sample with every mutant
+     * killed (or alive) does not appear to be exact.
+     */
+    private void estimate(Iterable<Stratum> strata, int total) {
+        double estimate = 0;
+        double variance = 0;
+        for (Stratum stratum : strata) {
+            int size = stratum.mutants.size();
+            int n = stratum.sampled;
+            double weight = (double) size / total;
+            double adjusted = (stratum.killed + 1.0) / (n + 2.0);
+            estimate += weight * (n > 0 ? (double) stratum.killed / n : adjusted);
+            if (n < size) {
+                double correction = size > 1 ? (double) (size - n) / (size - 1) : 1;
+                variance += weight * weight * adjusted * (1 - adjusted) / Math.max(n, 1) * correction;
+            }
+        }
+        score = estimate;
+        halfWidth = getZ(confidence) * Math.sqrt(variance);
+    }
+
+    /**
+     * Gets the quantile of the standard normal distribution bounding a
+     * two-sided interval with the given confidence, using the rational
+     * approximation 26.2.23 of Abramowitz and Stegun (absolute error below
+     * 4.5e-4).
+     *
+     * @param confidence The confidence level, out of 1
+     * @return The quantile
+     */
+    public static double getZ(double confidence) {
+        double t = Math.sqrt(-2 * Math.log((1 - confidence) / 2));
+        return t - (2.515517 + 0.802853 * t + 0.010328 * t * t)
+                / (1 + 1.432788 * t + 0.189269 * t * t + 0.001308 * t * t * t);
+    }
+
+    /**
+     * Gets the score estimated by the last analysis.
+     *
+     * @return The estimated score, out of 1
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the half-width of the confidence interval around the score
+     * estimated by the last analysis, which is 0 if every mutant was analysed.
+     *
+     * @return The half-width, out of 1
+     */
+    public double getHalfWidth() {
+        return halfWidth;
+    }
+
+    private static class Stratum {
+
+        final List<Mutant<Schema>> mutants = new ArrayList<>();
+        int sampled = 0;
+        int killed = 0;
+
+        double fraction() {
+            return (double) sampled / mutants.size();
+        }
+    }
+}
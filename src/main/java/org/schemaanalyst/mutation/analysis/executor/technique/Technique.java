@@ -4,11 +4,23 @@ package org.schemaanalyst.mutation.analysis.executor.technique;
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DatabaseInteractor;
 import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.testgeneration.TestSuite;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>Abstract parent class of techniques performing mutation analysis.</p>
@@ -23,6 +35,12 @@ public abstract class Technique {
     protected DBMS dbms;
     protected DatabaseInteractor databaseInteractor;
     protected boolean useTransactions;
+    protected boolean fullResults = false;
+    protected boolean batchInserts = false;
+    protected boolean rollbackIsolation = false;
+    protected int threads = 4;
+    protected int queueSize = 0;
+    private ExecutorService executorService;
 
     public Technique(Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
         this.schema = schema;
@@ -34,5 +52,143 @@ public abstract class Technique {
     }
     
     public abstract AnalysisResult analyse(TestSuiteResult originalResults);
+
+    /**
+     * Analyses the mutants supplied by an iterator, such as one returned by
+     * {@link org.schemaanalyst.mutation.pipeline.MutationPipeline#mutateIncrementally()},
+     * rather than those given to the constructor. By default, all of the
+     * mutants are obtained before any are analysed, but techniques analysing
+     * each mutant on its own may begin before the rest have been produced.
+     *
+     * @param originalResults The results for the non-mutant schema
+     * @param mutants The mutants to analyse
+     * @return The result of the analysis
+     */
+    public AnalysisResult analyse(TestSuiteResult originalResults, Iterator<Mutant<Schema>> mutants) {
+        this.mutants = new ArrayList<>();
+        while (mutants.hasNext()) {
+            this.mutants.add(mutants.next());
+        }
+        return analyse(originalResults);
+    }
+
+    /**
+     * Sets whether every test case is executed against each mutant. By
+     * default, a mutant stops being executed at the first test case whose
+     * result differs from the original results, as it is then known to be
+     * killed.
+     *
+     * @param fullResults Whether to execute every test case
+     */
+    public void setFullResults(boolean fullResults) {
+        this.fullResults = fullResults;
+    }
+
+    /**
+     * Sets whether the rows of each test case are inserted in a single JDBC
+     * batch, which saves a round-trip to the DBMS per row. Only applies when
+     * transactions are not used.
+     *
+     * @param batchInserts Whether to batch the inserts
+     */
+    public void setBatchInserts(boolean batchInserts) {
+        this.batchInserts = batchInserts;
+    }
+
+    /**
+     * Sets whether each test case is isolated by rolling back a transaction
+     * (or savepoint), rather than by deleting the contents of every table
+     * before and after it. Only applies when transactions are not used.
+     *
+     * @param rollbackIsolation Whether to roll back each test case
+     */
+    public void setRollbackIsolation(boolean rollbackIsolation) {
+        this.rollbackIsolation = rollbackIsolation;
+    }
+
+    /**
+     * Sets the number of worker threads used by techniques that analyse
+     * mutants in parallel, and the maximum number of tasks queued for them.
+     *
+     * @param threads The number of threads
+     * @param queueSize The maximum number of queued tasks, or 0 for no limit
+     */
+    public void setThreads(int threads, int queueSize) {
+        this.threads = threads;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Gets the executor shared by the parallel parts of this technique,
+     * creating it with the configured number of threads on first use. When its
+     * queue is full, a task is run by the thread submitting it, which holds
+     * back further submissions until the workers catch up.
+     *
+     * @return The executor
+     */
+    protected synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            BlockingQueue<Runnable> queue = queueSize > 0
+                    ? new ArrayBlockingQueue<Runnable>(queueSize)
+                    : new LinkedBlockingQueue<Runnable>();
+            executorService = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue, new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        return executorService;
+    }
+
+    /**
+     * Runs tasks on the executor returned by {@link #getExecutorService()},
+     * returning once all of them have finished.
+     *
+     * @param tasks The tasks
+     */
+    protected void executeTasks(List<? extends Runnable> tasks) {
+        ExecutorService executor = getExecutorService();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Runnable task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException | ExecutionException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Shuts down the executor returned by {@link #getExecutorService()}, if
+     * it was created. A new one is created if it is needed again.
+     */
+    protected synchronized void shutdownExecutorService() {
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService = null;
+        }
+    }
+
+    /**
+     * Executes a {@link TestSuite} for a mutant, using the original results as
+     * the expected results if transactions are used, and stopping at the
+     * first difference from them unless full results are required.
+     *
+     * @param suiteExecutor The test suite executor
+     * @param caseExecutor The test case executor for the mutant
+     * @param suite The test suite
+     * @param originalResults The results for the non-mutant schema, if known
+     * @return The execution results
+     */
+    protected TestSuiteResult executeTestSuite(TestSuiteExecutor suiteExecutor, TestCaseExecutor caseExecutor, TestSuite suite, TestSuiteResult originalResults) {
+        boolean useExpectedResult = useTransactions && originalResults != null;
+        if (fullResults || originalResults == null) {
+            if (useExpectedResult) {
+                return suiteExecutor.executeTestSuite(caseExecutor, suite, originalResults);
+            } else {
+                return suiteExecutor.executeTestSuite(caseExecutor, suite);
+            }
+        }
+        return suiteExecutor.executeTestSuiteUntilDifferent(caseExecutor, suite, originalResults, useExpectedResult);
+    }
     
 }
@@ -2,9 +2,9 @@ package org.schemaanalyst.mutation.analysis.executor.technique;
 
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.DatabaseInteractorPool;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.analysis.executor.testcase.FullSchemataDeletingTestCaseExecutor;
-import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
 import org.schemaanalyst.sqlrepresentation.Schema;
@@ -23,11 +23,10 @@ import java.util.concurrent.*;
  */
 public class UpFrontSchemataTechnique extends AbstractSchemataTechnique {
 
-    protected Map<String, DatabaseInteractor> threadInteractors;
+    protected DatabaseInteractorPool interactorPool;
 
     public UpFrontSchemataTechnique(Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
         super(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
-        threadInteractors = new HashMap<>();
     }
 
     @Override
@@ -40,10 +39,20 @@ public class UpFrontSchemataTechnique extends AbstractSchemataTechnique {
         }
 
         // Execute mutation analysis using thread pool
-        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ExecutorService executor = getExecutorService();
+        interactorPool = new DatabaseInteractorPool(databaseInteractor, threads) {
+            @Override
+            protected void initialise(DatabaseInteractor interactor) {
+                if (dbms.getName().equals("SQLite")) {
+                    interactor.executeUpdate(dropStmt);
+                    interactor.executeUpdate(createStmt);
+                }
+            }
+        };
         Map<Mutant, Future<MutantStatus>> callResults = startExecution(originalResults, executor);
         AnalysisResult result = collateResults(callResults);
-        executor.shutdown();
+        shutdownExecutorService();
+        interactorPool.close();
 
         // Drop tables and return result
         if (!dbms.getName().equals("SQLite")) {
@@ -126,27 +135,16 @@ public class UpFrontSchemataTechnique extends AbstractSchemataTechnique {
 
     @Override
     protected TestSuiteResult executeTestSuiteSchemata(Schema schema, TestSuite suite, String schemataPrefix, TestSuiteResult originalResults) {
-        DatabaseInteractor interactor = getInteractorForThread(Thread.currentThread());
-        TestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(schema, dbms, interactor, schemataPrefix);
-        TestSuiteExecutor suiteExecutor = new TestSuiteExecutor();
-        if (!useTransactions || originalResults == null) {
-            return suiteExecutor.executeTestSuite(caseExecutor, suite);
-        } else {
-            return suiteExecutor.executeTestSuite(caseExecutor, suite, originalResults);
-        }
-    }
-
-    protected synchronized DatabaseInteractor getInteractorForThread(Thread thread) {
-        String threadName = thread.getName();
-        if (!threadInteractors.containsKey(threadName)) {
-            DatabaseInteractor interactor = databaseInteractor.duplicate();
-            threadInteractors.put(threadName, interactor);
-            if (dbms.getName().equals("SQLite")) {
-                interactor.executeUpdate(dropStmt);
-                interactor.executeUpdate(createStmt);
-            }
+        DatabaseInteractor interactor = interactorPool.acquire();
+        try {
+            FullSchemataDeletingTestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(schema, dbms, interactor, schemataPrefix);
+            caseExecutor.setBatchInserts(batchInserts);
+            caseExecutor.setRollbackIsolation(rollbackIsolation);
+            TestSuiteExecutor suiteExecutor = new TestSuiteExecutor();
+            return executeTestSuite(suiteExecutor, caseExecutor, suite, originalResults);
+        } finally {
+            interactorPool.release(interactor);
         }
-        return threadInteractors.get(threadName);
     }
 
     /**
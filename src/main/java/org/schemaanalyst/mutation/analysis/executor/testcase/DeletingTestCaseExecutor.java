@@ -1,19 +1,50 @@
 package org.schemaanalyst.mutation.analysis.executor.testcase;
 
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.Row;
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.mutation.analysis.executor.exceptions.InsertStatementException;
 import org.schemaanalyst.mutation.analysis.executor.exceptions.StatementException;
 import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
 import org.schemaanalyst.testgeneration.TestCase;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class DeletingTestCaseExecutor extends TestCaseExecutor {
 
+    protected boolean batchInserts = false;
+    protected boolean rollbackIsolation = false;
+
     public DeletingTestCaseExecutor(Schema schema, DBMS dbms, DatabaseInteractor databaseInteractor) {
         super(schema, dbms, databaseInteractor);
     }
 
+    /**
+     * Sets whether the rows of a test case are inserted in a single JDBC
+     * batch, rather than with one statement execution per row. Only applies
+     * when transactions are not used.
+     *
+     * @param batchInserts Whether to batch the inserts
+     */
+    public void setBatchInserts(boolean batchInserts) {
+        this.batchInserts = batchInserts;
+    }
+
+    /**
+     * Sets whether each test case is isolated by executing it in a
+     * transaction (or savepoint) that is rolled back afterwards, rather than
+     * by deleting the contents of every table before and after it. Only
+     * applies when transactions are not used.
+     *
+     * @param rollbackIsolation Whether to roll back each test case
+     */
+    public void setRollbackIsolation(boolean rollbackIsolation) {
+        this.rollbackIsolation = rollbackIsolation;
+    }
+
     private void executeDeletes() {
         List<String> deleteStatements = sqlWriter.writeDeleteFromTableStatements(schema);
         for (String delete : deleteStatements) {
@@ -30,16 +61,33 @@ public class DeletingTestCaseExecutor extends TestCaseExecutor {
     public TestCaseResult executeTestCase(TestCase testCase) {
         TestCaseResult result;
         try {
-            executeDeletes();
-            executeInserts(testCase.getState());
-            executeInserts(testCase.getData());
-            executeDeletes();
+            if (rollbackIsolation) {
+                databaseInteractor.beginIsolation();
+                try {
+                    executeTestCaseInserts(testCase);
+                } finally {
+                    databaseInteractor.rollbackIsolation();
+                }
+            } else {
+                executeDeletes();
+                executeTestCaseInserts(testCase);
+                executeDeletes();
+            }
             result = TestCaseResult.SuccessfulTestCaseResult;
         } catch (StatementException ex) {
             result = new TestCaseResult(ex);
         }
         return result;
     }
+
+    private void executeTestCaseInserts(TestCase testCase) {
+        if (batchInserts) {
+            executeInsertsAsBatch(testCase.getState(), testCase.getData());
+        } else {
+            executeInserts(testCase.getState());
+            executeInserts(testCase.getData());
+        }
+    }
     
     @Override
     public TestCaseResult executeTestCase(TestCase testCase, TestCaseResult expectedResult) {
@@ -61,4 +109,67 @@ public class DeletingTestCaseExecutor extends TestCaseExecutor {
         return result;
     }
 
+    /**
+     * Inserts the rows of each {@link Data} in order in a single JDBC batch,
+     * failing at the first row that could not be inserted just as
+     * {@link #executeInserts(Data)} would. If the DBMS does not report which
+     * row failed, the inserts are undone and the rows inserted one by one.
+     *
+     * @param data The data to insert, in order
+     */
+    protected void executeInsertsAsBatch(Data... data) {
+        List<String> statements = new ArrayList<>();
+        for (Data d : data) {
+            for (Row row : getRowsInInsertOrder(d)) {
+                statements.add(writeInsertStatement(row));
+            }
+        }
+        int[] results = databaseInteractor.executeInsertsAsBatch(statements);
+        if (results == null) {
+            if (rollbackIsolation) {
+                // the failure may have aborted the transaction (e.g., Postgres)
+                databaseInteractor.rollbackIsolation();
+                databaseInteractor.beginIsolation();
+            } else {
+                executeDeletes();
+            }
+            for (Data d : data) {
+                executeInserts(d);
+            }
+            return;
+        }
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != 1) {
+                throw new InsertStatementException("Failed, result was: " + results[i], statements.get(i));
+            }
+        }
+    }
+
+    /**
+     * Gets the rows of a {@link Data} in the order they are inserted.
+     *
+     * @param data The data
+     * @return The rows, table by table
+     */
+    protected List<Row> getRowsInInsertOrder(Data data) {
+        List<Row> rows = new ArrayList<>();
+        List<Table> stateTables = data.getTables();
+        for (Table table : tables) {
+            if (stateTables.contains(table)) {
+                rows.addAll(data.getRows(table));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Writes the INSERT statement for a row.
+     *
+     * @param row The row
+     * @return The statement
+     */
+    protected String writeInsertStatement(Row row) {
+        return sqlWriter.writeInsertStatement(row);
+    }
+
 }
@@ -27,11 +27,12 @@ public class FullSchemataDeletingTestCaseExecutor extends DeletingTestCaseExecut
             for (Table stateTable : stateTables) {
                 if (table.getIdentifier().toString().replace(schemataPrefix, "").equals(stateTable.getIdentifier().toString())) {
                     List<Row> rows = data.getRows(stateTable);
+                    String statement = sqlWriter.writeParameterisedInsertStatement(stateTable).replaceAll("INSERT INTO \"", "INSERT INTO \"" + schemataPrefix);
                     for (Row row : rows) {
-                        String statement = sqlWriter.writeInsertStatement(row).replaceAll("INSERT INTO \"", "INSERT INTO \"" + schemataPrefix);
-                        Integer result = databaseInteractor.executeUpdate(statement);
+                        Integer result = databaseInteractor.executeInsert(statement, row);
                         if (result != 1) {
-                            throw new InsertStatementException("Failed, result was: " + result, statement);
+                            throw new InsertStatementException("Failed, result was: " + result,
+                                    sqlWriter.writeInsertStatement(row).replaceAll("INSERT INTO \"", "INSERT INTO \"" + schemataPrefix));
                         }
                     }
                 }
@@ -60,4 +61,23 @@ public class FullSchemataDeletingTestCaseExecutor extends DeletingTestCaseExecut
         }
     }
 
+    @Override
+    protected List<Row> getRowsInInsertOrder(Data data) {
+        List<Row> rows = new ArrayList<>();
+        List<Table> stateTables = data.getTables();
+        for (Table table : tables) {
+            for (Table stateTable : stateTables) {
+                if (table.getIdentifier().toString().replace(schemataPrefix, "").equals(stateTable.getIdentifier().toString())) {
+                    rows.addAll(data.getRows(stateTable));
+                }
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    protected String writeInsertStatement(Row row) {
+        return sqlWriter.writeInsertStatement(row).replaceAll("INSERT INTO \"", "INSERT INTO \"" + schemataPrefix);
+    }
+
 }
@@ -0,0 +1,192 @@
+package org.schemaanalyst.mutation.analysis.executor.testcase;
+
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.Value;
+import org.schemaanalyst.logic.RelationalOperator;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.MatchPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.MatchPredicateChecker;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.PredicateChecker;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.RelationalChecker;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * <p>
+ * Checks a {@link MatchPredicate} against the rows of a
+ * {@link VirtualRunningState} using a {@link VirtualMatchIndex}, rather than
+ * comparing against every state row in turn. The result is the same as that
+ * of a {@link MatchPredicateChecker} over the same data and state, but no
+ * match records are produced.</p>
+ *
+ * <p>
+ * Only the shapes of predicate produced for UNIQUE, PRIMARY KEY and FOREIGN
+ * KEY constraints can be indexed; {@link #supports(MatchPredicate)} should be
+ * used to test for these.</p>
+ */
+public class IndexedMatchPredicateChecker extends PredicateChecker {
+
+    private final MatchPredicate matchPredicate;
+    private final Data data;
+    private final VirtualMatchIndex index;
+    private final boolean matching;
+    private final List<Column> columns;
+    private final List<Column> matchingColumns, nonMatchingColumns;
+    private final List<Column> matchingRefColumns, nonMatchingRefColumns;
+
+    public IndexedMatchPredicateChecker(MatchPredicate matchPredicate, Data data, VirtualRunningState state) {
+        this.matchPredicate = matchPredicate;
+        this.data = data;
+        this.matchingColumns = matchPredicate.getMatchingColumns();
+        this.nonMatchingColumns = matchPredicate.getNonMatchingColumns();
+        this.matchingRefColumns = matchPredicate.getMatchingReferenceColumns();
+        this.nonMatchingRefColumns = matchPredicate.getNonMatchingReferenceColumns();
+        this.matching = !matchingColumns.isEmpty();
+        this.columns = matching ? matchingColumns : nonMatchingColumns;
+        this.index = state.getIndex(matchPredicate.getReferenceTable(),
+                matching ? matchingRefColumns : nonMatchingRefColumns);
+    }
+
+    /**
+     * Whether a predicate can be checked using an index. This is the case if
+     * it either requires all its columns to match (as for a FOREIGN KEY) or
+     * requires at least one of its columns to not match (as for a UNIQUE or
+     * PRIMARY KEY).
+     *
+     * @param matchPredicate The predicate
+     * @return Whether the predicate can be checked by this class
+     */
+    public static boolean supports(MatchPredicate matchPredicate) {
+        int numMatching = matchPredicate.getMatchingColumns().size();
+        int numNonMatching = matchPredicate.getNonMatchingColumns().size();
+        if (numMatching > 0 && numNonMatching == 0) {
+            return numMatching == 1 || matchPredicate.getMode().isAnd();
+        } else if (numNonMatching > 0 && numMatching == 0) {
+            return numNonMatching == 1 || matchPredicate.getMode().isOr();
+        }
+        return false;
+    }
+
+    @Override
+    public MatchPredicate getPredicate() {
+        return matchPredicate;
+    }
+
+    @Override
+    public boolean check() {
+        List<Row> rows = data.getRows(matchPredicate.getTable());
+        if (rows.isEmpty()) {
+            return false;
+        }
+
+        boolean result = true;
+        ListIterator<Row> rowsIterator = rows.listIterator();
+        while (rowsIterator.hasNext()) {
+            Row row = rowsIterator.next();
+            List<Row> dataRows = getDataRows(rowsIterator.previousIndex());
+
+            int numRows = index.size() + dataRows.size();
+            if (numRows > 0) {
+                int numNonCompliantRows = countNonCompliantStateRows(row);
+                for (Row dataRow : dataRows) {
+                    if (!checkRowPair(row, dataRow)) {
+                        numNonCompliantRows++;
+                    }
+                }
+                if (numNonCompliantRows > 0 && numNonCompliantRows == numRows) {
+                    result = false;
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<Row> getDataRows(int index) {
+        List<Row> compareRows = data.getRows(matchPredicate.getReferenceTable());
+        if (matchPredicate.tableIsRefTable()) {
+            if (!matchPredicate.colsAreRefCols()) {
+                // include the current record  -- this is an FK to the same table
+                index++;
+            }
+            compareRows = compareRows.subList(0, index);
+        }
+        return compareRows;
+    }
+
+    private int countNonCompliantStateRows(Row row) {
+        List<Value> values = VirtualMatchIndex.getValues(row, columns);
+        boolean hasNull = values.contains(null);
+
+        if (matching) {
+            // a state row complies if each column is equal, or NULL
+            if (!hasNull) {
+                int numEqual = index.countEqual(values);
+                if (numEqual != VirtualMatchIndex.NOT_INDEXABLE) {
+                    int numCompliant = numEqual;
+                    for (Row stateRow : index.getIncompleteRows()) {
+                        if (checkRowPair(row, stateRow)) {
+                            numCompliant++;
+                        }
+                    }
+                    return index.size() - numCompliant;
+                }
+            }
+        } else {
+            // a state row only fails to comply if every column is equal, and not NULL
+            if (hasNull) {
+                return 0;
+            }
+            int numEqual = index.countEqual(values);
+            if (numEqual != VirtualMatchIndex.NOT_INDEXABLE) {
+                return numEqual;
+            }
+        }
+
+        int numNonCompliant = 0;
+        for (Row stateRow : index.getRows()) {
+            if (!checkRowPair(row, stateRow)) {
+                numNonCompliant++;
+            }
+        }
+        return numNonCompliant;
+    }
+
+    private boolean checkRowPair(Row row, Row compareRow) {
+        return checkColumnLists(row, compareRow, matchingColumns, matchingRefColumns, true)
+                && checkColumnLists(row, compareRow, nonMatchingColumns, nonMatchingRefColumns, false);
+    }
+
+    private boolean checkColumnLists(Row row, Row compareRow, List<Column> cols, List<Column> refCols, boolean shouldMatch) {
+        Iterator<Column> colsIterator = cols.iterator();
+        Iterator<Column> refColsIterator = refCols.iterator();
+
+        if (colsIterator.hasNext()) {
+            boolean allPairingsSatisfied = true;
+            boolean onePairingSatisfied = false;
+            RelationalOperator op = shouldMatch ? RelationalOperator.EQUALS : RelationalOperator.NOT_EQUALS;
+
+            while (colsIterator.hasNext()) {
+                Value value = row.getCell(colsIterator.next()).getValue();
+                Value refValue = compareRow.getCell(refColsIterator.next()).getValue();
+                if (new RelationalChecker(value, op, refValue, true).check()) {
+                    onePairingSatisfied = true;
+                } else {
+                    allPairingsSatisfied = false;
+                }
+            }
+
+            return (matchPredicate.getMode().isAnd() && allPairingsSatisfied)
+                    || (matchPredicate.getMode().isOr() && onePairingSatisfied);
+        }
+        return true;
+    }
+
+    @Override
+    public String getInfo() {
+        return "Indexed match clause: " + matchPredicate + "\n"
+                + "\t* Success: " + check() + "\n";
+    }
+}
@@ -87,11 +87,11 @@ public class TestCaseExecutor {
         for (Table table : tables) {
             if (stateTables.contains(table)) {
                 List<Row> rows = data.getRows(table);
+                String statement = sqlWriter.writeParameterisedInsertStatement(table);
                 for (Row row : rows) {
-                    String statement = sqlWriter.writeInsertStatement(row);
-                    Integer result = databaseInteractor.executeUpdate(statement);
+                    Integer result = databaseInteractor.executeInsert(statement, row);
                     if (result != 1) {
-                        throw new InsertStatementException("Failed, result was: " + result, statement);
+                        throw new InsertStatementException("Failed, result was: " + result, sqlWriter.writeInsertStatement(row));
                     }
                 }
             }
@@ -0,0 +1,241 @@
+package org.schemaanalyst.mutation.analysis.executor.testcase;
+
+import org.schemaanalyst.data.BooleanValue;
+import org.schemaanalyst.data.CompoundValue;
+import org.schemaanalyst.data.DateTimeValue;
+import org.schemaanalyst.data.DateValue;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.StringValue;
+import org.schemaanalyst.data.TimeValue;
+import org.schemaanalyst.data.TimestampValue;
+import org.schemaanalyst.data.Value;
+import org.schemaanalyst.data.ValueVisitor;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Table;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * A hash index over the rows of a table, keyed on the values of a tuple of
+ * columns. Rows whose tuple contains no NULL are counted by key, so the number
+ * of rows holding an equal tuple can be looked up without scanning. Rows whose
+ * tuple contains a NULL are kept aside, since a NULL compares as equal to
+ * anything in a {@link org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.RelationalChecker}
+ * that allows NULLs.</p>
+ *
+ * <p>
+ * Two values are only considered equal by key if they have the same class, as
+ * values of differing classes are compared by their string representation.
+ * Lookups that cannot be answered this way return {@link #NOT_INDEXABLE} and
+ * the caller must scan {@link #getRows()} instead.</p>
+ */
+public class VirtualMatchIndex {
+
+    /**
+     * The value returned by a lookup that cannot be answered by the index.
+     */
+    public static final int NOT_INDEXABLE = -1;
+
+    private final Table table;
+    private final List<Column> columns;
+    private final List<Row> rows;
+    private final List<Row> incompleteRows;
+    private final Map<List<Object>, Integer> keyCounts;
+    private final Class<?>[] keyClasses;
+    private boolean indexable;
+
+    public VirtualMatchIndex(Table table, List<Column> columns) {
+        this.table = table;
+        this.columns = new ArrayList<>(columns);
+        this.rows = new ArrayList<>();
+        this.incompleteRows = new ArrayList<>();
+        this.keyCounts = new HashMap<>();
+        this.keyClasses = new Class<?>[columns.size()];
+        this.indexable = true;
+    }
+
+    public Table getTable() {
+        return table;
+    }
+
+    public List<Column> getColumns() {
+        return new ArrayList<>(columns);
+    }
+
+    /**
+     * Adds a row to the index.
+     *
+     * @param row The row, which must belong to the indexed table
+     */
+    public void add(Row row) {
+        rows.add(row);
+        List<Value> values = getValues(row, columns);
+        if (values.contains(null)) {
+            incompleteRows.add(row);
+            return;
+        }
+        for (int i = 0; i < keyClasses.length; i++) {
+            Class<?> valueClass = values.get(i).getClass();
+            if (keyClasses[i] == null) {
+                keyClasses[i] = valueClass;
+            } else if (keyClasses[i] != valueClass) {
+                indexable = false;
+            }
+        }
+        List<Object> key = createKey(values);
+        if (key == null) {
+            indexable = false;
+        } else {
+            Integer count = keyCounts.get(key);
+            keyCounts.put(key, count == null ? 1 : count + 1);
+        }
+    }
+
+    /**
+     * Removes all rows from the index.
+     */
+    public void clear() {
+        rows.clear();
+        incompleteRows.clear();
+        keyCounts.clear();
+        for (int i = 0; i < keyClasses.length; i++) {
+            keyClasses[i] = null;
+        }
+        indexable = true;
+    }
+
+    /**
+     * Counts the rows with no NULL in the indexed columns whose values equal
+     * the given values.
+     *
+     * @param values The values to look up, none of which may be NULL
+     * @return The number of rows, or {@link #NOT_INDEXABLE}
+     */
+    public int countEqual(List<Value> values) {
+        if (!indexable) {
+            return NOT_INDEXABLE;
+        }
+        if (keyCounts.isEmpty()) {
+            return 0;
+        }
+        for (int i = 0; i < keyClasses.length; i++) {
+            if (values.get(i).getClass() != keyClasses[i]) {
+                return NOT_INDEXABLE;
+            }
+        }
+        List<Object> key = createKey(values);
+        if (key == null) {
+            return NOT_INDEXABLE;
+        }
+        Integer count = keyCounts.get(key);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * @return All rows added to the index, in insertion order
+     */
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The rows holding a NULL in at least one indexed column
+     */
+    public List<Row> getIncompleteRows() {
+        return incompleteRows;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Gets the values of a row for a list of columns.
+     *
+     * @param row The row
+     * @param columns The columns
+     * @return The values, in column order
+     */
+    public static List<Value> getValues(Row row, List<Column> columns) {
+        List<Value> values = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            values.add(row.getCell(column).getValue());
+        }
+        return values;
+    }
+
+    private static List<Object> createKey(List<Value> values) {
+        List<Object> key = new ArrayList<>(values.size());
+        for (Value value : values) {
+            Object element = createKey(value);
+            if (element == null) {
+                return null;
+            }
+            key.add(element);
+        }
+        return key;
+    }
+
+    /**
+     * Creates an object whose equality matches that of an EQUALS comparison
+     * of two values of the same class, or null if there is no such object.
+     */
+    private static Object createKey(Value value) {
+        return new ValueVisitor() {
+            Object key;
+
+            Object createKey(Value value) {
+                value.accept(this);
+                return key;
+            }
+
+            @Override
+            public void visit(BooleanValue value) {
+                key = value.get();
+            }
+
+            @Override
+            public void visit(DateValue value) {
+                key = createCompoundKey(value);
+            }
+
+            @Override
+            public void visit(DateTimeValue value) {
+                key = createCompoundKey(value);
+            }
+
+            @Override
+            public void visit(NumericValue value) {
+                key = value.get();
+            }
+
+            @Override
+            public void visit(StringValue value) {
+                key = createCompoundKey(value);
+            }
+
+            @Override
+            public void visit(TimeValue value) {
+                key = createCompoundKey(value);
+            }
+
+            @Override
+            public void visit(TimestampValue value) {
+                key = value.get();
+            }
+        }.createKey(value);
+    }
+
+    private static Object createCompoundKey(CompoundValue value) {
+        List<Value> elements = value.getElements();
+        if (elements.contains(null)) {
+            return null;
+        }
+        return createKey(elements);
+    }
+}
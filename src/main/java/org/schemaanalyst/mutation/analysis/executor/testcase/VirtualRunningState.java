@@ -0,0 +1,98 @@
+package org.schemaanalyst.mutation.analysis.executor.testcase;
+
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Table;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * The rows accepted so far while virtually executing a test case, along with
+ * a {@link VirtualMatchIndex} for each tuple of columns that the constraints
+ * of the schema match against. Indexes are updated incrementally as rows are
+ * added, so checking a new row against the state does not require a scan.</p>
+ */
+public class VirtualRunningState {
+
+    private final Data data;
+    private final Map<Table, List<VirtualMatchIndex>> indexes;
+
+    public VirtualRunningState() {
+        data = new Data();
+        indexes = new HashMap<>();
+    }
+
+    /**
+     * @return The rows of the state, as a {@link Data} instance
+     */
+    public Data getData() {
+        return data;
+    }
+
+    /**
+     * Replaces the contents of this state with the rows of another.
+     *
+     * @param state The rows to start from
+     */
+    public void reset(Data state) {
+        data.clear();
+        for (List<VirtualMatchIndex> tableIndexes : indexes.values()) {
+            for (VirtualMatchIndex index : tableIndexes) {
+                index.clear();
+            }
+        }
+        for (Table table : state.getTables()) {
+            for (Row row : state.getRows(table)) {
+                addRow(table, row);
+            }
+        }
+    }
+
+    /**
+     * Adds a row to the state, updating the indexes for its table.
+     *
+     * @param table The table of the row
+     * @param row The row
+     */
+    public void addRow(Table table, Row row) {
+        data.addRow(table, row);
+        List<VirtualMatchIndex> tableIndexes = indexes.get(table);
+        if (tableIndexes != null) {
+            for (VirtualMatchIndex index : tableIndexes) {
+                index.add(row);
+            }
+        }
+    }
+
+    /**
+     * Gets the index on a tuple of columns of a table, creating it from the
+     * current rows if it does not yet exist.
+     *
+     * @param table The table
+     * @param columns The columns
+     * @return The index
+     */
+    public VirtualMatchIndex getIndex(Table table, List<Column> columns) {
+        List<VirtualMatchIndex> tableIndexes = indexes.get(table);
+        if (tableIndexes == null) {
+            tableIndexes = new ArrayList<>();
+            indexes.put(table, tableIndexes);
+        }
+        for (VirtualMatchIndex index : tableIndexes) {
+            if (index.getColumns().equals(columns)) {
+                return index;
+            }
+        }
+        VirtualMatchIndex index = new VirtualMatchIndex(table, columns);
+        for (Row row : data.getRows(table)) {
+            index.add(row);
+        }
+        tableIndexes.add(index);
+        return index;
+    }
+}
@@ -9,20 +9,42 @@ import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.ConstraintSupplier;
 import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.ConstraintSupplierFactory;
 import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.PredicateGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.AndPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.ExpressionPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.MatchPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.NullPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.OrPredicate;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.Predicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.PredicateVisitor;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.AndPredicateChecker;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.OrPredicateChecker;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.PredicateChecker;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.PredicateCheckerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by phil on 28/01/2015.
+ *
+ * <p>The acceptance predicate for each table is generated once, the first time
+ * a row is inserted into that table, and its checker is then reused for every
+ * subsequent row and test case. The checkers are bound to data instances owned
+ * by this executor, so an executor must not be shared between threads.</p>
+ *
+ * <p>UNIQUE, PRIMARY KEY and FOREIGN KEY checks are made against a
+ * {@link VirtualRunningState}, which indexes the accepted rows on the matched
+ * columns, rather than by comparing against each accepted row in turn.</p>
  */
 public class VirtualTestCaseExecutor {
 
     private Schema schema;
     private ConstraintSupplier constraintSupplier;
+    private Map<Table, PredicateChecker> insertCheckers;
+    private Data insertData;
+    private VirtualRunningState runningState;
 
     /**
      * Constructor
@@ -32,6 +54,9 @@ public class VirtualTestCaseExecutor {
     public VirtualTestCaseExecutor(Schema schema, DBMS dbms) {
         this.schema = schema;
         this.constraintSupplier = ConstraintSupplierFactory.instantiateConstraintSupplier(dbms);
+        this.insertCheckers = new HashMap<>();
+        this.insertData = new Data();
+        this.runningState = new VirtualRunningState();
     }
 
     /**
@@ -66,10 +91,13 @@ public class VirtualTestCaseExecutor {
 
     private List<Boolean> executeInserts(Data data, Data state) {
         List<Boolean> results = new ArrayList<>();
-        Data runningState = state.duplicate();
+        runningState.reset(state);
         for (Table table : data.getTables()) {
+            PredicateChecker predicateChecker = getInsertChecker(table);
             for (Row row : data.getRows(table)) {
-                boolean result = executeInsert(row, runningState);
+                insertData.clear();
+                insertData.addRow(table, row);
+                boolean result = predicateChecker.check();
                 if (result) {
                     runningState.addRow(table, row);
                 }
@@ -79,12 +107,73 @@ public class VirtualTestCaseExecutor {
         return results;
     }
 
-    private boolean executeInsert(Row row, Data runningState) {
-        Table table = row.getTable();
-        Data data = new Data();
-        data.addRow(table, row);
-        Predicate predicate = PredicateGenerator.generatePredicate(constraintSupplier.getConstraints(schema, table));
-        PredicateChecker predicateChecker = PredicateCheckerFactory.instantiate(predicate, true, data, runningState);
-        return predicateChecker.check();
+    /**
+     * Gets the checker deciding whether a row is accepted by a table, creating
+     * it if this is the first insert into that table.
+     * @param table The table
+     * @return The checker, bound to the single inserted row and running state
+     */
+    private PredicateChecker getInsertChecker(Table table) {
+        PredicateChecker predicateChecker = insertCheckers.get(table);
+        if (predicateChecker == null) {
+            Predicate predicate = PredicateGenerator.generatePredicate(constraintSupplier.getConstraints(schema, table));
+            predicateChecker = instantiateChecker(predicate);
+            insertCheckers.put(table, predicateChecker);
+        }
+        return predicateChecker;
+    }
+
+    /**
+     * Creates a checker for a predicate, using indexed checkers for any
+     * {@link MatchPredicate}s that support them.
+     * @param predicate The predicate
+     * @return The checker
+     */
+    private PredicateChecker instantiateChecker(Predicate predicate) {
+        return new PredicateVisitor() {
+            PredicateChecker predicateChecker;
+
+            PredicateChecker instantiate(Predicate predicate) {
+                predicate.accept(this);
+                return predicateChecker;
+            }
+
+            List<PredicateChecker> instantiateAll(List<Predicate> predicates) {
+                List<PredicateChecker> predicateCheckers = new ArrayList<>();
+                for (Predicate predicate : predicates) {
+                    predicateCheckers.add(instantiateChecker(predicate));
+                }
+                return predicateCheckers;
+            }
+
+            @Override
+            public void visit(AndPredicate predicate) {
+                predicateChecker = new AndPredicateChecker(predicate, instantiateAll(predicate.getSubPredicates()));
+            }
+
+            @Override
+            public void visit(ExpressionPredicate predicate) {
+                predicateChecker = PredicateCheckerFactory.instantiate(predicate, true, insertData, runningState.getData());
+            }
+
+            @Override
+            public void visit(MatchPredicate predicate) {
+                if (IndexedMatchPredicateChecker.supports(predicate)) {
+                    predicateChecker = new IndexedMatchPredicateChecker(predicate, insertData, runningState);
+                } else {
+                    predicateChecker = PredicateCheckerFactory.instantiate(predicate, true, insertData, runningState.getData());
+                }
+            }
+
+            @Override
+            public void visit(NullPredicate predicate) {
+                predicateChecker = PredicateCheckerFactory.instantiate(predicate, true, insertData, runningState.getData());
+            }
+
+            @Override
+            public void visit(OrPredicate predicate) {
+                predicateChecker = new OrPredicateChecker(predicate, instantiateAll(predicate.getSubPredicates()));
+            }
+        }.instantiate(predicate);
     }
 }
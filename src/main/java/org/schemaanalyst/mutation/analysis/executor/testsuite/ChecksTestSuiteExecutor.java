@@ -1,8 +1,6 @@
-
 package org.schemaanalyst.mutation.analysis.executor.testsuite;
 
 import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
-import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.TestSuite;
 
 /**
@@ -12,17 +10,11 @@ import org.schemaanalyst.testgeneration.TestSuite;
 public class ChecksTestSuiteExecutor extends TestSuiteExecutor {
 
     @Override
-    public TestSuiteResult executeTestSuite(TestCaseExecutor executor, TestSuite suite, TestSuiteResult expectedResult) {
-        throw new UnsupportedOperationException("Transactions cannot be used with ChecksTechnique");
-    }
-
-    @Override
-    public TestSuiteResult executeTestSuite(TestCaseExecutor executor, TestSuite suite) {
-        TestSuiteResult result = new TestSuiteResult();
-        for (TestCase testCase : suite.getTestCases()) {
-            result.add(testCase, executor.executeTestCase(testCase));
+    protected TestSuiteResult executeTestCases(TestCaseExecutor executor, TestSuite suite, TestSuiteResult expectedResult, TestSuiteResult originalResult) {
+        if (expectedResult != null) {
+            throw new UnsupportedOperationException("Transactions cannot be used with ChecksTechnique");
         }
-        return result;
+        return super.executeTestCases(executor, suite, null, originalResult);
     }
-    
+
 }
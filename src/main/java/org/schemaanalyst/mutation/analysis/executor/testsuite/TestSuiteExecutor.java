@@ -1,28 +1,64 @@
 package org.schemaanalyst.mutation.analysis.executor.testsuite;
 
 import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseResult;
 import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.TestSuite;
 
+import java.util.Objects;
+
 /**
  * <p>Executes each {@link TestCase} of a {@link TestSuite} using a {@link TestCaseExecutor}.</p>
- * 
+ *
  * @author Chris J. Wright
  */
 public class TestSuiteExecutor {
 
     public TestSuiteResult executeTestSuite(TestCaseExecutor executor, TestSuite suite) {
-        TestSuiteResult result = new TestSuiteResult();
-        for (TestCase testCase : suite.getTestCases()) {
-            result.add(testCase, executor.executeTestCase(testCase));
-        }
-        return result;
+        return executeTestCases(executor, suite, null, null);
     }
-    
+
     public TestSuiteResult executeTestSuite(TestCaseExecutor executor, TestSuite suite, TestSuiteResult expectedResult) {
+        return executeTestCases(executor, suite, expectedResult, null);
+    }
+
+    /**
+     * Executes the {@link TestCase}s of a {@link TestSuite} in order, stopping
+     * as soon as the result of one differs from its result in the original
+     * results. The returned result therefore only equals the original results
+     * if every test case gave the same result.
+     *
+     * @param executor The test case executor
+     * @param suite The test suite
+     * @param originalResult The results to compare against
+     * @param useExpectedResult Whether to also pass the original results to
+     * the executor as the expected results (e.g. to use transactions)
+     * @return The execution results, up to and including the first difference
+     */
+    public TestSuiteResult executeTestSuiteUntilDifferent(TestCaseExecutor executor, TestSuite suite, TestSuiteResult originalResult, boolean useExpectedResult) {
+        return executeTestCases(executor, suite, useExpectedResult ? originalResult : null, originalResult);
+    }
+
+    /**
+     * Executes the {@link TestCase}s of a {@link TestSuite}.
+     *
+     * @param executor The test case executor
+     * @param suite The test suite
+     * @param expectedResult The expected results, or null if not known
+     * @param originalResult The results at which to stop on the first
+     * difference, or null to execute every test case
+     * @return The execution results
+     */
+    protected TestSuiteResult executeTestCases(TestCaseExecutor executor, TestSuite suite, TestSuiteResult expectedResult, TestSuiteResult originalResult) {
         TestSuiteResult result = new TestSuiteResult();
         for (TestCase testCase : suite.getTestCases()) {
-            result.add(testCase, executor.executeTestCase(testCase, expectedResult.getResult(testCase)));
+            TestCaseResult testCaseResult = expectedResult == null
+                    ? executor.executeTestCase(testCase)
+                    : executor.executeTestCase(testCase, expectedResult.getResult(testCase));
+            result.add(testCase, testCaseResult);
+            if (originalResult != null && !Objects.equals(originalResult.getResult(testCase), testCaseResult)) {
+                break;
+            }
         }
         return result;
     }
@@ -1,16 +1,18 @@
-
 package org.schemaanalyst.mutation.analysis.executor.testsuite;
 
 import org.schemaanalyst.mutation.analysis.executor.testcase.VirtualTestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testcase.VirtualTestCaseResult;
 import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.TestSuite;
 
+import java.util.Objects;
+
 /**
  *
  * @author Chris J. Wright
  */
 public class VirtualTestSuiteExecutor {
-    
+
     public VirtualTestSuiteResult executeTestSuite(VirtualTestCaseExecutor executor, TestSuite suite) {
         VirtualTestSuiteResult result = new VirtualTestSuiteResult();
         for (TestCase testCase : suite.getTestCases()) {
@@ -18,5 +20,28 @@ public class VirtualTestSuiteExecutor {
         }
         return result;
     }
-    
+
+    /**
+     * Executes the {@link TestCase}s of a {@link TestSuite} in order, stopping
+     * as soon as the result of one differs from its result in the original
+     * results. The returned result therefore only equals the original results
+     * if every test case gave the same result.
+     *
+     * @param executor The test case executor
+     * @param suite The test suite
+     * @param originalResult The results to compare against
+     * @return The execution results, up to and including the first difference
+     */
+    public VirtualTestSuiteResult executeTestSuiteUntilDifferent(VirtualTestCaseExecutor executor, TestSuite suite, VirtualTestSuiteResult originalResult) {
+        VirtualTestSuiteResult result = new VirtualTestSuiteResult();
+        for (TestCase testCase : suite.getTestCases()) {
+            VirtualTestCaseResult testCaseResult = executor.executeTestCase(testCase);
+            result.add(testCase, testCaseResult);
+            if (!Objects.equals(originalResult.getResult(testCase), testCaseResult)) {
+                break;
+            }
+        }
+        return result;
+    }
+
 }
@@ -97,6 +97,7 @@ public class MutationAnalysisUtils {
      */
     public static void renameMutantConstraints(String prefix, Mutant<Schema> mutant) {
         Schema mutantSchema = mutant.getMutatedArtefact();
+        mutantSchema.unshare();
         for (Constraint constraint : mutantSchema.getConstraints()) {
             if (constraint.hasIdentifier() && constraint.getIdentifier().get() != null) {
                 String name = constraint.getIdentifier().get();
@@ -130,6 +131,7 @@ public class MutationAnalysisUtils {
      */
     public static void renameChangedTable(Mutant<Schema> mutant, int id, String changedTableName) {
         Schema mutantSchema = mutant.getMutatedArtefact();
+        mutantSchema.unshare();
         Table changedTable = mutantSchema.getTable(changedTableName);
         String newName = String.format("mutant_%d_%s", id, changedTableName);
         changedTable.setName(newName);
@@ -145,6 +147,7 @@ public class MutationAnalysisUtils {
      */
     public static void renameChangedTableConstraints(Mutant<Schema> mutant, int id, String changedTableName) {
         Schema mutantSchema = mutant.getMutatedArtefact();
+        mutantSchema.unshare();
         Table changedTable = mutantSchema.getTable(changedTableName);
         List<Constraint> constraints = mutantSchema.getConstraints(changedTable);
         for (Constraint constraint : constraints) {
@@ -273,6 +273,7 @@ public class FullTransactedFullSchemata extends Runner {
     private static void renameMutants(List<Mutant<Schema>> mutants) {
         for (int i = 0; i < mutants.size(); i++) {
             Schema mutantSchema = mutants.get(i).getMutatedArtefact();
+            mutantSchema.unshare();
             for (Table table : mutantSchema.getTablesInOrder()) {
                 table.setName("mutant_" + (i + 1) + "_" + table.getName());
             }
@@ -0,0 +1,124 @@
+package org.schemaanalyst.mutation.analysis.util;
+
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.pipeline.ProgrammaticNoRemoversPipeline;
+import org.schemaanalyst.mutation.quasimutant.DBMSRemover;
+import org.schemaanalyst.mutation.quasimutant.StaticDBMSRemover;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.util.csv.CSVFileWriter;
+import org.schemaanalyst.util.csv.CSVResult;
+import org.schemaanalyst.util.runner.Parameter;
+import org.schemaanalyst.util.runner.RequiredParameters;
+import org.schemaanalyst.util.runner.Runner;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * {@link Runner} for checking that the {@link StaticDBMSRemover} of the DBMS
+ * in the database configuration removes the same mutants as the
+ * {@link DBMSRemover}, which tries to create each mutant with the DBMS
+ * itself. Each mutant that only one of them removes is logged, and the
+ * counts for each case study are written to a results file.
+ * </p>
+ */
+@RequiredParameters("casestudy")
+public class CompareDBMSRemovers extends Runner {
+
+    private final static Logger LOGGER = Logger.getLogger(CompareDBMSRemovers.class.getName());
+    @Parameter("The name of the schema to use, or multiple case studies "
+            + "separated by the ':' character.")
+    protected String casestudy;
+    @Parameter("The mutation operators to produce mutants with, separated by "
+            + "the ',' character.")
+    protected String operators = "CCInExpressionRHSListExpressionElementR,CCNullifier,CCRelationalExpressionOperatorE,"
+            + "FKCColumnPairA,FKCColumnPairE,FKCColumnPairR,NNCA,NNCR,PKCColumnA,PKCColumnE,PKCColumnR,"
+            + "UCColumnA,UCColumnE,UCColumnR";
+
+    @Override
+    protected void task() {
+        String[] casestudies = casestudy.split(":");
+        for (String schemaName : casestudies) {
+            if (!schemaName.isEmpty()) {
+                Schema schema = instantiateSchema(schemaName);
+                compareWithSchema(schema);
+            }
+        }
+    }
+
+    private void compareWithSchema(Schema schema) {
+        String dbms = databaseConfiguration.getDbms();
+        List<Mutant<Schema>> mutants = new ProgrammaticNoRemoversPipeline(schema, operators).mutate();
+        Set<Mutant<Schema>> keptByStatic = asIdentitySet(instantiateRemover(dbms).removeMutants(new ArrayList<>(mutants)));
+        Set<Mutant<Schema>> keptByDBMS = asIdentitySet(new DBMSRemover().removeMutants(new ArrayList<>(mutants)));
+
+        int missed = 0;
+        int wronglyRemoved = 0;
+        for (Mutant<Schema> mutant : mutants) {
+            boolean removedByStatic = !keptByStatic.contains(mutant);
+            boolean removedByDBMS = !keptByDBMS.contains(mutant);
+            if (removedByDBMS && !removedByStatic) {
+                missed++;
+                LOGGER.log(Level.WARNING, "Rejected by {0} but not removed statically:\n{1}\n", new Object[]{dbms, mutant.getDescription()});
+            } else if (removedByStatic && !removedByDBMS) {
+                wronglyRemoved++;
+                LOGGER.log(Level.WARNING, "Removed statically but accepted by {0}:\n{1}\n", new Object[]{dbms, mutant.getDescription()});
+            }
+        }
+
+        CSVResult result = new CSVResult();
+        result.addValue("dbms", dbms);
+        result.addValue("casestudy", schema);
+        result.addValue("mutants", mutants.size());
+        result.addValue("removedstatically", mutants.size() - keptByStatic.size());
+        result.addValue("removedbydbms", mutants.size() - keptByDBMS.size());
+        result.addValue("missed", missed);
+        result.addValue("wronglyremoved", wronglyRemoved);
+        LOGGER.log(Level.FINE, "Result: {0}", result);
+        new CSVFileWriter(locationsConfiguration.getResultsDir() + File.separator + "comparedbmsremovers.dat").write(result);
+    }
+
+    private static Set<Mutant<Schema>> asIdentitySet(List<Mutant<Schema>> mutants) {
+        Set<Mutant<Schema>> set = Collections.newSetFromMap(new IdentityHashMap<Mutant<Schema>, Boolean>());
+        set.addAll(mutants);
+        return set;
+    }
+
+    @Override
+    protected void validateParameters() {
+    }
+
+    public static void main(String[] args) {
+        new CompareDBMSRemovers().run(args);
+    }
+
+    private static Schema instantiateSchema(String name) throws RuntimeException {
+        Schema schema;
+        try {
+            schema = (Schema) Class.forName(name).getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | IllegalAccessException | InstantiationException
+                | NoSuchMethodException | InvocationTargetException ex) {
+            throw new RuntimeException(ex);
+        }
+        return schema;
+    }
+
+    private static StaticDBMSRemover instantiateRemover(String dbms) throws RuntimeException {
+        StaticDBMSRemover remover;
+        try {
+            remover = (StaticDBMSRemover) Class.forName("org.schemaanalyst.mutation.quasimutant." + dbms + "Remover").getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | IllegalAccessException | InstantiationException
+                | NoSuchMethodException | InvocationTargetException ex) {
+            throw new RuntimeException(ex);
+        }
+        return remover;
+    }
+}
@@ -21,6 +21,7 @@ import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlrepresentation.Table;
 import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteReader;
 import org.schemaanalyst.testgeneration.TestSuiteGenerator;
 import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
 import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
@@ -29,9 +30,8 @@ import org.schemaanalyst.util.runner.RequiredParameters;
 import org.schemaanalyst.util.runner.Runner;
 import org.schemaanalyst.util.tuple.MixedPair;
 
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -206,12 +206,8 @@ public class OutputMutantsPossiblyImpaired extends Runner {
 
     private TestSuite loadTestSuite() {
         try {
-            FileInputStream fis = new FileInputStream(inputTestSuite);
-            try (ObjectInputStream in = new ObjectInputStream(fis)) {
-                TestSuite testSuite = (TestSuite) in.readObject();
-                return testSuite;
-            }
-        } catch (IOException | ClassNotFoundException ex) {
+            return TestSuiteReader.load(new File(inputTestSuite), schema, dbmsInstance.getValueFactory());
+        } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
     }
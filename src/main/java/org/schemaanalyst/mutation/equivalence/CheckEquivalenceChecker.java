@@ -55,5 +55,15 @@ public class CheckEquivalenceChecker extends EquivalenceChecker<CheckConstraint>
             return a.getExpression().equals(b.getExpression());
         }
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(CheckConstraint a) {
+        int result = ignoreName ? 0 : a.getIdentifier().hashCode();
+        result = 31 * result + a.getTable().getIdentifier().hashCode();
+        return 31 * result + a.getExpression().hashCode();
+    }
     
 }
@@ -3,8 +3,11 @@
 package org.schemaanalyst.mutation.equivalence;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * <p>
@@ -30,43 +33,123 @@ public abstract class EquivalenceChecker<T> {
         return (a == b);
     }
 
+    /**
+     * Gets a fingerprint of an element, which is the same for any two elements
+     * that are equivalent, so that elements with different fingerprints need
+     * not be tested for equivalence. The basic case gives every element the
+     * same fingerprint, which subclasses refine using the properties that
+     * they test.
+     *
+     * @param a The element
+     * @return The fingerprint
+     */
+    public int fingerprint(T a) {
+        return 0;
+    }
+
+    /**
+     * Gets a fingerprint of the elements of an iterable, which is the same for
+     * any two iterables that contain equivalent items, disregarding ordering
+     * and repetition of elements.
+     *
+     * @param iterable The iterable
+     * @return The fingerprint
+     */
+    public int fingerprint(Iterable<? extends T> iterable) {
+        Set<Integer> fingerprints = new HashSet<>();
+        for (T a : iterable) {
+            fingerprints.add(fingerprint(a));
+        }
+        return fingerprints.hashCode();
+    }
+
     /**
      * Tests if the iterable elements contain equivalent items, disregarding
-     * ordering of elements.
+     * ordering of elements. Only elements with the same fingerprint are tested
+     * for equivalence, so that the test takes linear rather than quadratic
+     * time when the elements have distinct fingerprints.
      *
      * @param iterableA The first iterable
      * @param iterableB The second iterable
      * @return Whether they contain equivalent elements
      */
     public boolean areEquivalent(Iterable<? extends T> iterableA, Iterable<? extends T> iterableB) {
-        return (subtract(iterableA, iterableB).isEmpty()) && (subtract(iterableB, iterableA).isEmpty());
+        Map<Integer, List<T>> indexA = index(iterableA);
+        Map<Integer, List<T>> indexB = index(iterableB);
+        if (!indexA.keySet().equals(indexB.keySet())) {
+            return false;
+        }
+        for (Map.Entry<Integer, List<T>> entry : indexA.entrySet()) {
+            List<T> bucketA = entry.getValue();
+            List<T> bucketB = indexB.get(entry.getKey());
+            for (T a : bucketA) {
+                if (!contains(bucketB, a)) {
+                    return false;
+                }
+            }
+            for (T b : bucketB) {
+                if (!contains(bucketA, b)) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     /**
      * Returns a list of those elements in A that do not have equivalent
-     * elements in B.
+     * elements in B. Only elements with the same fingerprint are tested for
+     * equivalence.
      *
      * @param iterableA The first iterable
      * @param iterableB The second iterable
      * @return A list of elements in A-B, according to equivalence
      */
     public List<T> subtract(Iterable<? extends T> iterableA, Iterable<? extends T> iterableB) {
+        Map<Integer, List<T>> indexB = index(iterableB);
         List<T> result = new ArrayList<>();
-        for (Iterator<? extends T> iterA = iterableA.iterator(); iterA.hasNext();) {
-            T a = iterA.next();
-            boolean found = false;
-            Iterator<? extends T> iterB = iterableB.iterator();
-            while (!found && iterB.hasNext()) {
-                T b = iterB.next();
-                if (areEquivalent(a, b)) {
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
+        for (T a : iterableA) {
+            List<T> bucket = indexB.get(fingerprint(a));
+            if (bucket == null || !contains(bucket, a)) {
                 result.add(a);
             }
         }
         return result;
     }
+
+    /**
+     * Groups the elements of an iterable by fingerprint.
+     *
+     * @param iterable The iterable
+     * @return The elements of the iterable, by fingerprint
+     */
+    private Map<Integer, List<T>> index(Iterable<? extends T> iterable) {
+        Map<Integer, List<T>> index = new HashMap<>();
+        for (T a : iterable) {
+            Integer fingerprint = fingerprint(a);
+            List<T> bucket = index.get(fingerprint);
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+                index.put(fingerprint, bucket);
+            }
+            bucket.add(a);
+        }
+        return index;
+    }
+
+    /**
+     * Tests if a list contains an element equivalent to the given element.
+     *
+     * @param list The list
+     * @param a The element
+     * @return Whether an equivalent element is in the list
+     */
+    private boolean contains(List<T> list, T a) {
+        for (T b : list) {
+            if (areEquivalent(a, b)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
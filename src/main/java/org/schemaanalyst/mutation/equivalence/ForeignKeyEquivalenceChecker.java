@@ -4,6 +4,8 @@ package org.schemaanalyst.mutation.equivalence;
 
 import org.schemaanalyst.sqlrepresentation.constraint.ForeignKeyConstraint;
 
+import java.util.HashSet;
+
 /**
  * <p>
  * An {@link EquivalenceChecker} that compares two {@link ForeignKeyConstraint}
@@ -57,5 +59,16 @@ public class ForeignKeyEquivalenceChecker extends MultiColumnEquivalenceChecker<
             return a.getReferenceColumns().containsAll(b.getReferenceColumns());
         }
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(ForeignKeyConstraint a) {
+        int result = super.fingerprint(a);
+        result = 31 * result + a.getReferenceTable().getIdentifier().hashCode();
+        result = 31 * result + a.getReferenceColumns().size();
+        return 31 * result + new HashSet<>(a.getReferenceColumns()).hashCode();
+    }
     
 }
@@ -4,6 +4,8 @@ package org.schemaanalyst.mutation.equivalence;
 
 import org.schemaanalyst.sqlrepresentation.constraint.MultiColumnConstraint;
 
+import java.util.HashSet;
+
 /**
  * <p>
  * An {@link EquivalenceChecker} that compares two {@link MultiColumnConstraint}
@@ -59,5 +61,16 @@ public class MultiColumnEquivalenceChecker<T extends MultiColumnConstraint> exte
             return a.getColumns().containsAll(b.getColumns());
         }
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(T a) {
+        int result = ignoreName ? 0 : a.getIdentifier().hashCode();
+        result = 31 * result + a.getTable().getIdentifier().hashCode();
+        result = 31 * result + a.getNumColumns();
+        return 31 * result + new HashSet<>(a.getColumns()).hashCode();
+    }
     
 }
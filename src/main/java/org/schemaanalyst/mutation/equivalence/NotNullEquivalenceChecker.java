@@ -53,5 +53,15 @@ public class NotNullEquivalenceChecker extends EquivalenceChecker<NotNullConstra
             return false;
         } else return a.getColumn().getIdentifier().equals(b.getColumn().getIdentifier());
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(NotNullConstraint a) {
+        int result = ignoreName ? 0 : a.getIdentifier().hashCode();
+        result = 31 * result + a.getTable().getIdentifier().hashCode();
+        return 31 * result + a.getColumn().getIdentifier().hashCode();
+    }
     
 }
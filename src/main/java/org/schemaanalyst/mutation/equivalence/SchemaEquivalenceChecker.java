@@ -95,4 +95,31 @@ public class SchemaEquivalenceChecker extends EquivalenceChecker<Schema> {
             return false;
         } else return notNullEquivalenceChecker.areEquivalent(a.getNotNullConstraints(), b.getNotNullConstraints());
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(Schema a) {
+        int result = fingerprintTablesAndKeys(a);
+        result = 31 * result + checkEquivalenceChecker.fingerprint(a.getCheckConstraints());
+        return 31 * result + notNullEquivalenceChecker.fingerprint(a.getNotNullConstraints());
+    }
+
+    /**
+     * Gets a fingerprint of the tables, primary keys, foreign keys and
+     * <tt>UNIQUE</tt> constraints of a schema, for subclasses that test the
+     * other constraints differently.
+     *
+     * @param a The schema
+     * @return The fingerprint
+     */
+    protected int fingerprintTablesAndKeys(Schema a) {
+        int result = a.getIdentifier().hashCode();
+        result = 31 * result + a.getTables().size();
+        result = 31 * result + tableEquivalenceChecker.fingerprint(a.getTables());
+        result = 31 * result + primaryKeyEquivalenceChecker.fingerprint(a.getPrimaryKeyConstraints());
+        result = 31 * result + foreignKeyEquivalenceChecker.fingerprint(a.getForeignKeyConstraints());
+        return 31 * result + uniqueEquivalenceChecker.fingerprint(a.getUniqueConstraints());
+    }
 }
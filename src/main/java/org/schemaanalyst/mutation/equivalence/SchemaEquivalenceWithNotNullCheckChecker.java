@@ -56,6 +56,15 @@ public class SchemaEquivalenceWithNotNullCheckChecker extends SchemaEquivalenceC
         } else return notNullEquivalenceChecker.areEquivalent(a.getNotNullConstraints(), b.getNotNullConstraints()) || hasEquivalentCheck(a, b);
     }
 
+    /**
+     * {@inheritDoc } As a <tt>NOT NULL</tt> constraint may be equivalent to a
+     * <tt>CHECK</tt> constraint, neither is included.
+     */
+    @Override
+    public int fingerprint(Schema a) {
+        return fingerprintTablesAndKeys(a);
+    }
+
     /**
      * Finds if there exists a NOT NULL that is equivalent to each excess CHECK 
      * constraint present in either schema.
@@ -51,5 +51,15 @@ public class TableEquivalenceChecker extends EquivalenceChecker<Table> {
             return columnEquivalenceChecker.areEquivalent(a.getColumns(), b.getColumns());
         }
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(Table a) {
+        int result = a.getIdentifier().hashCode();
+        result = 31 * result + a.getColumns().size();
+        return 31 * result + columnEquivalenceChecker.fingerprint(a.getColumns());
+    }
     
 }
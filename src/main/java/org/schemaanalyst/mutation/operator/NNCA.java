@@ -36,7 +36,7 @@ public class NNCA implements MutantProducer<Schema> {
             for (Column column : table.getColumns()) {
                 if (!schema.isNotNull(table, column)) {
                     // create a NOT NULL constraint on the column
-                    Schema dupAddSchema = schema.duplicate();
+                    Schema dupAddSchema = schema.shallowDuplicate();
                     Table dupAddTable = dupAddSchema.getTable(table.getName());
                     Column dupAddColumn = dupAddTable.getColumn(column.getName());
                     dupAddSchema.createNotNullConstraint(dupAddTable, dupAddColumn);
@@ -36,7 +36,7 @@ public class NNCAR implements MutantProducer<Schema> {
             for (Column column : table.getColumns()) {
                 if (!schema.isNotNull(table, column)) {
                     // create a NOT NULL constraint on the column
-                    Schema dupAddSchema = schema.duplicate();
+                    Schema dupAddSchema = schema.shallowDuplicate();
                     Table dupAddTable = dupAddSchema.getTable(table.getName());
                     Column dupAddColumn = dupAddTable.getColumn(column.getName());
                     dupAddSchema.createNotNullConstraint(dupAddTable, dupAddColumn);
@@ -45,7 +45,7 @@ public class NNCAR implements MutantProducer<Schema> {
                             + " in table " + dupAddTable));
                 } else {
                     // remove a NOT NULL constraint on the column
-                    Schema dupRemoveSchema = schema.duplicate();
+                    Schema dupRemoveSchema = schema.shallowDuplicate();
                     Table dupRemoveTable = dupRemoveSchema
                             .getTable(table.getName());
                     Column dupRemoveColumn = dupRemoveTable.getColumn(column
@@ -36,7 +36,7 @@ public class NNCR implements MutantProducer<Schema> {
             for (Column column : table.getColumns()) {
                 if (schema.isNotNull(table, column)) {
                     // remove a NOT NULL constraint on the column
-                    Schema dupRemoveSchema = schema.duplicate();
+                    Schema dupRemoveSchema = schema.shallowDuplicate();
                     Table dupRemoveTable = dupRemoveSchema
                             .getTable(table.getName());
                     Column dupRemoveColumn = dupRemoveTable.getColumn(column
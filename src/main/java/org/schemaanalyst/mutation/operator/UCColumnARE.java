@@ -45,7 +45,7 @@ public class UCColumnARE implements MutantProducer<Schema> {
             for (Column column : table.getColumns()) {
                 if (!schema.isUnique(table, column)) {
                     // create a UNIQUE constraint on the column
-                    Schema dupAddSchema = schema.duplicate();
+                    Schema dupAddSchema = schema.shallowDuplicate();
                     Table dupAddTable = dupAddSchema.getTable(table.getName());
                     Column dupAddColumn = dupAddTable.getColumn(column.getName());
                     dupAddSchema.createUniqueConstraint(dupAddTable, dupAddColumn);
@@ -1,6 +1,7 @@
 package org.schemaanalyst.mutation.pipeline;
 
 import org.schemaanalyst.mutation.operator.*;
+import org.schemaanalyst.mutation.quasimutant.DerbyRemover;
 import org.schemaanalyst.mutation.quasimutant.HyperSQLRemover;
 import org.schemaanalyst.mutation.quasimutant.PostgresRemover;
 import org.schemaanalyst.mutation.quasimutant.SQLiteRemover;
@@ -52,6 +53,9 @@ public class AllOperatorsWithQMRemoversPipeline extends MutationPipeline<Schema>
             case "HyperSQL":
                 addRemoverToFront(new HyperSQLRemover());
                 break;
+            case "Derby":
+                addRemoverToFront(new DerbyRemover());
+                break;
             default:
                 LOGGER.log(Level.WARNING, "Unknown DBMS name in pipeline");
         }
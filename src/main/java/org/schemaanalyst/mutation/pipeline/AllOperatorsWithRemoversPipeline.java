@@ -2,6 +2,7 @@ package org.schemaanalyst.mutation.pipeline;
 
 import org.schemaanalyst.mutation.equivalence.SchemaEquivalenceChecker;
 import org.schemaanalyst.mutation.operator.*;
+import org.schemaanalyst.mutation.quasimutant.DerbyRemover;
 import org.schemaanalyst.mutation.quasimutant.HyperSQLRemover;
 import org.schemaanalyst.mutation.quasimutant.PostgresRemover;
 import org.schemaanalyst.mutation.quasimutant.SQLiteRemover;
@@ -68,6 +69,10 @@ public class AllOperatorsWithRemoversPipeline extends MutationPipeline<Schema> {
                 addRemoverToFront(new HyperSQLRemover());
                 addRemoverToFront(new PrimaryKeyColumnNotNullRemover());
                 break;
+            case "Derby":
+                addRemoverToFront(new DerbyRemover());
+                addRemoverToFront(new PrimaryKeyColumnNotNullRemover());
+                break;
             default:
                 LOGGER.log(Level.WARNING, "Unknown DBMS name in pipeline");
         }
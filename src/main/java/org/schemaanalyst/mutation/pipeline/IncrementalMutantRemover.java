@@ -0,0 +1,36 @@
+package org.schemaanalyst.mutation.pipeline;
+
+import org.schemaanalyst.mutation.Mutant;
+
+import java.util.List;
+
+/**
+ * <p>
+ * A {@link MutantRemover} that can be given the mutants of a pipeline a part
+ * at a time, as they are produced, rather than all at once. Removers deciding
+ * whether to remove each mutant on its own can simply apply
+ * {@link MutantRemover#removeMutants(List)} to each part, by extending
+ * {@link PerMutantRemover}, whereas removers
+ * comparing mutants with each other must remember the mutants retained from
+ * earlier parts.
+ * </p>
+ *
+ * @param <A> The class of the artefact being mutated.
+ */
+public interface IncrementalMutantRemover<A> {
+
+    /**
+     * Forgets any mutants retained from earlier parts, before the first part
+     * of a new series of mutants.
+     */
+    public void reset();
+
+    /**
+     * Produce a reduced list of mutants from the next part of a series, given
+     * the parts before it.
+     *
+     * @param mutants the next part of the mutants to be reduced.
+     * @return the list of reduced mutants.
+     */
+    public List<Mutant<A>> removeMutantsIncrementally(List<Mutant<A>> mutants);
+}
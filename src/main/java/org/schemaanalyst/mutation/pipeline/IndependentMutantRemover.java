@@ -0,0 +1,18 @@
+package org.schemaanalyst.mutation.pipeline;
+
+import java.util.List;
+
+/**
+ * <p>
+ * A {@link MutantRemover} that decides whether to remove each mutant
+ * independently of the other mutants, changing no state other than that of
+ * the mutant itself. Applying {@link MutantRemover#removeMutants(List)} to
+ * consecutive parts of a list of mutants, from several threads at once, and
+ * joining the results in order, therefore gives the same mutants as applying
+ * it to the whole list.
+ * </p>
+ *
+ * @param <A> The class of the artefact being mutated.
+ */
+public interface IndependentMutantRemover<A> extends IncrementalMutantRemover<A> {
+}
@@ -5,9 +5,17 @@ import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.MutantProducer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * <p>
@@ -28,6 +36,7 @@ public class MutationPipeline<A> implements MutantProducer<A> {
     protected Map<Class, Integer> removerCounts = new HashMap<>();
     protected Map<Class,StopWatch> producerTimings = new HashMap<>();
     protected Map<Class,StopWatch> removerTimings = new HashMap<>();
+    protected int threads = 1;
 
     public void addProducer(MutantProducer<A> producer) {
         producers.add(producer);
@@ -41,61 +50,229 @@ public class MutationPipeline<A> implements MutantProducer<A> {
         removers.add(0, remover);
     }
 
+    /**
+     * Sets the number of threads used by {@link #mutate()}. With more than one
+     * thread, the producers are applied in parallel, as are removers that are
+     * {@link IndependentMutantRemover}s, each to a part of the mutants. The
+     * mutants returned, their order and their identifiers are the same as
+     * with one thread.
+     *
+     * @param threads The number of threads
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
     @Override
     public List<Mutant<A>> mutate() {
         resetCounts();
-        List<Mutant<A>> mutants = new ArrayList<>();
-        applyProducers(mutants);
-        mutants = applyRemovers(mutants);
+        List<Mutant<A>> mutants;
+        if (threads > 1) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                mutants = applyProducersInParallel(executor);
+                mutants = applyRemovers(mutants, 0, removers.size(), false, executor);
+            } finally {
+                executor.shutdown();
+            }
+        } else {
+            mutants = new ArrayList<>();
+            for (MutantProducer<A> producer : producers) {
+                mutants.addAll(applyProducer(producer));
+            }
+            mutants = applyRemovers(mutants, 0, removers.size(), false, null);
+        }
+        stopTimers();
         addIdentifiers(mutants);
         return mutants;
     }
 
-    private void applyProducers(List<Mutant<A>> mutants) {
-        for (MutantProducer<A> producer : producers) {
-            // Time the application of each producer
-            StopWatch timer = new StopWatch();
-            timer.start();
-            List<Mutant<A>> producerMutants = producer.mutate();
-            timer.stop();
-            producerTimings.put(producer.getClass(), timer);
-            
-            // Record how many mutants were added by the operator
-            int newMutants = producerMutants.size();
-            Class producerClass = producer.getClass();
-            // Following 2 lines are for compatibility with higher-order mutation
-            int producerCount = producerCounts.containsKey(producerClass) ? producerCounts.get(producerClass) : 0;
-            producerCounts.put(producerClass, producerCount + newMutants);
-
-            // Store the name of the operator as the simple description
-            String simpleDescription = producer.getClass().getSimpleName();
-            for (Mutant<A> mutant : producerMutants) {
-                mutant.setSimpleDescription(simpleDescription);
-            }
-            mutants.addAll(producerMutants);
+    /**
+     * <p>
+     * Produces the mutants lazily, applying each producer only when the
+     * mutants of the producers before it have been consumed, so that they can
+     * be analysed before the rest have been produced. The mutants of each
+     * producer are passed through the removers that are
+     * {@link IncrementalMutantRemover}s as soon as they are produced. The
+     * removers from the first that is not incremental onwards need all of the
+     * mutants at once, and so are applied, as they would be by
+     * {@link #mutate()}, when all of the producers have been applied.
+     * </p>
+     *
+     * <p>
+     * The mutants returned are those that {@link #mutate()} would return,
+     * in the same order, except that of two mutants found to be redundant
+     * incrementally, the earlier is retained rather than the later.
+     * The counts and timings are complete once all of the mutants have been
+     * consumed.
+     * </p>
+     *
+     * @return An iterator over the mutants
+     */
+    public Iterator<Mutant<A>> mutateIncrementally() {
+        resetCounts();
+        return new IncrementalMutantIterator();
+    }
+
+    private List<Mutant<A>> applyProducer(MutantProducer<A> producer) {
+        // Time the application of each producer
+        StopWatch timer = new StopWatch();
+        timer.start();
+        List<Mutant<A>> producerMutants = producer.mutate();
+        timer.stop();
+        return recordProducer(producer, producerMutants, timer);
+    }
+
+    /**
+     * Applies every producer, each in a task of its own, and records the
+     * mutants of each in the order of the producers once all have finished.
+     *
+     * @param executor The executor to apply the producers with
+     * @return The mutants of all of the producers
+     */
+    private List<Mutant<A>> applyProducersInParallel(ExecutorService executor) {
+        List<StopWatch> timers = new ArrayList<>();
+        List<Callable<List<Mutant<A>>>> tasks = new ArrayList<>();
+        for (final MutantProducer<A> producer : producers) {
+            final StopWatch timer = new StopWatch();
+            timers.add(timer);
+            tasks.add(new Callable<List<Mutant<A>>>() {
+                @Override
+                public List<Mutant<A>> call() {
+                    timer.start();
+                    List<Mutant<A>> producerMutants = producer.mutate();
+                    timer.stop();
+                    return producerMutants;
+                }
+            });
+        }
+        List<List<Mutant<A>>> results = executeTasks(executor, tasks);
+
+        List<Mutant<A>> mutants = new ArrayList<>();
+        for (int i = 0; i < producers.size(); i++) {
+            mutants.addAll(recordProducer(producers.get(i), results.get(i), timers.get(i)));
         }
+        return mutants;
     }
-    
-    private List<Mutant<A>> applyRemovers(List<Mutant<A>> mutants) {
-        for (MutantRemover<A> remover : removers) {
+
+    private List<Mutant<A>> recordProducer(MutantProducer<A> producer, List<Mutant<A>> producerMutants, StopWatch timer) {
+        producerTimings.put(producer.getClass(), timer);
+
+        // Record how many mutants were added by the operator
+        int newMutants = producerMutants.size();
+        Class producerClass = producer.getClass();
+        // Following 2 lines are for compatibility with higher-order mutation
+        int producerCount = producerCounts.containsKey(producerClass) ? producerCounts.get(producerClass) : 0;
+        producerCounts.put(producerClass, producerCount + newMutants);
+
+        // Store the name of the operator as the simple description
+        String simpleDescription = producer.getClass().getSimpleName();
+        for (Mutant<A> mutant : producerMutants) {
+            mutant.setSimpleDescription(simpleDescription);
+        }
+        return producerMutants;
+    }
+
+    private List<Mutant<A>> applyRemovers(List<Mutant<A>> mutants, int from, int to, boolean incrementally, ExecutorService executor) {
+        for (MutantRemover<A> remover : removers.subList(from, to)) {
             int initialMutants = mutants.size();
-            
-            // Time the application of each remover
-            StopWatch timer = new StopWatch();
-            timer.start();
-            mutants = remover.removeMutants(mutants);
-            timer.stop();
-            removerTimings.put(remover.getClass(), timer);
-            
+
+            // Time the application of each remover, which may be applied
+            // more than once when removing incrementally
+            Class removerClass = remover.getClass();
+            StopWatch timer = removerTimings.get(removerClass);
+            if (timer == null) {
+                timer = new StopWatch();
+                timer.start();
+                removerTimings.put(removerClass, timer);
+            } else {
+                timer.resume();
+            }
+            if (incrementally) {
+                mutants = asIncremental(remover).removeMutantsIncrementally(mutants);
+            } else if (executor != null && remover instanceof IndependentMutantRemover) {
+                mutants = removeMutantsInParallel(remover, mutants, executor);
+            } else {
+                mutants = remover.removeMutants(mutants);
+            }
+            timer.suspend();
+
             // Record how many mutants were removed by the operator
             int removedMutants = initialMutants - mutants.size();
-            Class removerClass = remover.getClass();
             int removerCount = removerCounts.containsKey(removerClass) ? removerCounts.get(removerClass) : 0;
             removerCounts.put(removerClass, removerCount + removedMutants);
         }
         return mutants;
     }
-    
+
+    /**
+     * Applies a remover that is an {@link IndependentMutantRemover} to
+     * consecutive parts of the mutants, one part per thread, joining the
+     * mutants retained from each part in their original order.
+     *
+     * @param remover The remover
+     * @param mutants The mutants
+     * @param executor The executor to apply the remover with
+     * @return The mutants retained
+     */
+    private List<Mutant<A>> removeMutantsInParallel(final MutantRemover<A> remover, List<Mutant<A>> mutants, ExecutorService executor) {
+        int partSize = (mutants.size() + threads - 1) / threads;
+        List<Callable<List<Mutant<A>>>> tasks = new ArrayList<>();
+        for (int from = 0; from < mutants.size(); from += partSize) {
+            final List<Mutant<A>> part = new ArrayList<>(mutants.subList(from, Math.min(from + partSize, mutants.size())));
+            tasks.add(new Callable<List<Mutant<A>>>() {
+                @Override
+                public List<Mutant<A>> call() {
+                    return remover.removeMutants(part);
+                }
+            });
+        }
+
+        List<Mutant<A>> retained = new ArrayList<>();
+        for (List<Mutant<A>> partRetained : executeTasks(executor, tasks)) {
+            retained.addAll(partRetained);
+        }
+        return retained;
+    }
+
+    private <T> List<T> executeTasks(ExecutorService executor, List<Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<>();
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException | ExecutionException ex) {
+            throw new RuntimeException(ex);
+        }
+        return results;
+    }
+
+    /**
+     * Gets a remover that is an {@link IncrementalMutantRemover} as one. The
+     * cast cannot be checked, as the type argument is erased, but is safe as
+     * long as a remover of mutants of some artefact only removes mutants of
+     * the same artefact incrementally, which holds for every remover extending
+     * {@link PerMutantRemover} or implementing the interface with the type
+     * argument of its {@link MutantRemover}.
+     *
+     * @param remover The remover
+     * @return The remover, as an incremental remover
+     */
+    @SuppressWarnings("unchecked")
+    private IncrementalMutantRemover<A> asIncremental(MutantRemover<A> remover) {
+        return (IncrementalMutantRemover<A>) remover;
+    }
+
+    private void stopTimers() {
+        for (StopWatch timer : removerTimings.values()) {
+            timer.stop();
+        }
+    }
+
      private void addIdentifiers(List<Mutant<A>> mutants) {
          for (int i = 0; i < mutants.size(); i++) {
              Mutant<A> mutant = mutants.get(i);
@@ -103,6 +280,64 @@ public class MutationPipeline<A> implements MutantProducer<A> {
          }
     }
 
+    /**
+     * Iterates over the mutants of the pipeline, applying the next producer
+     * whenever those of the producer before it have been consumed.
+     */
+    private class IncrementalMutantIterator implements Iterator<Mutant<A>> {
+
+        private int numIncrementalRemovers = 0;
+        private int nextProducer = 0;
+        private int nextIdentifier = 1;
+        private List<Mutant<A>> remaining = new ArrayList<>();
+        private Iterator<Mutant<A>> current = Collections.<Mutant<A>>emptyList().iterator();
+
+        public IncrementalMutantIterator() {
+            while (numIncrementalRemovers < removers.size()
+                    && removers.get(numIncrementalRemovers) instanceof IncrementalMutantRemover) {
+                asIncremental(removers.get(numIncrementalRemovers)).reset();
+                numIncrementalRemovers++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && nextProducer < producers.size()) {
+                List<Mutant<A>> mutants = applyProducer(producers.get(nextProducer));
+                mutants = applyRemovers(mutants, 0, numIncrementalRemovers, true, null);
+                nextProducer++;
+                if (numIncrementalRemovers == removers.size()) {
+                    current = mutants.iterator();
+                } else {
+                    remaining.addAll(mutants);
+                    if (nextProducer == producers.size()) {
+                        current = applyRemovers(remaining, numIncrementalRemovers, removers.size(), false, null).iterator();
+                        remaining = null;
+                    }
+                }
+                if (nextProducer == producers.size()) {
+                    stopTimers();
+                }
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public Mutant<A> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Mutant<A> mutant = current.next();
+            mutant.setIdentifier(nextIdentifier++);
+            return mutant;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     public Map<Class, Integer> getProducerCounts() {
         return producerCounts;
     }
@@ -0,0 +1,36 @@
+package org.schemaanalyst.mutation.pipeline;
+
+import org.schemaanalyst.mutation.Mutant;
+
+import java.util.List;
+
+/**
+ * <p>
+ * A {@link MutantRemover} that decides whether to remove each mutant without
+ * comparing it with the other mutants, so that it can be given the mutants of
+ * a pipeline a part at a time simply by applying
+ * {@link #removeMutants(List)} to each part.
+ * </p>
+ *
+ * @param <A> The class of the artefact being mutated.
+ */
+public abstract class PerMutantRemover<A> extends MutantRemover<A> implements IncrementalMutantRemover<A> {
+
+    /**
+     * Does nothing, as no mutants are retained from earlier parts.
+     */
+    @Override
+    public void reset() {
+    }
+
+    /**
+     * Applies {@link #removeMutants(List)} to the part of the mutants.
+     *
+     * @param mutants the next part of the mutants to be reduced.
+     * @return the list of reduced mutants.
+     */
+    @Override
+    public List<Mutant<A>> removeMutantsIncrementally(List<Mutant<A>> mutants) {
+        return removeMutants(mutants);
+    }
+}
@@ -1,56 +1,302 @@
-
 package org.schemaanalyst.mutation.quasimutant;
 
 import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.configuration.ExperimentConfiguration;
 import org.schemaanalyst.configuration.LocationsConfiguration;
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DBMSFactory;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.DatabaseInteractorPool;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.pipeline.MutantRemover;
+import org.schemaanalyst.mutation.pipeline.PerMutantRemover;
 import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.constraint.Constraint;
 import org.schemaanalyst.sqlwriter.SQLWriter;
 import org.schemaanalyst.util.DataCapturer;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
+ * <p>
+ * A {@link MutantRemover} that removes the mutants whose <tt>CREATE TABLE</tt>
+ * statements are rejected by the DBMS.
+ * </p>
+ *
+ * <p>
+ * Whether a <tt>CREATE TABLE</tt> statement succeeds depends only on the
+ * statement and on the tables it is connected to that have been created
+ * before it, unless one of its constraints is named like a preceding table or
+ * one of that table's constraints, which some DBMSs (e.g., Postgres) reject
+ * as the names share a namespace. Each table of a mutant is therefore tested
+ * by creating those tables (or every preceding table, if there is such a
+ * clash) followed by the table itself, and the result is remembered under
+ * their statements, so that a table is only tested if it differs from every
+ * table tested before (mostly, the table changed by the mutant). The tests
+ * are run in parallel when more than one thread is used, each with its own
+ * connection and with its tables and constraints renamed with a prefix of its
+ * own, so that no two tests clash in a shared database.
+ * </p>
  *
  * @author Chris J. Wright
  */
-public class DBMSRemover extends MutantRemover<Schema> {
+public class DBMSRemover extends PerMutantRemover<Schema> {
+
+    private static final Logger LOGGER = Logger.getLogger(DBMSRemover.class.getName());
+
+    /**
+     * Whether each table could be created, by the statements that test it.
+     */
+    private final Map<List<String>, Boolean> validity = new HashMap<>();
+
+    /**
+     * The number of threads to test tables with, or 0 to find it from the
+     * configuration.
+     */
+    private final int threads;
+
+    private int tests = 0;
+
+    /**
+     * Constructor, which tests tables with the number of threads in the
+     * experiment configuration, or one thread if the DBMS is SQLite with a
+     * database file, as connections to the same file would wait for each
+     * other's locks.
+     */
+    public DBMSRemover() {
+        this(0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param threads The number of threads to test tables with
+     */
+    public DBMSRemover(int threads) {
+        this.threads = threads;
+    }
 
     @Override
     public List<Mutant<Schema>> removeMutants(List<Mutant<Schema>> mutants) {
-        
+
         // Load the relevant database configuration and obtain the interactor
         DatabaseConfiguration databaseConfiguration = new DatabaseConfiguration();
         LocationsConfiguration locationsConfiguration = new LocationsConfiguration();
         DBMS dbms = DBMSFactory.instantiate(databaseConfiguration.getDbms());
         SQLWriter sqlWriter = dbms.getSQLWriter();
         DatabaseInteractor interactor = dbms.getDatabaseInteractor("DBMSRemover", databaseConfiguration, locationsConfiguration);
-        
-        // Test the mutants
+        int threads = this.threads;
+        if (threads == 0) {
+            threads = databaseConfiguration.getDbms().equals("SQLite") && !databaseConfiguration.getSqliteInMemory()
+                    ? 1
+                    : new ExperimentConfiguration().getThreads();
+        }
+
+        // Find the tables of each mutant, keeping one of each that is untested
+        List<List<List<String>>> mutantKeys = new ArrayList<>();
+        Map<List<String>, TableTest> untested = new LinkedHashMap<>();
+        for (Mutant<Schema> mutant : mutants) {
+            Schema schema = mutant.getMutatedArtefact();
+            List<List<String>> keys = new ArrayList<>();
+            for (Table table : schema.getTablesInOrder()) {
+                List<String> key = getKey(sqlWriter, schema, table);
+                keys.add(key);
+                if (!validity.containsKey(key) && !untested.containsKey(key)) {
+                    untested.put(key, new TableTest(sqlWriter, schema, table, "dbmsremover_" + (tests + untested.size()) + "_"));
+                }
+            }
+            mutantKeys.add(keys);
+        }
+
+        // Test the untested tables
+        List<Boolean> results = threads > 1 && untested.size() > 1
+                ? testInParallel(interactor, untested.values(), threads)
+                : test(interactor, untested.values());
+        Iterator<Boolean> resultsIter = results.iterator();
+        for (List<String> key : untested.keySet()) {
+            validity.put(key, resultsIter.next());
+        }
+        tests += untested.size();
+        LOGGER.log(Level.FINE, "Tested {0} tables for {1} mutants", new Object[]{untested.size(), mutants.size()});
+
+        // Remove the mutants with a table that could not be created
+        Iterator<List<List<String>>> keysIter = mutantKeys.iterator();
         for (Iterator<Mutant<Schema>> it = mutants.iterator(); it.hasNext();) {
             Mutant<Schema> mutant = it.next();
-            Schema schema = mutant.getMutatedArtefact();
-            // Test if the CREATE works
-            for (String stmt : sqlWriter.writeCreateTableStatements(schema)) {
-                Integer result = interactor.executeUpdate(stmt);
-                if (result == -1) {
+            for (List<String> key : keysIter.next()) {
+                if (!validity.get(key)) {
                     it.remove();
-                    DataCapturer.capture("removedmutants", "quasimutant", schema + "-" + mutant.getSimpleDescription());
+                    DataCapturer.capture("removedmutants", "quasimutant", mutant.getMutatedArtefact() + "-" + mutant.getSimpleDescription());
                     break;
                 }
             }
+        }
+
+        return mutants;
+    }
+
+    /**
+     * Gets the statements that test whether a table can be created: those
+     * creating the tables to create before it, in order, followed by its own.
+     */
+    private List<String> getKey(SQLWriter sqlWriter, Schema schema, Table table) {
+        List<String> key = new ArrayList<>();
+        for (Table precedingTable : getPrecedingTables(schema, table)) {
+            key.add(sqlWriter.writeCreateTableStatement(schema, precedingTable));
+        }
+        key.add(sqlWriter.writeCreateTableStatement(schema, table));
+        return key;
+    }
+
+    /**
+     * Gets the tables to create before a table to test it: the tables it is
+     * connected to that precede it or, if its name or the name of one of its
+     * constraints clashes with a preceding table that it is not connected to,
+     * every table that precedes it.
+     */
+    private static List<Table> getPrecedingTables(Schema schema, Table table) {
+        Set<Table> connected = new HashSet<>(schema.getConnectedTables(table));
+        Set<String> names = getNames(schema, table);
+        List<Table> preceding = new ArrayList<>();
+        List<Table> precedingConnected = new ArrayList<>();
+        boolean clash = false;
+        for (Table precedingTable : schema.getTablesInOrder()) {
+            if (precedingTable == table) {
+                break;
+            }
+            preceding.add(precedingTable);
+            if (connected.contains(precedingTable)) {
+                precedingConnected.add(precedingTable);
+            } else if (!clash && !Collections.disjoint(names, getNames(schema, precedingTable))) {
+                clash = true;
+            }
+        }
+        return clash ? preceding : precedingConnected;
+    }
+
+    /**
+     * Gets the name of a table and of its named constraints, in lower case as
+     * DBMSs differ in whether they fold the case of unquoted names.
+     */
+    private static Set<String> getNames(Schema schema, Table table) {
+        Set<String> names = new HashSet<>();
+        names.add(table.getName().toLowerCase());
+        for (Constraint constraint : schema.getConstraints(table)) {
+            if (constraint.hasIdentifier() && constraint.getIdentifier().get() != null) {
+                names.add(constraint.getIdentifier().get().toLowerCase());
+            }
+        }
+        return names;
+    }
+
+    private List<Boolean> test(DatabaseInteractor interactor, Iterable<TableTest> tableTests) {
+        List<Boolean> results = new ArrayList<>();
+        for (TableTest tableTest : tableTests) {
+            results.add(tableTest.run(interactor));
+        }
+        return results;
+    }
+
+    private List<Boolean> testInParallel(DatabaseInteractor interactor, Iterable<TableTest> tableTests, int threads) {
+        final DatabaseInteractorPool pool = new DatabaseInteractorPool(interactor, threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (final TableTest tableTest : tableTests) {
+                futures.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        DatabaseInteractor pooledInteractor = pool.acquire();
+                        try {
+                            return tableTest.run(pooledInteractor);
+                        } finally {
+                            pool.release(pooledInteractor);
+                        }
+                    }
+                }));
+            }
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException | ExecutionException ex) {
+            throw new RuntimeException(ex);
+        } finally {
+            executor.shutdown();
+            pool.close();
+        }
+    }
+
+    /**
+     * Gets the number of tables tested so far, which is the number of
+     * distinct tables of the mutants given to this remover.
+     *
+     * @return The number of tables tested
+     */
+    public int getTestCount() {
+        return tests;
+    }
+
+    /**
+     * A test of whether a table can be created, written when the test is
+     * found to be needed so that it does not depend on the mutant changing
+     * afterwards.
+     */
+    private static class TableTest {
+
+        private final List<String> createStatements = new ArrayList<>();
+        private final List<String> dropStatements = new ArrayList<>();
+
+        TableTest(SQLWriter sqlWriter, Schema schema, Table table, String prefix) {
+            // Rename a copy of the schema, so that its tables do not clash
+            Schema renamed = schema.duplicate();
+            Table renamedTable = renamed.getTable(table.getName());
+            for (Table renamedOther : renamed.getTables()) {
+                renamedOther.setName(prefix + renamedOther.getName());
+            }
+            for (Constraint constraint : renamed.getConstraints()) {
+                if (constraint.hasIdentifier() && constraint.getIdentifier().get() != null) {
+                    constraint.setName(prefix + constraint.getIdentifier().get());
+                }
+            }
+
+            List<Table> tables = getPrecedingTables(renamed, renamedTable);
+            tables.add(renamedTable);
+            for (Table createTable : tables) {
+                createStatements.add(sqlWriter.writeCreateTableStatement(renamed, createTable));
+            }
+            for (int i = tables.size() - 1; i >= 0; i--) {
+                dropStatements.add(sqlWriter.writeDropTableStatement(tables.get(i), true));
+            }
+        }
+
+        boolean run(DatabaseInteractor interactor) {
+            Integer result = null;
+            for (String stmt : createStatements) {
+                result = interactor.executeUpdate(stmt);
+            }
             // Clean up the database afterwards
-            for (String stmt : sqlWriter.writeDropTableStatements(schema, true)) {
+            for (String stmt : dropStatements) {
                 interactor.executeUpdate(stmt);
             }
+            return result != -1;
         }
-        
-        return mutants;
     }
-    
 }
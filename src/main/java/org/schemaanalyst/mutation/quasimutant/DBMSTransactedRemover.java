@@ -6,7 +6,7 @@ import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DBMSFactory;
 import org.schemaanalyst.dbms.DatabaseInteractor;
 import org.schemaanalyst.mutation.Mutant;
-import org.schemaanalyst.mutation.pipeline.MutantRemover;
+import org.schemaanalyst.mutation.pipeline.PerMutantRemover;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlwriter.SQLWriter;
 
@@ -17,7 +17,7 @@ import java.util.List;
  *
  * @author Chris J. Wright
  */
-public class DBMSTransactedRemover extends MutantRemover<Schema> {
+public class DBMSTransactedRemover extends PerMutantRemover<Schema> {
 
     @Override
     public List<Mutant<Schema>> removeMutants(List<Mutant<Schema>> mutants) {
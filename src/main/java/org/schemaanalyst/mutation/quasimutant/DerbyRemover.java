@@ -0,0 +1,172 @@
+/*
+ */
+package org.schemaanalyst.mutation.quasimutant;
+
+import org.schemaanalyst.sqlrepresentation.datatype.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.constraint.PrimaryKeyConstraint;
+import org.schemaanalyst.sqlrepresentation.constraint.UniqueConstraint;
+
+/**
+ * Removes those mutant schemas that will be rejected by the Derby DBMS, but 
+ * may be accepted by other DBMSs.
+ */
+public class DerbyRemover extends StaticDBMSRemover {
+
+    private static final Logger LOGGER = Logger.getLogger(DerbyRemover.class.getName());
+
+    @Override
+    public List<Mutant<Schema>> removeMutants(List<Mutant<Schema>> mutants) {
+        mutants = super.removeMutants(mutants);
+        for (Iterator<Mutant<Schema>> it = mutants.iterator(); it.hasNext();) {
+            Mutant<Schema> mutant = it.next();
+            if (hasKeysWithSameColumns(mutant.getMutatedArtefact())) {
+                LOGGER.log(Level.INFO, "Quasi mutant:\n{0}\n", new Object[]{mutant.getDescription()});
+                process(mutant, it);
+            }
+        }
+        return mutants;
+    }
+
+    /**
+     * Derby does not allow two of the PRIMARY KEY and UNIQUE constraints of a 
+     * table to have the same set of columns, in any order. Single column 
+     * UNIQUE constraints on the same column are only written once, however.
+     */
+    private boolean hasKeysWithSameColumns(Schema schema) {
+        for (Table table : schema.getTables()) {
+            Set<Set<Column>> keys = new HashSet<>();
+            Set<Column> uniqueColumns = new HashSet<>();
+            PrimaryKeyConstraint primaryKey = schema.getPrimaryKeyConstraint(table);
+            if (primaryKey != null) {
+                keys.add(new HashSet<>(primaryKey.getColumns()));
+            }
+            for (UniqueConstraint unique : schema.getUniqueConstraints(table)) {
+                boolean written = unique.hasMultipleColumns() || uniqueColumns.add(unique.getColumns().get(0));
+                if (written && !keys.add(new HashSet<>(unique.getColumns()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Derby also requires the referenced columns to be in the same order as 
+     * the columns of the key.
+     */
+    @Override
+    protected boolean isUnique(Schema schema, Table table, List<Column> columns) {
+        for (UniqueConstraint unique : schema.getUniqueConstraints(table)) {
+            if (unique.getColumns().equals(columns)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Derby also requires the referenced columns to be in the same order as 
+     * the columns of the key.
+     */
+    @Override
+    protected boolean isPrimary(Schema schema, Table table, List<Column> columns) {
+        PrimaryKeyConstraint primaryKey = schema.getPrimaryKeyConstraint(table);
+        return primaryKey != null && primaryKey.getColumns().equals(columns);
+    }
+
+    /**
+     * Derby also requires the lengths, precisions and scales of the types to 
+     * be the same, where they are given.
+     */
+    @Override
+    protected boolean compatibleTypes(DataType dataType1, DataType dataType2) {
+        return super.compatibleTypes(dataType1, dataType2)
+                && Objects.equals(getLength(dataType1), getLength(dataType2))
+                && Objects.equals(getPrecision(dataType1), getPrecision(dataType2))
+                && Objects.equals(getScale(dataType1), getScale(dataType2));
+    }
+
+    private Integer getLength(DataType dataType) {
+        if (dataType instanceof SingleCharDataType) {
+            return 1;
+        } else if (dataType instanceof LengthLimited) {
+            Integer length = ((LengthLimited) dataType).getLength();
+            return length == null ? 1 : length;
+        }
+        return null;
+    }
+
+    private Integer getPrecision(DataType dataType) {
+        if (dataType instanceof PrecisionedAndScaled) {
+            Integer precision = ((PrecisionedAndScaled) dataType).getPrecision();
+            return precision == null ? 5 : precision;
+        }
+        return null;
+    }
+
+    private Integer getScale(DataType dataType) {
+        if (dataType instanceof PrecisionedAndScaled) {
+            Integer scale = ((PrecisionedAndScaled) dataType).getScale();
+            return scale == null ? 0 : scale;
+        }
+        return null;
+    }
+
+    /*
+      Found by creating a foreign key between a column of each pair of types
+      in Derby 10.12, as DBMSCompatibleDataTypeResolver does for the other
+      DBMSs. Derby does not support DATETIME, MEDIUMINT, TEXT or TINYINT.
+
+      Map<Class<?>, Set<Class<?>>> compatibleTypes;
+    */
+    protected void initializeCompatibleTypes() {
+        compatibleTypes = new HashMap<>();
+        compatibleTypes.put(BigIntDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(BigIntDataType.class).add(BigIntDataType.class);
+        compatibleTypes.put(BooleanDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(BooleanDataType.class).add(BooleanDataType.class);
+        compatibleTypes.put(CharDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(CharDataType.class).add(CharDataType.class);
+        compatibleTypes.get(CharDataType.class).add(SingleCharDataType.class);
+        compatibleTypes.put(DateDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(DateDataType.class).add(DateDataType.class);
+        compatibleTypes.put(DecimalDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(DecimalDataType.class).add(DecimalDataType.class);
+        compatibleTypes.put(DoubleDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(DoubleDataType.class).add(DoubleDataType.class);
+        compatibleTypes.get(DoubleDataType.class).add(FloatDataType.class);
+        compatibleTypes.put(FloatDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(FloatDataType.class).add(DoubleDataType.class);
+        compatibleTypes.get(FloatDataType.class).add(FloatDataType.class);
+        compatibleTypes.put(IntDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(IntDataType.class).add(IntDataType.class);
+        compatibleTypes.put(NumericDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(NumericDataType.class).add(NumericDataType.class);
+        compatibleTypes.put(RealDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(RealDataType.class).add(RealDataType.class);
+        compatibleTypes.put(SingleCharDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(SingleCharDataType.class).add(CharDataType.class);
+        compatibleTypes.get(SingleCharDataType.class).add(SingleCharDataType.class);
+        compatibleTypes.put(SmallIntDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(SmallIntDataType.class).add(SmallIntDataType.class);
+        compatibleTypes.put(TimeDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(TimeDataType.class).add(TimeDataType.class);
+        compatibleTypes.put(TimestampDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(TimestampDataType.class).add(TimestampDataType.class);
+        compatibleTypes.put(VarCharDataType.class, new HashSet<Class<?>>());
+        compatibleTypes.get(VarCharDataType.class).add(VarCharDataType.class);
+    }
+}
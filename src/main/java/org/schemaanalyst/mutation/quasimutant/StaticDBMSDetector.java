@@ -7,7 +7,8 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.schemaanalyst.mutation.Mutant;
-import org.schemaanalyst.mutation.pipeline.MutantRemover;
+import org.schemaanalyst.mutation.pipeline.IndependentMutantRemover;
+import org.schemaanalyst.mutation.pipeline.PerMutantRemover;
 import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlrepresentation.Table;
@@ -19,7 +20,7 @@ import org.schemaanalyst.sqlrepresentation.datatype.DataType;
  *
  * @author Chris J. Wright
  */
-public abstract class StaticDBMSDetector extends MutantRemover<Schema> {
+public abstract class StaticDBMSDetector extends PerMutantRemover<Schema> implements IndependentMutantRemover<Schema> {
 
     private static final Logger LOGGER = Logger.getLogger(StaticDBMSDetector.class.getName());
     
@@ -3,7 +3,9 @@ package org.schemaanalyst.mutation.redundancy;
 import org.apache.commons.lang3.reflect.MethodUtils;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.equivalence.EquivalenceChecker;
+import org.schemaanalyst.mutation.pipeline.IndependentMutantRemover;
 import org.schemaanalyst.mutation.pipeline.MutantRemover;
+import org.schemaanalyst.mutation.pipeline.PerMutantRemover;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
@@ -19,8 +21,9 @@ import java.util.logging.Logger;
  * @author Chris J. Wright
  * @param <T> The type of the artefact being mutated.
  */
-public abstract class EquivalentMutantDetector<T> extends EquivalenceTesterMutantRemover<T> {
+public abstract class EquivalentMutantDetector<T> extends PerMutantRemover<T> implements IndependentMutantRemover<T> {
     
+    EquivalenceChecker<T> checker;
     private T originalArtefact;
     
     private static final Logger LOGGER = Logger.getLogger(EquivalentMutantDetector.class.getName());
@@ -32,7 +35,7 @@ public abstract class EquivalentMutantDetector<T> extends EquivalenceTesterMutan
      * @param originalArtefact The original artefact that was mutated
      */
     public EquivalentMutantDetector(EquivalenceChecker<T> checker, T originalArtefact) {
-        super(checker);
+        this.checker = checker;
         this.originalArtefact = originalArtefact;
     }
     
@@ -57,7 +60,7 @@ public abstract class EquivalentMutantDetector<T> extends EquivalenceTesterMutan
         }
         return mutants;
     }
-    
+
     private boolean hasDuplicateMethod(Class c) {
         return MethodUtils.getAccessibleMethod(c, "duplicate") != null;
     }
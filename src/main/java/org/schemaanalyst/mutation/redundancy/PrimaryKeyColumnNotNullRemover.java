@@ -1,7 +1,8 @@
 package org.schemaanalyst.mutation.redundancy;
 
 import org.schemaanalyst.mutation.Mutant;
-import org.schemaanalyst.mutation.pipeline.MutantRemover;
+import org.schemaanalyst.mutation.pipeline.IndependentMutantRemover;
+import org.schemaanalyst.mutation.pipeline.PerMutantRemover;
 import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlrepresentation.Table;
@@ -27,7 +28,7 @@ import java.util.List;
  * @author Phil McMinn
  *
  */
-public class PrimaryKeyColumnNotNullRemover extends MutantRemover<Schema> {
+public class PrimaryKeyColumnNotNullRemover extends PerMutantRemover<Schema> implements IndependentMutantRemover<Schema> {
 
     /**
      * {@inheritDoc}
@@ -5,7 +5,8 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.schemaanalyst.mutation.Mutant;
-import org.schemaanalyst.mutation.pipeline.MutantRemover;
+import org.schemaanalyst.mutation.pipeline.IndependentMutantRemover;
+import org.schemaanalyst.mutation.pipeline.PerMutantRemover;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlrepresentation.constraint.PrimaryKeyConstraint;
 import org.schemaanalyst.sqlrepresentation.constraint.UniqueConstraint;
@@ -18,7 +19,7 @@ import org.schemaanalyst.sqlrepresentation.constraint.UniqueConstraint;
  * 
  * @author Chris J. Wright
  */
-public abstract class PrimaryKeyUniqueOverlapDetector extends MutantRemover<Schema> {
+public abstract class PrimaryKeyUniqueOverlapDetector extends PerMutantRemover<Schema> implements IndependentMutantRemover<Schema> {
     
     private static final Logger LOGGER = Logger.getLogger(PrimaryKeyUniqueOverlapDetector.class.getName());
 
@@ -4,22 +4,28 @@ package org.schemaanalyst.mutation.redundancy;
 
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.equivalence.EquivalenceChecker;
+import org.schemaanalyst.mutation.pipeline.IncrementalMutantRemover;
 import org.schemaanalyst.mutation.pipeline.MutantRemover;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.schemaanalyst.mutation.MutantType;
 
 /**
  * A {@link MutantRemover} that detects mutants equivalent to other mutants,
- * according to a provided {@link EquivalenceChecker}.
+ * according to a provided {@link EquivalenceChecker}. Only mutants with the
+ * same {@link EquivalenceChecker#fingerprint(Object) fingerprint} are tested
+ * for equivalence.
  *
  * @author Chris J. Wright
  * @param <T> The type of the artefact being mutated.
  */
-public abstract class RedundantMutantDetector<T> extends EquivalenceTesterMutantRemover<T> {
+public abstract class RedundantMutantDetector<T> extends EquivalenceTesterMutantRemover<T> implements IncrementalMutantRemover<T> {
 
     /**
      * Constructor.
@@ -29,6 +35,12 @@ public abstract class RedundantMutantDetector<T> extends EquivalenceTesterMutant
     public RedundantMutantDetector(EquivalenceChecker<T> checker) {
         super(checker);
     }
+
+    /**
+     * The mutants retained from earlier parts of the series, when removing
+     * incrementally, by fingerprint.
+     */
+    private Map<Integer, List<Mutant<T>>> retained = new HashMap<>();
     
     private static final Logger LOGGER = Logger.getLogger(RedundantMutantDetector.class.getName());
     
@@ -39,10 +51,23 @@ public abstract class RedundantMutantDetector<T> extends EquivalenceTesterMutant
      */
     @Override    
     public List<Mutant<T>> removeMutants(List<Mutant<T>> mutants) {
-        for (ListIterator<Mutant<T>> outerIter = mutants.listIterator(); outerIter.hasNext();) {
+        // Group the mutants by fingerprint, noting the position of each in its group
+        Map<Integer, List<Mutant<T>>> buckets = new HashMap<>();
+        List<List<Mutant<T>>> mutantBuckets = new ArrayList<>(mutants.size());
+        List<Integer> bucketPositions = new ArrayList<>(mutants.size());
+        for (Mutant<T> mutant : mutants) {
+            List<Mutant<T>> bucket = getBucket(buckets, mutant);
+            mutantBuckets.add(bucket);
+            bucketPositions.add(bucket.size());
+            bucket.add(mutant);
+        }
+
+        // Compare each mutant with the later mutants in its group
+        int index = 0;
+        for (ListIterator<Mutant<T>> outerIter = mutants.listIterator(); outerIter.hasNext(); index++) {
             Mutant<T> outer = outerIter.next();
-            for (ListIterator<Mutant<T>> innerIter = mutants.listIterator(outerIter.nextIndex()); innerIter.hasNext();) {
-                Mutant<T> inner = innerIter.next();
+            List<Mutant<T>> bucket = mutantBuckets.get(index);
+            for (Mutant<T> inner : bucket.subList(bucketPositions.get(index) + 1, bucket.size())) {
                 if (inner.getMutantType().equals(MutantType.NORMAL) && checker.areEquivalent(outer.getMutatedArtefact(), inner.getMutatedArtefact())) {
                     LOGGER.log(Level.FINE, "Redundant mutant pair:\n{0}\n{1}\n", new Object[]{outer.getDescription(), inner.getDescription()});
                     process(outer, outerIter);
@@ -52,4 +77,53 @@ public abstract class RedundantMutantDetector<T> extends EquivalenceTesterMutant
         }
         return mutants;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        retained.clear();
+    }
+
+    /**
+     * {@inheritDoc} As each mutant is only compared with those before it, a
+     * mutant is processed if it is equivalent to an earlier one, whereas
+     * {@link #removeMutants(List)} processes a mutant equivalent to a later
+     * one.
+     */
+    @Override
+    public List<Mutant<T>> removeMutantsIncrementally(List<Mutant<T>> mutants) {
+        for (Iterator<Mutant<T>> it = mutants.iterator(); it.hasNext();) {
+            Mutant<T> mutant = it.next();
+            List<Mutant<T>> bucket = getBucket(retained, mutant);
+            Mutant<T> earlier = findEquivalent(bucket, mutant);
+            if (earlier != null) {
+                LOGGER.log(Level.FINE, "Redundant mutant pair:\n{0}\n{1}\n", new Object[]{mutant.getDescription(), earlier.getDescription()});
+                process(mutant, it);
+            } else {
+                bucket.add(mutant);
+            }
+        }
+        return mutants;
+    }
+
+    private Mutant<T> findEquivalent(List<Mutant<T>> earlierMutants, Mutant<T> mutant) {
+        for (Mutant<T> earlier : earlierMutants) {
+            if (earlier.getMutantType().equals(MutantType.NORMAL) && checker.areEquivalent(earlier.getMutatedArtefact(), mutant.getMutatedArtefact())) {
+                return earlier;
+            }
+        }
+        return null;
+    }
+
+    private List<Mutant<T>> getBucket(Map<Integer, List<Mutant<T>>> buckets, Mutant<T> mutant) {
+        Integer fingerprint = checker.fingerprint(mutant.getMutatedArtefact());
+        List<Mutant<T>> bucket = buckets.get(fingerprint);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets.put(fingerprint, bucket);
+        }
+        return bucket;
+    }
 }
@@ -25,7 +25,8 @@ import java.util.List;
  */
 public abstract class IteratingSupplier<A, C> extends AbstractSupplier<A, C> {
 
-	private List<C> components, duplicateComponents;
+	private List<C> components;
+	private C duplicateComponent;
 	private int index;
 
 	/**
@@ -95,7 +96,7 @@ public abstract class IteratingSupplier<A, C> extends AbstractSupplier<A, C> {
 	@Override
 	public void setDuplicate(A currentDuplicate) {
 		super.setDuplicate(currentDuplicate);
-		duplicateComponents = getComponents(currentDuplicate);
+		duplicateComponent = copyComponent(getComponents(currentDuplicate).get(index));
 	}
 
 	/**
@@ -110,7 +111,23 @@ public abstract class IteratingSupplier<A, C> extends AbstractSupplier<A, C> {
 			throw new MutationException(
 					"Cannot get duplicate component if no duplicate artefact has been made");
 		}
-		return duplicateComponents.get(index);
+		return duplicateComponent;
+	}
+
+	/**
+	 * Copies the component of a duplicate that is to be mutated. Subclasses
+	 * whose duplicates share components with the original artefact (e.g.,
+	 * those made by
+	 * {@link org.schemaanalyst.sqlrepresentation.Schema#shallowDuplicate()})
+	 * override this method to return a copy, which is mutated in place of the
+	 * shared component. By default, the component itself is returned.
+	 * 
+	 * @param component
+	 *            the component of the duplicate.
+	 * @return the component to mutate.
+	 */
+	protected C copyComponent(C component) {
+		return component;
 	}
 
 	/**
@@ -17,10 +17,12 @@ public class CheckConstraintSupplier extends IteratingSupplier<Schema, CheckCons
 
 	/**
 	 * Constructor, which instantiates its own
-	 * {@link org.schemaanalyst.sqlrepresentation.Schema.Duplicator}
+	 * {@link org.schemaanalyst.sqlrepresentation.Schema.ShallowDuplicator}, so
+	 * that duplicates share all but the constraint being mutated with the
+	 * original schema
 	 */
     public CheckConstraintSupplier() {
-        super(new Schema.Duplicator());
+        super(new Schema.ShallowDuplicator());
     }
     
     /**
@@ -49,4 +51,12 @@ public class CheckConstraintSupplier extends IteratingSupplier<Schema, CheckCons
     protected List<CheckConstraint> getComponents(Schema schema) {
         return schema.getCheckConstraints();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected CheckConstraint copyComponent(CheckConstraint checkConstraint) {
+        return checkConstraint.duplicate();
+    }
 }
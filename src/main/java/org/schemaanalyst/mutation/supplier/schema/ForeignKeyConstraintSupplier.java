@@ -17,10 +17,12 @@ public class ForeignKeyConstraintSupplier extends IteratingSupplier<Schema, Fore
 
 	/**
 	 * Constructor, which instantiates its own
-	 * {@link org.schemaanalyst.sqlrepresentation.Schema.Duplicator}
+	 * {@link org.schemaanalyst.sqlrepresentation.Schema.ShallowDuplicator}, so
+	 * that duplicates share all but the constraint being mutated with the
+	 * original schema
 	 */
     public ForeignKeyConstraintSupplier() {
-        super(new Schema.Duplicator());
+        super(new Schema.ShallowDuplicator());
     }
     
     /**
@@ -52,4 +54,12 @@ public class ForeignKeyConstraintSupplier extends IteratingSupplier<Schema, Fore
     protected List<ForeignKeyConstraint> getComponents(Schema schema) {
         return schema.getForeignKeyConstraints();
     }    
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ForeignKeyConstraint copyComponent(ForeignKeyConstraint foreignKeyConstraint) {
+        return foreignKeyConstraint.duplicate();
+    }
 }
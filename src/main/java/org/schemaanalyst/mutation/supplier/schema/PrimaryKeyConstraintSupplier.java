@@ -21,10 +21,12 @@ public class PrimaryKeyConstraintSupplier extends
 
 	/**
 	 * Constructor, which instantiates its own
-	 * {@link org.schemaanalyst.sqlrepresentation.Schema.Duplicator}
+	 * {@link org.schemaanalyst.sqlrepresentation.Schema.ShallowDuplicator}, so
+	 * that duplicates share all but the constraint being mutated with the
+	 * original schema
 	 */
 	public PrimaryKeyConstraintSupplier() {
-		super(new Schema.Duplicator());
+		super(new Schema.ShallowDuplicator());
 	}
 
 	/**
@@ -57,4 +59,12 @@ public class PrimaryKeyConstraintSupplier extends
 		}
 		return primaryKeyConstraints;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected PrimaryKeyConstraint copyComponent(PrimaryKeyConstraint primaryKeyConstraint) {
+		return primaryKeyConstraint.duplicate();
+	}
 }
@@ -19,10 +19,12 @@ public class UniqueConstraintSupplier extends
 
 	/**
 	 * Constructor, which instantiates its own
-	 * {@link org.schemaanalyst.sqlrepresentation.Schema.Duplicator}
+	 * {@link org.schemaanalyst.sqlrepresentation.Schema.ShallowDuplicator}, so
+	 * that duplicates share all but the constraint being mutated with the
+	 * original schema
 	 */
 	public UniqueConstraintSupplier() {
-		super(new Schema.Duplicator());
+		super(new Schema.ShallowDuplicator());
 	}
 
 	/**
@@ -50,4 +52,12 @@ public class UniqueConstraintSupplier extends
         currentDuplicate.removeUniqueConstraint(cons);
         return super.getDuplicateComponent();
     }
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected UniqueConstraint copyComponent(UniqueConstraint uniqueConstraint) {
+		return uniqueConstraint.duplicate();
+	}
 }
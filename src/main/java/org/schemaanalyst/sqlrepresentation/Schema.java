@@ -23,6 +23,14 @@ public class Schema extends IdentifiableEntity {
 		}
 	}
 
+	public static class ShallowDuplicator implements
+			org.schemaanalyst.util.Duplicator<Schema> {
+
+		public Schema duplicate(Schema schema) {
+			return schema.shallowDuplicate();
+		}
+	}
+
     private static final long serialVersionUID = -212628589124201466L;
 
 	private IdentifiableEntitySet<Table> tables;
@@ -31,6 +39,83 @@ public class Schema extends IdentifiableEntity {
 	private List<ForeignKeyConstraint> foreignKeyConstraints;
 	private List<NotNullConstraint> notNullConstraints;
 	private List<UniqueConstraint> uniqueConstraints;
+	private boolean shared;
+
+	/**
+	 * The constraints of each table of the schema. Each table has one
+	 * instance, holding its constraints in the order they were added, along
+	 * with the tables it is connected to once they are sought.
+	 */
+	private static class TableConstraints {
+		PrimaryKeyConstraint primaryKeyConstraint;
+		List<CheckConstraint> checkConstraints = new ArrayList<>();
+		List<ForeignKeyConstraint> foreignKeyConstraints = new ArrayList<>();
+		List<NotNullConstraint> notNullConstraints = new ArrayList<>();
+		List<UniqueConstraint> uniqueConstraints = new ArrayList<>();
+		volatile List<Table> connectedTables;
+
+		int size() {
+			return (primaryKeyConstraint == null ? 0 : 1)
+					+ checkConstraints.size() + foreignKeyConstraints.size()
+					+ notNullConstraints.size() + uniqueConstraints.size();
+		}
+	}
+
+	/**
+	 * An index of the constraints of each table, and the order of the tables,
+	 * built when first needed and discarded whenever a table or constraint is
+	 * added or removed. As the columns of a constraint may be changed in place
+	 * (e.g., by mutation operators), only which constraints belong to which
+	 * table is indexed, and not their columns. Tables are indexed by identity,
+	 * so that renaming them does not invalidate the index.
+	 */
+	private class Index {
+		Map<Table, TableConstraints> tableConstraints = new IdentityHashMap<>();
+		volatile List<Table> tablesInOrder;
+
+		Index() {
+			for (Table table : tables) {
+				tableConstraints.put(table, new TableConstraints());
+			}
+			for (PrimaryKeyConstraint constraint : primaryKeyConstraints) {
+				TableConstraints entry = get(constraint.getTable());
+				if (entry != null && entry.primaryKeyConstraint == null) {
+					entry.primaryKeyConstraint = constraint;
+				}
+			}
+			for (CheckConstraint constraint : checkConstraints) {
+				TableConstraints entry = get(constraint.getTable());
+				if (entry != null) {
+					entry.checkConstraints.add(constraint);
+				}
+			}
+			for (ForeignKeyConstraint constraint : foreignKeyConstraints) {
+				TableConstraints entry = get(constraint.getTable());
+				if (entry != null) {
+					entry.foreignKeyConstraints.add(constraint);
+				}
+			}
+			for (NotNullConstraint constraint : notNullConstraints) {
+				TableConstraints entry = get(constraint.getTable());
+				if (entry != null) {
+					entry.notNullConstraints.add(constraint);
+				}
+			}
+			for (UniqueConstraint constraint : uniqueConstraints) {
+				TableConstraints entry = get(constraint.getTable());
+				if (entry != null) {
+					entry.uniqueConstraints.add(constraint);
+				}
+			}
+		}
+
+		TableConstraints get(Table table) {
+			Table schemaTable = tables.get(table.getIdentifier());
+			return schemaTable == null ? null : tableConstraints.get(schemaTable);
+		}
+	}
+
+	private transient volatile Index index;
 
 	/**
 	 * Constructs the schema.
@@ -76,6 +161,7 @@ public class Schema extends IdentifiableEntity {
 			throw new SQLRepresentationException("Table " + table
 					+ " already exists in this schema");
 		}
+		index = null;
 	}
 
 	/**
@@ -116,7 +202,7 @@ public class Schema extends IdentifiableEntity {
 	 * @return a list of tables that the schema contains.
 	 */
 	public List<Table> getTablesInOrder() {
-		return new TableDependencyOrderer().order(getTables(), this);
+		return new ArrayList<>(getOrderedTables());
 	}
 
 	/**
@@ -127,7 +213,19 @@ public class Schema extends IdentifiableEntity {
 	 *         getTablesInOrder).
 	 */
 	public List<Table> getTablesInReverseOrder() {
-		return new TableDependencyOrderer().reverseOrder(getTables(), this);
+		List<Table> order = new ArrayList<>(getOrderedTables());
+		Collections.reverse(order);
+		return order;
+	}
+
+	private List<Table> getOrderedTables() {
+		Index current = getIndex();
+		List<Table> order = current.tablesInOrder;
+		if (order == null) {
+			order = new TableDependencyOrderer().order(getTables(), this);
+			current.tablesInOrder = order;
+		}
+		return order;
 	}
 
 	/**
@@ -139,23 +237,28 @@ public class Schema extends IdentifiableEntity {
 	 * @return a list of connected tables.
 	 */
 	public List<Table> getConnectedTables(Table table) {
-		List<Table> referencedTables = new ArrayList<>();
-
-		List<Table> toVisit = new ArrayList<>();
-		toVisit.add(table);
-
-		while (toVisit.size() > 0) {
-			Table current = toVisit.remove(0);
-			for (ForeignKeyConstraint foreignKey : getForeignKeyConstraints(current)) {
-				Table referenceTable = foreignKey.getReferenceTable();
-				if (!referencedTables.contains(referenceTable)) {
-					referencedTables.add(referenceTable);
-					toVisit.add(referenceTable);
+		TableConstraints tableConstraints = getTableConstraints(table);
+		List<Table> referencedTables = tableConstraints.connectedTables;
+		if (referencedTables == null) {
+			referencedTables = new ArrayList<>();
+			Set<Table> visited = new HashSet<>();
+
+			Deque<Table> toVisit = new ArrayDeque<>();
+			toVisit.add(table);
+
+			while (!toVisit.isEmpty()) {
+				Table current = toVisit.remove();
+				for (ForeignKeyConstraint foreignKey : getTableConstraints(current).foreignKeyConstraints) {
+					Table referenceTable = foreignKey.getReferenceTable();
+					if (visited.add(referenceTable)) {
+						referencedTables.add(referenceTable);
+						toVisit.add(referenceTable);
+					}
 				}
 			}
+			tableConstraints.connectedTables = referencedTables;
 		}
-
-		return referencedTables;
+		return new ArrayList<>(referencedTables);
 	}
 
 	/**
@@ -228,6 +331,60 @@ public class Schema extends IdentifiableEntity {
 		return duplicateSchema;
 	}
 
+	/**
+	 * Copies the schema, sharing its tables, columns and constraints rather
+	 * than duplicating them, so that the copy takes little more memory than
+	 * the lists of what it contains. Tables and constraints can be added to
+	 * and removed from the copy without affecting this schema, but the shared
+	 * objects must not be changed in place (e.g., renamed) in either schema.
+	 * To change them, a copy must first be given objects of its own by calling
+	 * {@link #unshare()}.
+	 * 
+	 * @return a copy of the schema that shares its tables, columns and
+	 *         constraints.
+	 */
+	public Schema shallowDuplicate() {
+		Schema duplicateSchema = new Schema(getName());
+		duplicateSchema.tables = tables.shallowCopy();
+		duplicateSchema.primaryKeyConstraints.addAll(primaryKeyConstraints);
+		duplicateSchema.checkConstraints.addAll(checkConstraints);
+		duplicateSchema.foreignKeyConstraints.addAll(foreignKeyConstraints);
+		duplicateSchema.notNullConstraints.addAll(notNullConstraints);
+		duplicateSchema.uniqueConstraints.addAll(uniqueConstraints);
+		duplicateSchema.shared = true;
+		return duplicateSchema;
+	}
+
+	/**
+	 * Checks whether the schema was made by {@link #shallowDuplicate()}, and
+	 * so shares its tables, columns and constraints with another schema.
+	 * 
+	 * @return true if the schema shares its tables, columns and constraints,
+	 *         else false.
+	 */
+	public boolean isShared() {
+		return shared;
+	}
+
+	/**
+	 * Replaces the tables, columns and constraints that a schema made by
+	 * {@link #shallowDuplicate()} shares with deep copies, so that they can be
+	 * changed in place. Does nothing if the schema is not shared.
+	 */
+	public void unshare() {
+		if (shared) {
+			Schema duplicateSchema = duplicate();
+			tables = duplicateSchema.tables;
+			primaryKeyConstraints = duplicateSchema.primaryKeyConstraints;
+			checkConstraints = duplicateSchema.checkConstraints;
+			foreignKeyConstraints = duplicateSchema.foreignKeyConstraints;
+			notNullConstraints = duplicateSchema.notNullConstraints;
+			uniqueConstraints = duplicateSchema.uniqueConstraints;
+			shared = false;
+			index = null;
+		}
+	}
+
 	/**
 	 * Creates a <tt>CHECK</tt> constraint and adds it to the schema.
 	 * 
@@ -275,6 +432,7 @@ public class Schema extends IdentifiableEntity {
 		}
 
 		checkConstraints.add(constraint);
+		index = null;
 	}
 
 	/**
@@ -286,6 +444,7 @@ public class Schema extends IdentifiableEntity {
 	 *         and was successfully removed, else false.
 	 */
 	public boolean removeCheckConstraint(CheckConstraint constraint) {
+		index = null;
 		return checkConstraints.remove(constraint);
 	}
 
@@ -298,7 +457,7 @@ public class Schema extends IdentifiableEntity {
 	 * @return a list of the <tt>CHECK</tt> constraints on the table.
 	 */
 	public List<CheckConstraint> getCheckConstraints(Table table) {
-		return getConstraints(table, checkConstraints);
+		return new ArrayList<>(getTableConstraints(table).checkConstraints);
 	}
 
 	/**
@@ -417,6 +576,7 @@ public class Schema extends IdentifiableEntity {
                     foreignKeyConstraints.remove(constraint);
                 }
 		foreignKeyConstraints.add(constraint);
+		index = null;
 	}
 
 	/**
@@ -428,6 +588,7 @@ public class Schema extends IdentifiableEntity {
 	 *         successfully, else false.
 	 */
 	public boolean removeForeignKeyConstraint(ForeignKeyConstraint constraint) {
+		index = null;
 		return foreignKeyConstraints.remove(constraint);
 	}
 
@@ -440,7 +601,7 @@ public class Schema extends IdentifiableEntity {
 	 * @return a list of the <tt>FOREIGN KEY</tt>s defined on table.
 	 */
 	public List<ForeignKeyConstraint> getForeignKeyConstraints(Table table) {
-		return getConstraints(table, foreignKeyConstraints);
+		return new ArrayList<>(getTableConstraints(table).foreignKeyConstraints);
 	}
 
 	/**
@@ -500,6 +661,7 @@ public class Schema extends IdentifiableEntity {
 					+ "\" in this schema for constraint");
 		}
 		notNullConstraints.add(constraint);
+		index = null;
 	}
 
 	/**
@@ -511,6 +673,7 @@ public class Schema extends IdentifiableEntity {
 	 *         was removed, else false.
 	 */
 	public boolean removeNotNullConstraint(NotNullConstraint constraint) {
+		index = null;
 		return notNullConstraints.remove(constraint);
 	}
 
@@ -523,7 +686,7 @@ public class Schema extends IdentifiableEntity {
 	 * @return a list of <tt>NOT NULL</tt> constraints on the table.
 	 */
 	public List<NotNullConstraint> getNotNullConstraints(Table table) {
-		return getConstraints(table, notNullConstraints);
+		return new ArrayList<>(getTableConstraints(table).notNullConstraints);
 	}
 
 	/**
@@ -620,6 +783,7 @@ public class Schema extends IdentifiableEntity {
 		}
 		removePrimaryKeyConstraint(table);
 		primaryKeyConstraints.add(constraint);
+		index = null;
 	}
 
 	/**
@@ -639,6 +803,7 @@ public class Schema extends IdentifiableEntity {
 			PrimaryKeyConstraint primaryKeyConstraint = iterator.next();
 			if (table.equals(primaryKeyConstraint.getTable())) {
 				iterator.remove();
+				index = null;
 				return;
 			}
 		}
@@ -654,16 +819,7 @@ public class Schema extends IdentifiableEntity {
 	 *         is set).
 	 */
 	public PrimaryKeyConstraint getPrimaryKeyConstraint(Table table) {
-		if (!tables.contains(table)) {
-			throw new SQLRepresentationException("No such table \"" + table
-					+ "\" in this schema for constraint");
-		}
-		for (PrimaryKeyConstraint constraint : primaryKeyConstraints) {
-			if (table.equals(constraint.getTable())) {
-				return constraint;
-			}
-		}
-		return null;
+		return getTableConstraints(table).primaryKeyConstraint;
 	}
 
 	/**
@@ -685,16 +841,7 @@ public class Schema extends IdentifiableEntity {
 	 * @return true if a <tt>PRIMARY KEY</tt> is set, else false.
 	 */
 	public boolean hasPrimaryKeyConstraint(Table table) {
-		if (!tables.contains(table)) {
-			throw new SQLRepresentationException("No such table \"" + table
-					+ "\" in this schema for constraint");
-		}
-		for (PrimaryKeyConstraint primaryKeyConstraint : primaryKeyConstraints) {
-			if (table.equals(primaryKeyConstraint.getTable())) {
-				return true;
-			}
-		}
-		return false;
+		return getTableConstraints(table).primaryKeyConstraint != null;
 	}
 
 	/**
@@ -781,6 +928,7 @@ public class Schema extends IdentifiableEntity {
 		}
 
 		uniqueConstraints.add(constraint);
+		index = null;
 	}
 
 	/**
@@ -801,6 +949,7 @@ public class Schema extends IdentifiableEntity {
 				iter.remove();
 			}
 		}
+		index = null;
 		return found;
 	}
 
@@ -813,7 +962,7 @@ public class Schema extends IdentifiableEntity {
 	 * @return The list of <tt>UNIQUE</tt> constraints on the table.
 	 */
 	public List<UniqueConstraint> getUniqueConstraints(Table table) {
-		return getConstraints(table, uniqueConstraints);
+		return new ArrayList<>(getTableConstraints(table).uniqueConstraints);
 	}
 
 	/**
@@ -832,14 +981,15 @@ public class Schema extends IdentifiableEntity {
 	 * @return The list of constraints defined on the table.
 	 */
 	public List<Constraint> getConstraints(Table table) {
-		List<Constraint> constraints = new ArrayList<>();
-		if (hasPrimaryKeyConstraint(table)) {
-			constraints.add(getPrimaryKeyConstraint(table));
+		TableConstraints tableConstraints = getTableConstraints(table);
+		List<Constraint> constraints = new ArrayList<>(tableConstraints.size());
+		if (tableConstraints.primaryKeyConstraint != null) {
+			constraints.add(tableConstraints.primaryKeyConstraint);
 		}
-		constraints.addAll(getCheckConstraints(table));
-		constraints.addAll(getForeignKeyConstraints(table));
-		constraints.addAll(getNotNullConstraints(table));
-		constraints.addAll(getUniqueConstraints(table));
+		constraints.addAll(tableConstraints.checkConstraints);
+		constraints.addAll(tableConstraints.foreignKeyConstraints);
+		constraints.addAll(tableConstraints.notNullConstraints);
+		constraints.addAll(tableConstraints.uniqueConstraints);
 		return constraints;
 	}
 
@@ -850,7 +1000,7 @@ public class Schema extends IdentifiableEntity {
      * @return The number of constraints defined for the table.
      */
     public int getNumConstraints(Table table) {
-        return getConstraints(table).size();
+        return getTableConstraints(table).size();
     }
 
 	/**
@@ -869,29 +1019,29 @@ public class Schema extends IdentifiableEntity {
 	}
 
 	/**
-	 * Returns a list of constraints on a table, in order of creation, from a
-	 * set.
+	 * Returns the constraints on a table, in order of creation, from the
+	 * index.
 	 * 
 	 * @param table
 	 *            the table for which the constraints are required.
-	 * @param constraintSet
-	 *            the set from which to take the constraints from for the table.
-	 * @return a list of constraints defined on the table.
+	 * @return the constraints defined on the table.
 	 */
-	private <C extends Constraint> List<C> getConstraints(Table table,
-			List<C> constraintSet) {
-		if (!tables.contains(table)) {
+	private TableConstraints getTableConstraints(Table table) {
+		TableConstraints tableConstraints = getIndex().get(table);
+		if (tableConstraints == null) {
 			throw new SQLRepresentationException("No such table \"" + table
 					+ "\" in this schema for constraint");
 		}
+		return tableConstraints;
+	}
 
-		List<C> constraintsForTable = new ArrayList<>();
-		for (C constraint : constraintSet) {
-			if (constraint.getTable().equals(table)) {
-				constraintsForTable.add(constraint);
-			}
+	private Index getIndex() {
+		Index current = index;
+		if (current == null) {
+			current = new Index();
+			index = current;
 		}
-		return constraintsForTable;
+		return current;
 	}
 
 	/**
@@ -907,7 +1057,7 @@ public class Schema extends IdentifiableEntity {
 	public boolean isUnique(Table table, Column... column) {
 		boolean found = false;
 		HashSet<Column> columns = new HashSet<>(Arrays.asList(column));
-		for (UniqueConstraint uniqueConstraint : getUniqueConstraints(table)) {
+		for (UniqueConstraint uniqueConstraint : getTableConstraints(table).uniqueConstraints) {
 			HashSet<Column> ucColumns = new HashSet<>(
 					uniqueConstraint.getColumns());
 			if (columns.size() == ucColumns.size()
@@ -930,7 +1080,7 @@ public class Schema extends IdentifiableEntity {
 	 */
 	public boolean isNotNull(Table table, Column column) {
 		boolean found = false;
-		for (NotNullConstraint constraint : getNotNullConstraints(table)) {
+		for (NotNullConstraint constraint : getTableConstraints(table).notNullConstraints) {
 			if (constraint.getColumn() == column) {
 				found = true;
 				break;
@@ -67,7 +67,8 @@ public class ColumnExpression extends ExpressionLeaf {
         final int prime = 31;
         int result = 1;
         result = prime * result + ((column == null) ? 0 : column.hashCode());
-        result = prime * result + ((table == null) ? 0 : table.hashCode());
+        // hash only the table's identifier, as hashing the table hashes all its columns
+        result = prime * result + ((table == null) ? 0 : table.getIdentifier().hashCode());
         return result;
     }
 
@@ -11,6 +11,7 @@ import org.schemaanalyst.sqlrepresentation.constraint.*;
 import org.schemaanalyst.util.IndentableStringBuilder;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -170,6 +171,19 @@ public class SQLWriter {
         return sql.toString();
     }
 
+    /**
+     * Writes an INSERT statement for a table with a parameter in place of the
+     * value of each column, for executing with
+     * {@link org.schemaanalyst.dbms.DatabaseInteractor#executeInsert}.
+     *
+     * @param table The table
+     * @return The parameterised INSERT statement
+     */
+    public String writeParameterisedInsertStatement(Table table) {
+        List<String> parameters = Collections.nCopies(table.getColumns().size(), "?");
+        return writeInsertStatement(table, table.getColumns(), parameters);
+    }
+
     public String writeInsertStatement(Row row) {
         Table table = row.getTable();
         List<Column> columns = table.getColumns();
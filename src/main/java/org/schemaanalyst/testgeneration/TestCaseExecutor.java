@@ -85,12 +85,12 @@ public class TestCaseExecutor {
         for (Table table : tables) {
             if (stateTables.contains(table)) {
                 List<Row> rows = state.getRows(table);
+                String statement = sqlWriter.writeParameterisedInsertStatement(table);
                 for (Row row : rows) {
-                    String statement = sqlWriter.writeInsertStatement(row);
-                    Integer result = databaseInteractor.executeUpdate(statement);
+                    Integer result = databaseInteractor.executeInsert(statement, row);
                     if (result != 1) {
                         throw new TestCaseExecutionException(
-                                "INSERT statement for setting database state \"" + statement + "\" should affect exactly one row, was " + result);
+                                "INSERT statement for setting database state \"" + sqlWriter.writeInsertStatement(row) + "\" should affect exactly one row, was " + result);
                     }
                 }
             }
@@ -104,12 +104,12 @@ public class TestCaseExecutor {
         for (Table table : tables) {
             if (dataTables.contains(table)) {
                 List<Row> rows = data.getRows(table);
+                String statement = sqlWriter.writeParameterisedInsertStatement(table);
                 for (Row row : rows) {
-                    String statement = sqlWriter.writeInsertStatement(row);
-                    Integer result = databaseInteractor.executeUpdate(statement);
+                    Integer result = databaseInteractor.executeInsert(statement, row);
                     if (result < 0) {
                         throw new TestCaseExecutionException(
-                                "Could not execute INSERT statement \"" + statement + "\" while executing test case - result was " + result);
+                                "Could not execute INSERT statement \"" + sqlWriter.writeInsertStatement(row) + "\" while executing test case - result was " + result);
                     }
                     boolean success = (result == 1);
                     results.add(success);
@@ -0,0 +1,290 @@
+package org.schemaanalyst.testgeneration;
+
+import org.schemaanalyst.data.ValueFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.sqlrepresentation.Schema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * An on-disk cache of generated test suites, so that repeated experiments on
+ * the same schema (e.g., with different mutation pipelines or techniques)
+ * reuse the test suite rather than generating it again.
+ * </p>
+ *
+ * <p>
+ * Suites are stored in a directory, one file per suite in the format of
+ * {@link TestSuiteWriter} after their coverage and evaluations, named by a hash of
+ * everything that determines the suite generated: the CREATE TABLE statements
+ * of the schema for the DBMS, the coverage criterion, the data generator, the
+ * maximum evaluations and the random seed (see {@link #key}). When the total
+ * size of the files exceeds the size of the cache, the least recently used
+ * suites are deleted.
+ * </p>
+ */
+public class TestSuiteCache {
+
+    private static final Logger LOGGER = Logger.getLogger(TestSuiteCache.class.getName());
+
+    private static final String EXTENSION = ".suite";
+
+    /**
+     * Changed whenever the generated test suites, or their serialized form,
+     * change, so that suites cached by earlier versions are not used.
+     */
+    private static final int VERSION = 2;
+
+    private final File directory;
+    private final long maxSize;
+    private int hits = 0;
+    private int misses = 0;
+    private int evictions = 0;
+
+    /**
+     * A cached test suite, with the summary of its generation report.
+     */
+    public static class Entry {
+
+        private final TestSuite testSuite;
+        private final double coverage;
+        private final int numDataEvaluations;
+
+        public Entry(TestSuite testSuite, double coverage, int numDataEvaluations) {
+            this.testSuite = testSuite;
+            this.coverage = coverage;
+            this.numDataEvaluations = numDataEvaluations;
+        }
+
+        public TestSuite getTestSuite() {
+            return testSuite;
+        }
+
+        public double getCoverage() {
+            return coverage;
+        }
+
+        public int getNumDataEvaluations() {
+            return numDataEvaluations;
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param directory The directory to store the test suites in, which is
+     * created if it does not exist
+     * @param maxSize The maximum total size of the stored test suites, in bytes
+     */
+    public TestSuiteCache(File directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Computes the key of the test suite generated with some settings.
+     *
+     * @param schema The schema
+     * @param dbms The DBMS
+     * @param criterion The name of the coverage criterion
+     * @param dataGenerator The name of the data generator
+     * @param maxEvaluations The maximum evaluations of the data generator
+     * @param randomSeed The random seed
+     * @param parallel Whether the suite is generated with a data generator
+     * for each test requirement, rather than a single one
+     * @return The key, a hexadecimal SHA-256 hash
+     */
+    public static String key(Schema schema, DBMS dbms, String criterion, String dataGenerator,
+                             int maxEvaluations, long randomSeed, boolean parallel) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(VERSION).append('\n');
+        sb.append(dbms.getName()).append('\n');
+        sb.append(schema.getName()).append('\n');
+        for (String statement : dbms.getSQLWriter().writeCreateTableStatements(schema)) {
+            sb.append(statement).append('\n');
+        }
+        sb.append(criterion).append('\n');
+        sb.append(dataGenerator).append('\n');
+        sb.append(maxEvaluations).append('\n');
+        sb.append(randomSeed).append('\n');
+        sb.append(parallel).append('\n');
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Gets a test suite from the cache. An unreadable file (e.g., written by
+     * an incompatible version) is deleted, and counted as a miss.
+     *
+     * @param key The key of the test suite
+     * @param schema The schema of the test suite
+     * @param valueFactory The value factory for the cells of the test cases
+     * @return The cached test suite, or null if it is not in the cache
+     */
+    public synchronized Entry get(String key, Schema schema, ValueFactory valueFactory) {
+        File file = getFile(key);
+        if (file.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                double coverage = in.readDouble();
+                int numDataEvaluations = in.readInt();
+                Entry entry = new Entry(TestSuiteReader.read(in, schema, valueFactory), coverage, numDataEvaluations);
+                file.setLastModified(System.currentTimeMillis());
+                hits++;
+                LOGGER.log(Level.INFO, "Test suite cache hit for {0}", key);
+                return entry;
+            } catch (IOException | RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Could not read cached test suite " + file + ", deleting it", ex);
+                file.delete();
+            }
+        }
+        misses++;
+        LOGGER.log(Level.INFO, "Test suite cache miss for {0}", key);
+        return null;
+    }
+
+    /**
+     * Puts a test suite in the cache, then evicts the least recently used
+     * test suites until the cache is within its size. The suite is written to
+     * a temporary file first, so that other processes sharing the directory
+     * never read a partly written one.
+     *
+     * @param key The key of the test suite
+     * @param entry The test suite
+     */
+    public synchronized void put(String key, Entry entry) {
+        File file = getFile(key);
+        File temp = null;
+        try {
+            Files.createDirectories(directory.toPath());
+            temp = File.createTempFile(key + EXTENSION, ".tmp", directory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                out.writeDouble(entry.getCoverage());
+                out.writeInt(entry.getNumDataEvaluations());
+                TestSuiteWriter.write(entry.getTestSuite(), out);
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Could not cache test suite " + file, ex);
+            if (temp != null) {
+                temp.delete();
+            }
+            return;
+        }
+        evict(file);
+    }
+
+    private void evict(File keep) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        List<File> suites = new ArrayList<>();
+        final Map<File, Long> lastModified = new HashMap<>();
+        long size = 0;
+        for (File file : files) {
+            if (file.getName().endsWith(EXTENSION)) {
+                suites.add(file);
+                lastModified.put(file, file.lastModified());
+                size += file.length();
+            }
+        }
+        if (size <= maxSize) {
+            return;
+        }
+
+        // least recently used first
+        Collections.sort(suites, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                return Long.compare(lastModified.get(a), lastModified.get(b));
+            }
+        });
+        for (File file : suites) {
+            if (size <= maxSize) {
+                break;
+            }
+            if (!file.equals(keep)) {
+                long length = file.length();
+                if (file.delete()) {
+                    size -= length;
+                    evictions++;
+                    LOGGER.log(Level.FINE, "Evicted cached test suite {0}", file.getName());
+                }
+            }
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(directory, key + EXTENSION);
+    }
+
+    /**
+     * Removes every test suite from the cache.
+     */
+    public synchronized void clear() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().endsWith(EXTENSION)) {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of test suites found in the cache.
+     *
+     * @return The number of hits
+     */
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of test suites not found in the cache.
+     *
+     * @return The number of misses
+     */
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the number of test suites deleted to keep the cache within its size.
+     *
+     * @return The number of evictions
+     */
+    public synchronized int getEvictions() {
+        return evictions;
+    }
+}
@@ -4,6 +4,7 @@ import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.ValueFactory;
 import org.schemaanalyst.data.generation.DataGenerationReport;
 import org.schemaanalyst.data.generation.DataGenerator;
+import org.schemaanalyst.data.generation.DataGeneratorFactory;
 import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlrepresentation.Table;
@@ -16,10 +17,18 @@ import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
 import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.PredicateGenerator;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.*;
 
+import org.schemaanalyst.util.random.Random;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 /**
@@ -33,6 +42,10 @@ public class TestSuiteGenerator {
     private TestRequirements testRequirements;
     private ValueFactory valueFactory;
     private DataGenerator dataGenerator;
+    private String dataGeneratorName;
+    private long randomSeed;
+    private int maxEvaluations;
+    private int threads;
     private HashMap<Table, Data> initialTableData;
     private TestSuite testSuite;
     private TestSuiteGenerationReport testSuiteGenerationReport;
@@ -49,13 +62,53 @@ public class TestSuiteGenerator {
         initialTableData = new HashMap<>();
     }
 
+    /**
+     * Constructor for parallel generation. The initial data of each table,
+     * and the data of each test requirement, is generated by a data
+     * generator of its own, seeded from the random seed and its position in
+     * the order of tables or test requirements. The test suite generated
+     * therefore depends on the random seed, but not on the number of threads.
+     *
+     * @param schema The schema
+     * @param testRequirements The test requirements
+     * @param valueFactory The value factory
+     * @param dataGeneratorName The name of the data generator, as given to
+     * {@link DataGeneratorFactory}
+     * @param randomSeed The random seed
+     * @param maxEvaluations The maximum evaluations of each data generator
+     * @param threads The number of threads to generate data with
+     */
+    public TestSuiteGenerator(Schema schema,
+                              TestRequirements testRequirements,
+                              ValueFactory valueFactory,
+                              String dataGeneratorName,
+                              long randomSeed,
+                              int maxEvaluations,
+                              int threads) {
+        this(schema, testRequirements, valueFactory, null);
+        this.dataGeneratorName = dataGeneratorName;
+        this.randomSeed = randomSeed;
+        this.maxEvaluations = maxEvaluations;
+        this.threads = threads;
+    }
+
     public TestSuite generate() {
         LOGGER.fine("Generating test suite for " + schema);
 
         testSuite = new TestSuite();
         testSuiteGenerationReport = new TestSuiteGenerationReport();
-        generateInitialTableData();
-        generateTestCases();
+        if (dataGeneratorName == null) {
+            generateInitialTableData();
+            generateTestCases();
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                generateInitialTableDataInParallel(executor);
+                generateTestCasesInParallel(executor);
+            } finally {
+                executor.shutdown();
+            }
+        }
         return testSuite;
     }
 
@@ -65,102 +118,215 @@ public class TestSuiteGenerator {
 
     protected void generateInitialTableData() {
         for (Table table : schema.getTablesInOrder()) {
+            addInitialTableDataResult(table, generateInitialTableData(table, dataGenerator, initialTableData));
+        }
+    }
 
-            ComposedPredicate acceptancePredicate = PredicateGenerator.generatePredicate(schema.getConstraints(table));
-
-            // add not null predicates
-            List<Column> notNullColumns = table.getColumns();
-
-            /*
-            // NOTE: selecting individual columns like this will cause AUCC test requirements to fail.
-
-            List<Column> notNullColumns = new ArrayList<>();
-            PrimaryKeyConstraint primaryKeyConstraint = schema.getPrimaryKeyConstraint(table);
-            if (primaryKeyConstraint != null) {
-                // TODO: some check as to whether it's been added already ...
-                notNullColumns.addAll(primaryKeyConstraint.getColumns());
-            }
-            for (UniqueConstraint uniqueConstraint : schema.getUniqueConstraints(table)) {
-                notNullColumns.addAll(uniqueConstraint.getColumns());
+    /**
+     * Generates the initial data of tables in parallel. Tables are generated
+     * in turn by dependency depth, so that the initial data of the tables
+     * that a table references is available when it is generated. As when
+     * generating in order, a table only uses the initial data of the tables
+     * that precede it in {@link Schema#getTablesInOrder()}.
+     *
+     * @param executor The executor to generate data with
+     */
+    protected void generateInitialTableDataInParallel(ExecutorService executor) {
+        List<Table> tables = schema.getTablesInOrder();
+        Map<Table, Integer> depths = new HashMap<>();
+        List<List<Table>> tablesByDepth = new ArrayList<>();
+
+        for (Table table : tables) {
+            int depth = 0;
+            for (Table linkedTable : schema.getConnectedTables(table)) {
+                // only the tables preceding this one have a depth yet
+                Integer linkedDepth = depths.get(linkedTable);
+                if (!linkedTable.equals(table) && linkedDepth != null) {
+                    depth = Math.max(depth, linkedDepth + 1);
+                }
             }
-            for (ForeignKeyConstraint foreignKeyConstraint : schema.getForeignKeyConstraints(table)) {
-                notNullColumns.addAll(foreignKeyConstraint.getColumns());
+            depths.put(table, depth);
+            if (depth == tablesByDepth.size()) {
+                tablesByDepth.add(new ArrayList<Table>());
             }
-            */
-            AndPredicate predicate = new AndPredicate();
-            predicate.addPredicate(acceptancePredicate);
-            PredicateGenerator.addNullPredicates(predicate, table, notNullColumns, false);
-
-            LOGGER.fine("\nGENERATING INITIAL TABLE DATA FOR " + table);
-            LOGGER.fine("--- Predicate is " + predicate);
-
-            // add referenced tables to the state
-            Data state = new Data();
-            boolean haveLinkedData = addInitialTableDataToState(state, table);
-            if (haveLinkedData) {
-                // generate the row
-                Data data = new Data();
-                data.addRow(table, valueFactory);
-                DataGenerationReport dataGenerationReport = dataGenerator.generateData(data, state, predicate);
-                if (dataGenerationReport.isSuccess()) {
-                    LOGGER.fine("--- Success, generated in " + dataGenerationReport.getNumEvaluations() + " evaluations");
-                    LOGGER.fine("--- Data is: \n" + data);
-                    initialTableData.put(table, data);
-                } else {
-                    LOGGER.fine("--- Failed");
+            tablesByDepth.get(depth).add(table);
+        }
+
+        long tablesSeed = Random.deriveSeed(randomSeed, 0);
+        for (List<Table> depthTables : tablesByDepth) {
+            List<Callable<DataGenerationResult>> tasks = new ArrayList<>();
+            for (final Table table : depthTables) {
+                final DataGenerator tableDataGenerator = createDataGenerator(
+                        Random.deriveSeed(tablesSeed, tables.indexOf(table)));
+                final Map<Table, Data> availableTableData = new HashMap<>();
+                for (Table precedingTable : tables.subList(0, tables.indexOf(table))) {
+                    if (initialTableData.containsKey(precedingTable)) {
+                        availableTableData.put(precedingTable, initialTableData.get(precedingTable));
+                    }
                 }
+                tasks.add(new Callable<DataGenerationResult>() {
+                    @Override
+                    public DataGenerationResult call() {
+                        return generateInitialTableData(table, tableDataGenerator, availableTableData);
+                    }
+                });
+            }
+
+            List<DataGenerationResult> results = executeTasks(executor, tasks);
+            for (int i = 0; i < depthTables.size(); i++) {
+                addInitialTableDataResult(depthTables.get(i), results.get(i));
+            }
+        }
+    }
+
+    protected DataGenerationResult generateInitialTableData(Table table,
+                                                            DataGenerator dataGenerator,
+                                                            Map<Table, Data> availableTableData) {
+        ComposedPredicate acceptancePredicate = PredicateGenerator.generatePredicate(schema.getConstraints(table));
+
+        // add not null predicates
+        List<Column> notNullColumns = table.getColumns();
 
-                testSuiteGenerationReport.addInitialTableDataResult(
-                        table, new DataGenerationResult(data, state, dataGenerationReport));
+        /*
+        // NOTE: selecting individual columns like this will cause AUCC test requirements to fail.
+
+        List<Column> notNullColumns = new ArrayList<>();
+        PrimaryKeyConstraint primaryKeyConstraint = schema.getPrimaryKeyConstraint(table);
+        if (primaryKeyConstraint != null) {
+            // TODO: some check as to whether it's been added already ...
+            notNullColumns.addAll(primaryKeyConstraint.getColumns());
+        }
+        for (UniqueConstraint uniqueConstraint : schema.getUniqueConstraints(table)) {
+            notNullColumns.addAll(uniqueConstraint.getColumns());
+        }
+        for (ForeignKeyConstraint foreignKeyConstraint : schema.getForeignKeyConstraints(table)) {
+            notNullColumns.addAll(foreignKeyConstraint.getColumns());
+        }
+        */
+        AndPredicate predicate = new AndPredicate();
+        predicate.addPredicate(acceptancePredicate);
+        PredicateGenerator.addNullPredicates(predicate, table, notNullColumns, false);
+
+        LOGGER.fine("\nGENERATING INITIAL TABLE DATA FOR " + table);
+        LOGGER.fine("--- Predicate is " + predicate);
+
+        // add referenced tables to the state
+        Data state = new Data();
+        boolean haveLinkedData = addInitialTableDataToState(state, table, availableTableData);
+        if (haveLinkedData) {
+            // generate the row
+            Data data = new Data();
+            data.addRow(table, valueFactory);
+            DataGenerationReport dataGenerationReport = dataGenerator.generateData(data, state, predicate);
+            if (dataGenerationReport.isSuccess()) {
+                LOGGER.fine("--- Success, generated in " + dataGenerationReport.getNumEvaluations() + " evaluations");
+                LOGGER.fine("--- Data is: \n" + data);
             } else {
-                // there was no linked data generated to add to the state, so generated of this row failed by default
-                testSuiteGenerationReport.addInitialTableDataResult(
-                        table, null);
+                LOGGER.fine("--- Failed");
             }
+
+            return new DataGenerationResult(data, state, dataGenerationReport);
+        } else {
+            // there was no linked data generated to add to the state, so generated of this row failed by default
+            return null;
+        }
+    }
+
+    private void addInitialTableDataResult(Table table, DataGenerationResult result) {
+        if (result != null && result.getReport().isSuccess()) {
+            initialTableData.put(table, result.getData());
         }
+        testSuiteGenerationReport.addInitialTableDataResult(table, result);
     }
 
     protected void generateTestCases() {
         for (TestRequirement testRequirement : testRequirements.getTestRequirements()) {
+            addTestRequirementResult(testRequirement, generateTestCase(testRequirement, dataGenerator));
+        }
+    }
 
-            Predicate predicate = testRequirement.getPredicate();
-            Table table = getTestRequirementTable(testRequirement);
+    protected void generateTestCasesInParallel(ExecutorService executor) {
+        List<TestRequirement> requirements = testRequirements.getTestRequirements();
+        List<Callable<DataGenerationResult>> tasks = new ArrayList<>();
+
+        long testCasesSeed = Random.deriveSeed(randomSeed, 1);
+        for (int i = 0; i < requirements.size(); i++) {
+            final TestRequirement testRequirement = requirements.get(i);
+            final long seed = Random.deriveSeed(testCasesSeed, i);
+            tasks.add(new Callable<DataGenerationResult>() {
+                @Override
+                public DataGenerationResult call() {
+                    return generateTestCase(testRequirement, createDataGenerator(seed));
+                }
+            });
+        }
 
-            LOGGER.fine("\nGENERATING TEST CASE");
-            for (TestRequirementDescriptor testRequirementDescriptor : testRequirement.getDescriptors()) {
-                LOGGER.fine(testRequirementDescriptor.toString());
-            }
-            LOGGER.fine("--- Predicate is " + predicate);
+        List<DataGenerationResult> results = executeTasks(executor, tasks);
+        for (int i = 0; i < requirements.size(); i++) {
+            addTestRequirementResult(requirements.get(i), results.get(i));
+        }
+    }
 
-            Data state = new Data();
-            Data data = new Data();
-            predicate = addAdditionalRows(state, data, predicate, table, testRequirement.getRequiresComparisonRow());
+    protected DataGenerationResult generateTestCase(TestRequirement testRequirement, DataGenerator dataGenerator) {
+        Predicate predicate = testRequirement.getPredicate();
+        Table table = getTestRequirementTable(testRequirement);
 
-            if (predicate != null) {
-                data.addRow(table, valueFactory);
+        LOGGER.fine("\nGENERATING TEST CASE");
+        for (TestRequirementDescriptor testRequirementDescriptor : testRequirement.getDescriptors()) {
+            LOGGER.fine(testRequirementDescriptor.toString());
+        }
+        LOGGER.fine("--- Predicate is " + predicate);
 
-                LOGGER.fine("--- Pre-reduced predicate is " + predicate);
-                predicate = predicate.reduce();
-                LOGGER.fine("--- Reduced predicate is " + predicate);
+        Data state = new Data();
+        Data data = new Data();
+        predicate = addAdditionalRows(state, data, predicate, table, testRequirement.getRequiresComparisonRow());
 
-                DataGenerationReport dataGenerationReport = dataGenerator.generateData(data, state, predicate);
-                if (dataGenerationReport.isSuccess()) {
-                    TestCase testCase = new TestCase(testRequirement, data, state);
-                    testSuite.addTestCase(testCase);
+        if (predicate != null) {
+            data.addRow(table, valueFactory);
 
-                    LOGGER.fine("--- SUCCESS, generated in " + dataGenerationReport.getNumEvaluations() + " evaluations");
-                    LOGGER.fine("--- Data is \n" + data);
-                } else {
-                    LOGGER.fine("--- FAILED");
-                }
+            LOGGER.fine("--- Pre-reduced predicate is " + predicate);
+            predicate = predicate.reduce();
+            LOGGER.fine("--- Reduced predicate is " + predicate);
 
-                testSuiteGenerationReport.addTestRequirementResult(
-                        testRequirement, new DataGenerationResult(data, state, dataGenerationReport));
-            } else  {
-                testSuiteGenerationReport.addTestRequirementResult(
-                        testRequirement, null);
+            DataGenerationReport dataGenerationReport = dataGenerator.generateData(data, state, predicate);
+            if (dataGenerationReport.isSuccess()) {
+                LOGGER.fine("--- SUCCESS, generated in " + dataGenerationReport.getNumEvaluations() + " evaluations");
+                LOGGER.fine("--- Data is \n" + data);
+            } else {
+                LOGGER.fine("--- FAILED");
             }
+
+            return new DataGenerationResult(data, state, dataGenerationReport);
+        } else  {
+            return null;
+        }
+    }
+
+    private void addTestRequirementResult(TestRequirement testRequirement, DataGenerationResult result) {
+        if (result != null && result.getReport().isSuccess()) {
+            testSuite.addTestCase(new TestCase(testRequirement, result.getData(), result.getState()));
         }
+        testSuiteGenerationReport.addTestRequirementResult(testRequirement, result);
+    }
+
+    private DataGenerator createDataGenerator(long seed) {
+        return DataGeneratorFactory.instantiate(dataGeneratorName, seed, maxEvaluations, schema);
+    }
+
+    private <T> List<T> executeTasks(ExecutorService executor, List<Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<>();
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException | ExecutionException ex) {
+            throw new RuntimeException(ex);
+        }
+        return results;
     }
 
     protected Table getTestRequirementTable(TestRequirement testRequirement) {
@@ -195,6 +361,10 @@ public class TestSuiteGenerator {
     }
 
     protected boolean addInitialTableDataToState(Data state, Table table) {
+        return addInitialTableDataToState(state, table, initialTableData);
+    }
+
+    protected boolean addInitialTableDataToState(Data state, Table table, Map<Table, Data> availableTableData) {
         LOGGER.fine("--- adding initial data to state for linked tables");
 
         // add rows for tables linked via foreign keys to the state
@@ -204,7 +374,7 @@ public class TestSuiteGenerator {
             // a row should always have been previously-generated
             // for a linked table
             if (!linkedTable.equals(table)) {
-                Data initialData = initialTableData.get(linkedTable);
+                Data initialData = availableTableData.get(linkedTable);
 
                 // cannot generate data in this instance
                 if (initialData == null) {
@@ -0,0 +1,274 @@
+package org.schemaanalyst.testgeneration;
+
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.DataCodec;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.ValueFactory;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirement;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads test suites written by {@link TestSuiteWriter}, one test case at a
+ * time, so that a large test suite need not be held in memory at once. As
+ * the writer resets its stream after each test case, each test case is read
+ * independently, and nothing is kept between them. The tables and columns of
+ * the test cases read are those of the schema given, found by name.
+ */
+public class TestSuiteReader implements Iterator<TestCase>, Closeable {
+
+    private ObjectInput in;
+    private Schema schema;
+    private ValueFactory valueFactory;
+    private List<Table> tables;
+    private List<List<Column>> columns;
+    private int numTestCases;
+    private int numRead = 0;
+
+    /**
+     * Constructor, which reads the header of the test suite.
+     *
+     * @param in The stream to read from, which is closed by {@link #close()}
+     * @param schema The schema of the test suite
+     * @param valueFactory The value factory for the cells of the test cases
+     * @throws IOException If the stream cannot be read, is not a test suite,
+     * or has tables or columns that are not in the schema
+     */
+    public TestSuiteReader(InputStream in, Schema schema, ValueFactory valueFactory) throws IOException {
+        this.schema = schema;
+        this.valueFactory = valueFactory;
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        try {
+            readHeader(buffered);
+        } catch (IOException ex) {
+            buffered.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Checks whether a file starts like a test suite written by
+     * {@link TestSuiteWriter}, rather than, for instance, a serialized
+     * {@link TestSuite}.
+     *
+     * @param file The file
+     * @return Whether it is in the binary format
+     * @throws IOException If the file cannot be read
+     */
+    public static boolean isTestSuiteFile(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return file.length() >= 4 && in.readInt() == TestSuiteWriter.MAGIC;
+        }
+    }
+
+    /**
+     * Loads a test suite from a file, which may either be written by
+     * {@link TestSuiteWriter} or be a serialized {@link TestSuite}.
+     *
+     * @param file The file
+     * @param schema The schema of the test suite
+     * @param valueFactory The value factory for the cells of the test cases
+     * @return The test suite
+     * @throws IOException If the file cannot be read
+     */
+    public static TestSuite load(File file, Schema schema, ValueFactory valueFactory) throws IOException {
+        if (isTestSuiteFile(file)) {
+            return read(file, schema, valueFactory);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return (TestSuite) in.readObject();
+        } catch (ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Reads a whole test suite from a file.
+     *
+     * @param file The file
+     * @param schema The schema of the test suite
+     * @param valueFactory The value factory for the cells of the test cases
+     * @return The test suite
+     * @throws IOException If the file cannot be read
+     */
+    public static TestSuite read(File file, Schema schema, ValueFactory valueFactory) throws IOException {
+        return read(new FileInputStream(file), schema, valueFactory);
+    }
+
+    /**
+     * Reads a whole test suite from a stream, closing it.
+     *
+     * @param in The stream
+     * @param schema The schema of the test suite
+     * @param valueFactory The value factory for the cells of the test cases
+     * @return The test suite
+     * @throws IOException If the stream cannot be read
+     */
+    public static TestSuite read(InputStream in, Schema schema, ValueFactory valueFactory) throws IOException {
+        try (TestSuiteReader reader = new TestSuiteReader(in, schema, valueFactory)) {
+            TestSuite testSuite = new TestSuite();
+            while (reader.hasNext()) {
+                testSuite.addTestCase(reader.readTestCase());
+            }
+            return testSuite;
+        }
+    }
+
+    private void readHeader(InputStream buffered) throws IOException {
+        DataInputStream header = new DataInputStream(buffered);
+        int magic = header.readInt();
+        if (magic != TestSuiteWriter.MAGIC) {
+            throw new IOException("Not a test suite file");
+        }
+        int version = header.readUnsignedByte();
+        if (version != TestSuiteWriter.VERSION) {
+            throw new IOException("Unsupported test suite file version " + version);
+        }
+
+        in = new ObjectInputStream(buffered);
+
+        int numTables = DataCodec.readLength(in);
+        tables = new ArrayList<>(numTables);
+        columns = new ArrayList<>(numTables);
+        for (int i = 0; i < numTables; i++) {
+            String tableName = in.readUTF();
+            Table table = schema.getTable(tableName);
+            if (table == null) {
+                throw new IOException("Table " + tableName + " is not in schema " + schema);
+            }
+            int numColumns = DataCodec.readLength(in);
+            List<Column> tableColumns = new ArrayList<>(numColumns);
+            for (int j = 0; j < numColumns; j++) {
+                String columnName = in.readUTF();
+                Column column = table.getColumn(columnName);
+                if (column == null) {
+                    throw new IOException("Column " + columnName + " is not in table " + table);
+                }
+                tableColumns.add(column);
+            }
+            tables.add(table);
+            columns.add(tableColumns);
+        }
+
+        numTestCases = DataCodec.readLength(in);
+    }
+
+    /**
+     * Get the number of test cases in the test suite.
+     *
+     * @return The number of test cases
+     */
+    public int getNumTestCases() {
+        return numTestCases;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return numRead < numTestCases;
+    }
+
+    /**
+     * Reads the next test case.
+     *
+     * @return The test case
+     * @throws RuntimeException If the test case cannot be read, wrapping the
+     * IOException
+     */
+    @Override
+    public TestCase next() {
+        try {
+            return readTestCase();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Reads the next test case.
+     *
+     * @return The test case
+     * @throws IOException If the test case cannot be read
+     */
+    public TestCase readTestCase() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        TestRequirement testRequirement;
+        try {
+            testRequirement = (TestRequirement) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException ex) {
+            throw new IOException(ex);
+        }
+
+        int numResults = DataCodec.readLength(in);
+        List<Boolean> results = new ArrayList<>(numResults);
+        for (int i = 0; i < numResults; i++) {
+            int result = in.readUnsignedByte();
+            results.add(result > 1 ? null : result == 1);
+        }
+
+        Data data = readData();
+        Data state = readData();
+        TestCase testCase = new TestCase(testRequirement, data, state);
+        testCase.setDBMSResults(results);
+        numRead++;
+        return testCase;
+    }
+
+    private Data readData() throws IOException {
+        Data data = new Data();
+        int numTables = DataCodec.readLength(in);
+        for (int i = 0; i < numTables; i++) {
+            int tableIndex = readIndex(tables.size());
+            Table table = tables.get(tableIndex);
+            List<Column> tableColumns = columns.get(tableIndex);
+            int numRows = DataCodec.readLength(in);
+            for (int j = 0; j < numRows; j++) {
+                int numCells = DataCodec.readLength(in);
+                List<Cell> cells = new ArrayList<>(numCells);
+                for (int k = 0; k < numCells; k++) {
+                    Cell cell = new Cell(tableColumns.get(readIndex(tableColumns.size())), valueFactory);
+                    cell.setValue(DataCodec.readValue(in));
+                    cells.add(cell);
+                }
+                data.addRow(table, new Row(table, cells));
+            }
+        }
+        return data;
+    }
+
+    private int readIndex(int size) throws IOException {
+        int index = DataCodec.readLength(in);
+        if (index >= size) {
+            throw new IOException("Index " + index + " is out of range");
+        }
+        return index;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,168 @@
+package org.schemaanalyst.testgeneration;
+
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.DataCodec;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Table;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Writes test suites in a compact binary format, which can be read back one
+ * test case at a time by {@link TestSuiteReader}.
+ * </p>
+ *
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #VERSION}, followed by a
+ * dictionary of the tables that the test cases have rows for, each with the
+ * names of its columns. Each test case then refers to tables and columns by
+ * their positions in the dictionary, and has its values encoded by
+ * {@link DataCodec}. As the predicates of test requirements are not data,
+ * everything after the version is written to a single
+ * {@link ObjectOutputStream}, with test requirements in Java's serialized
+ * form. The stream is reset after each test case, so that neither the writer
+ * nor the reader holds on to the requirements of earlier test cases; the
+ * classes and tables that a requirement shares are written once within it.
+ * </p>
+ */
+public class TestSuiteWriter {
+
+    /**
+     * The bytes that start every test suite file.
+     */
+    public static final int MAGIC = 0x53415453; // "SATS"
+
+    /**
+     * The version of the format, incremented whenever it changes.
+     */
+    public static final int VERSION = 1;
+
+    private static final int RESULT_NULL = 2;
+
+    private List<Table> tables = new ArrayList<>();
+    private Map<Table, Integer> tableIndices = new HashMap<>();
+    private Map<Table, Map<Column, Integer>> columnIndices = new HashMap<>();
+
+    private TestSuiteWriter() {
+    }
+
+    /**
+     * Writes a test suite to a file.
+     *
+     * @param testSuite The test suite
+     * @param file The file
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(TestSuite testSuite, File file) throws IOException {
+        try (OutputStream out = new FileOutputStream(file)) {
+            write(testSuite, out);
+        }
+    }
+
+    /**
+     * Writes a test suite to a stream, which is left open.
+     *
+     * @param testSuite The test suite
+     * @param out The stream
+     * @throws IOException If the stream cannot be written
+     */
+    public static void write(TestSuite testSuite, OutputStream out) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(out);
+        DataOutputStream header = new DataOutputStream(buffered);
+        header.writeInt(MAGIC);
+        header.writeByte(VERSION);
+        header.flush();
+
+        ObjectOutputStream objectOut = new ObjectOutputStream(buffered);
+        new TestSuiteWriter().writeTestSuite(testSuite, objectOut);
+        objectOut.flush();
+    }
+
+    private void writeTestSuite(TestSuite testSuite, ObjectOutputStream out) throws IOException {
+        List<TestCase> testCases = testSuite.getTestCases();
+        for (TestCase testCase : testCases) {
+            addTables(testCase.getData());
+            addTables(testCase.getState());
+        }
+
+        DataCodec.writeVarInt(out, tables.size());
+        for (Table table : tables) {
+            out.writeUTF(table.getName());
+            List<Column> columns = table.getColumns();
+            DataCodec.writeVarInt(out, columns.size());
+            for (Column column : columns) {
+                out.writeUTF(column.getName());
+            }
+        }
+
+        DataCodec.writeVarInt(out, testCases.size());
+        for (TestCase testCase : testCases) {
+            writeTestCase(testCase, out);
+        }
+    }
+
+    private void addTables(Data data) {
+        for (Table table : data.getTables()) {
+            if (!tableIndices.containsKey(table)) {
+                tableIndices.put(table, tables.size());
+                tables.add(table);
+                Map<Column, Integer> indices = new HashMap<>();
+                for (Column column : table.getColumns()) {
+                    indices.put(column, indices.size());
+                }
+                columnIndices.put(table, indices);
+            }
+        }
+    }
+
+    private void writeTestCase(TestCase testCase, ObjectOutputStream out) throws IOException {
+        out.writeObject(testCase.getTestRequirement());
+
+        List<Boolean> results = testCase.getDBMSResults();
+        DataCodec.writeVarInt(out, results.size());
+        for (Boolean result : results) {
+            out.writeByte(result == null ? RESULT_NULL : (result ? 1 : 0));
+        }
+
+        writeData(testCase.getData(), out);
+        writeData(testCase.getState(), out);
+        out.reset();
+    }
+
+    private void writeData(Data data, DataOutput out) throws IOException {
+        List<Table> dataTables = data.getTables();
+        DataCodec.writeVarInt(out, dataTables.size());
+        for (Table table : dataTables) {
+            DataCodec.writeVarInt(out, tableIndices.get(table));
+            Map<Column, Integer> indices = columnIndices.get(table);
+            List<Row> rows = data.getRows(table);
+            DataCodec.writeVarInt(out, rows.size());
+            for (Row row : rows) {
+                List<Cell> cells = row.getCells();
+                DataCodec.writeVarInt(out, cells.size());
+                for (Cell cell : cells) {
+                    Integer index = indices.get(cell.getColumn());
+                    if (index == null) {
+                        throw new IOException("Column " + cell.getColumn() + " is not in table " + table);
+                    }
+                    DataCodec.writeVarInt(out, index);
+                    DataCodec.writeValue(out, cell.getValue());
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker;
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.AndPredicate;
 
+import java.util.List;
+
 /**
  * Created by phil on 13/10/2014.
  */
@@ -19,6 +21,11 @@ public class AndPredicateChecker extends ComposedPredicateChecker {
         this.andPredicate = andPredicate;
     }
 
+    public AndPredicateChecker(AndPredicate andPredicate, List<PredicateChecker> predicateCheckers) {
+        super(predicateCheckers);
+        this.andPredicate = andPredicate;
+    }
+
     @Override
     public AndPredicate getPredicate() {
         return andPredicate;
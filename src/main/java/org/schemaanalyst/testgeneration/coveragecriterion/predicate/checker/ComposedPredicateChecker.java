@@ -25,6 +25,10 @@ public abstract class ComposedPredicateChecker extends PredicateChecker {
         }
     }
 
+    public ComposedPredicateChecker(List<PredicateChecker> predicateCheckers) {
+        this.predicateCheckers = new ArrayList<>(predicateCheckers);
+    }
+
     public List<PredicateChecker> getPredicateCheckers() {
         return new ArrayList<>(predicateCheckers);
     }
@@ -4,6 +4,8 @@ import org.schemaanalyst.data.Data;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.OrPredicate;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.Predicate;
 
+import java.util.List;
+
 /**
  * Created by phil on 13/10/2014.
  */
@@ -16,6 +18,11 @@ public class OrPredicateChecker extends ComposedPredicateChecker {
         this.orPredicate = orPredicate;
     }
 
+    public OrPredicateChecker(OrPredicate orPredicate, List<PredicateChecker> predicateCheckers) {
+        super(predicateCheckers);
+        this.orPredicate = orPredicate;
+    }
+
     @Override
     public Predicate getPredicate() {
         return orPredicate;
@@ -117,6 +117,21 @@ public class IdentifiableEntitySet<E extends IdentifiableEntity> implements Set<
         return new ArrayList<>(this);
     }
 
+    /**
+     * Returns a set with the same elements as this set, which are shared with
+     * it rather than added to it. The elements continue to belong to this
+     * set, so renaming one of them updates the identifiers of this set but not
+     * those of the copy, and so shared elements should not be renamed.
+     *
+     * @return the copy.
+     */
+    public IdentifiableEntitySet<E> shallowCopy() {
+        IdentifiableEntitySet<E> copy = new IdentifiableEntitySet<>();
+        copy.identifiers.putAll(identifiers);
+        copy.elements.addAll(elements);
+        return copy;
+    }
+
     @Override
     public Object[] toArray() {
         Object[] a = new Object[size()];
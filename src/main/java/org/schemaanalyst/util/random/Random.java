@@ -21,4 +21,20 @@ public abstract class Random {
     public abstract int nextInt(int ceiling);
 
     public abstract long nextLong();
+
+    /**
+     * Derives a seed for an independent stream of random numbers from a seed
+     * and the number of the stream, by SplitMix64 mixing. The same seed and
+     * stream always give the same derived seed.
+     *
+     * @param seed The seed to derive from
+     * @param stream The number of the stream
+     * @return The derived seed
+     */
+    public static long deriveSeed(long seed, long stream) {
+        long z = seed + (stream + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
 }
@@ -5,6 +5,8 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+	org.schemaanalyst.unittest.data.TestDataCodec.class,
+	org.schemaanalyst.unittest.data.TestDataSnapshot.class,
 	org.schemaanalyst.unittest.data.TestStringValue.class,
 	org.schemaanalyst.unittest.data.TestValueEquality.class,
 	org.schemaanalyst.unittest.data.generation.TestCellValueGenerator.class,
@@ -16,6 +18,9 @@ import org.junit.runners.Suite;
 	org.schemaanalyst.unittest.data.generation.search.TestSearchEvaluation.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.TestDistanceObjectiveValue.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.TestObjectiveValue.class,
+	org.schemaanalyst.unittest.data.generation.search.objective.predicate.TestExpressionPredicateObjectiveFunction.class,
+	org.schemaanalyst.unittest.data.generation.search.objective.predicate.TestMatchPredicateObjectiveFunction.class,
+	org.schemaanalyst.unittest.data.generation.search.objective.predicate.TestNullPredicateObjectiveFunction.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.row.TestAndExpressionRowObjectiveFunction.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.row.TestBetweenExpressionRowObjectiveFunction.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.row.TestInExpressionRowObjectiveFunction.class,
@@ -27,6 +32,8 @@ import org.junit.runners.Suite;
 	org.schemaanalyst.unittest.data.generation.search.objective.row.value.TestRelationalBooleanValueObjectiveFunction.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.row.value.TestRelationalCompoundValueObjectiveFunction.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.row.value.TestRelationalNumericValueObjectiveFunction.class,
+	org.schemaanalyst.unittest.dbms.TestDatabaseInteractorPool.class,
+	org.schemaanalyst.unittest.dbms.TestDerby.class,
 	org.schemaanalyst.unittest.dbms.TestHyperSQL.class,
 	org.schemaanalyst.unittest.dbms.TestPostgres.class,
 	org.schemaanalyst.unittest.dbms.TestSQLite.class,
@@ -34,6 +41,13 @@ import org.junit.runners.Suite;
 	org.schemaanalyst.unittest.faultlocalization.TestCalculator.class,
 	org.schemaanalyst.unittest.faultlocalization.TestProcessMatrix.class,
 	org.schemaanalyst.unittest.logic.TestRelationalOperator.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.TestMutationAnalysisVirtual.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.technique.TestMutantResultCache.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.technique.TestParallelMinimalSchemataTechnique.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.technique.TestSequentialSampler.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.testcase.TestIndexedMatchPredicateChecker.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.testcase.TestVirtualTestCaseExecutor.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.testsuite.TestTestSuiteExecutor.class,
 	org.schemaanalyst.unittest.mutation.analysis.util.TestSchemaMerger.class,
 	org.schemaanalyst.unittest.mutation.equivalence.TestChangedConstraintFinder.class,
 	org.schemaanalyst.unittest.mutation.equivalence.TestChangedTableFinder.class,
@@ -61,6 +75,9 @@ import org.junit.runners.Suite;
 	org.schemaanalyst.unittest.mutation.operator.TestPKCColumnARE.class,
 	org.schemaanalyst.unittest.mutation.operator.TestUCColumnARE.class,
         org.schemaanalyst.unittest.mutation.operator.TestUCColumnE.class,
+	org.schemaanalyst.unittest.mutation.pipeline.TestMutationPipeline.class,
+	org.schemaanalyst.unittest.mutation.quasimutant.TestDBMSRemover.class,
+	org.schemaanalyst.unittest.mutation.quasimutant.TestDerbyRemover.class,
 	org.schemaanalyst.unittest.mutation.reduction.TestNSelectiveRemover.class,
 	org.schemaanalyst.unittest.mutation.reduction.TestPercentageSamplingRemover.class,
 	org.schemaanalyst.unittest.mutation.reduction.TestSamplingRemover.class,
@@ -81,7 +98,9 @@ import org.junit.runners.Suite;
 	org.schemaanalyst.unittest.sqlrepresentation.expression.TestExpressionTreeWithExpressionPath.class,
 	org.schemaanalyst.unittest.sqlrepresentation.expression.TestExpressions.class,
 	org.schemaanalyst.unittest.sqlwriter.TestDateWriter.class,
+	org.schemaanalyst.unittest.testgeneration.TestTestSuiteCache.class,
 	org.schemaanalyst.unittest.testgeneration.TestTestSuiteGenerator.class,
+	org.schemaanalyst.unittest.testgeneration.TestTestSuiteReader.class,
 	org.schemaanalyst.unittest.testgeneration.coveragecriterion.TestTestRequirementIDGenerator.class,
 	org.schemaanalyst.unittest.testgeneration.coveragecriterion.predicate.TestAndPredicate.class,
 	org.schemaanalyst.unittest.testgeneration.coveragecriterion.predicate.TestComposedPredicate.class,
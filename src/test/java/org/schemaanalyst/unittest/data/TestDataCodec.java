@@ -0,0 +1,106 @@
+package org.schemaanalyst.unittest.data;
+
+import org.junit.Test;
+import org.schemaanalyst.data.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.junit.Assert.*;
+
+public class TestDataCodec {
+
+    private Value roundTrip(Value value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataCodec.writeValue(new DataOutputStream(bytes), value);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Value read = DataCodec.readValue(in);
+        assertEquals("All bytes should be read", -1, in.read());
+        return read;
+    }
+
+    private void assertRoundTrip(Value value) throws IOException {
+        Value read = roundTrip(value);
+        assertEquals(value.getClass(), read.getClass());
+        assertEquals(value, read);
+        assertEquals(value.toString(), read.toString());
+    }
+
+    @Test
+    public void testNull() throws IOException {
+        assertNull(roundTrip(null));
+    }
+
+    @Test
+    public void testBoolean() throws IOException {
+        assertRoundTrip(new BooleanValue(true));
+        assertRoundTrip(new BooleanValue(false));
+    }
+
+    @Test
+    public void testNumeric() throws IOException {
+        assertRoundTrip(new NumericValue(-42));
+        assertRoundTrip(new NumericValue("3.14159"));
+        assertRoundTrip(new NumericValue("123456789012345678901234567890.5"));
+
+        NumericValue value = new NumericValue(5, -10, 10);
+        NumericValue read = (NumericValue) roundTrip(value);
+        assertEquals(new BigDecimal(-10), read.min);
+        assertEquals(new BigDecimal(10), read.max);
+
+        read = (NumericValue) roundTrip(new NumericValue(5));
+        assertNull(read.min);
+        assertNull(read.max);
+    }
+
+    @Test
+    public void testString() throws IOException {
+        assertRoundTrip(new StringValue(""));
+        assertRoundTrip(new StringValue("hello"));
+        StringValue value = new StringValue("abc", 5);
+        StringValue read = (StringValue) roundTrip(value);
+        assertEquals(5, read.getMaxLength());
+        assertFalse("Max length should be respected", read.addCharacter() && read.addCharacter() && read.addCharacter());
+    }
+
+    @Test
+    public void testStringWithCharacterOutsideRange() throws IOException {
+        StringValue value = new StringValue("ab");
+        value.setCharacter(1, new NumericValue("1.5"));
+        StringValue read = (StringValue) roundTrip(value);
+        assertEquals(new BigDecimal("1.5"), read.getCharacter(1).get());
+        assertNull(read.getCharacter(1).min);
+        assertEquals(value.getCharacter(0).min, read.getCharacter(0).min);
+    }
+
+    @Test
+    public void testDatesAndTimes() throws IOException {
+        assertRoundTrip(new DateValue(2014, 7, 24));
+        assertRoundTrip(new DateTimeValue(2014, 7, 24, 13, 45, 59));
+        assertRoundTrip(new TimeValue(23, 59, 1));
+        assertRoundTrip(new TimestampValue(2000, 1, 1, 0, 0, 0));
+    }
+
+    @Test
+    public void testVarLong() throws IOException {
+        long[] values = {0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (long value : values) {
+            DataCodec.writeVarLong(out, value);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (long value : values) {
+            assertEquals(value, DataCodec.readVarLong(in));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnknownTag() throws IOException {
+        DataCodec.readValue(new DataInputStream(new ByteArrayInputStream(new byte[]{99})));
+    }
+}
@@ -0,0 +1,76 @@
+package org.schemaanalyst.unittest.data;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.DataSnapshot;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.unittest.testutil.mock.TwoColumnMockDatabase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class TestDataSnapshot {
+
+    private Data data;
+    private DataSnapshot snapshot;
+
+    @Before
+    public void setup() {
+        TwoColumnMockDatabase database = new TwoColumnMockDatabase();
+        database.setDataValues(1, 2, 3, 4);
+        data = database.data;
+        snapshot = new DataSnapshot(data);
+    }
+
+    private Cell getCell(Data data, int index) {
+        return data.getCells().get(index);
+    }
+
+    private void setCell(int index, int value) {
+        ((NumericValue) getCell(data, index).getValue()).set(value);
+    }
+
+    private String getSnapshotValue(int index) {
+        return getCell(snapshot.getData(), index).getValue().toString();
+    }
+
+    @Test
+    public void testSnapshotIsCopy() {
+        assertNotSame(data, snapshot.getData());
+        assertEquals(data.toString(), snapshot.getData().toString());
+        setCell(0, 5);
+        assertEquals("1", getSnapshotValue(0));
+    }
+
+    @Test
+    public void testUpdateCopiesChangedCells() {
+        setCell(0, 5);
+        snapshot.cellChanged(getCell(data, 0));
+        snapshot.update();
+        assertEquals("5", getSnapshotValue(0));
+
+        // the snapshot must not share values with the data
+        setCell(0, 6);
+        assertEquals("5", getSnapshotValue(0));
+    }
+
+    @Test
+    public void testUpdateCopiesNulls() {
+        getCell(data, 1).setNull(true);
+        snapshot.cellChanged(getCell(data, 1));
+        snapshot.update();
+        assertTrue(getCell(snapshot.getData(), 1).isNull());
+    }
+
+    @Test
+    public void testUpdateCopiesAllCells() {
+        setCell(0, 5);
+        setCell(3, 6);
+        snapshot.allCellsChanged();
+        snapshot.update();
+        assertEquals(data.toString(), snapshot.getData().toString());
+    }
+}
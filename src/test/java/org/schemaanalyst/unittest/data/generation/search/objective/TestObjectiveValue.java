@@ -1,8 +1,15 @@
 package org.schemaanalyst.unittest.data.generation.search.objective;
 
+import org.junit.After;
 import org.junit.Test;
+import org.schemaanalyst.data.generation.search.objective.BestOfMultiObjectiveValue;
+import org.schemaanalyst.data.generation.search.objective.DistanceObjectiveValue;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+import org.schemaanalyst.data.generation.search.objective.SumOfMultiObjectiveValue;
 
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -77,4 +84,52 @@ public class TestObjectiveValue {
         assertFalse(objVal2.betterThan(objVal1));
         assertFalse(objVal1.betterThan(objVal2));
     }
+
+    @After
+    public void stopValidating() {
+        ObjectiveValue.setValidating(false);
+    }
+
+    private SumOfMultiObjectiveValue sumOfDistances(String... distances) {
+        SumOfMultiObjectiveValue objVal = new SumOfMultiObjectiveValue();
+        for (String distance : distances) {
+            DistanceObjectiveValue distObjVal = new DistanceObjectiveValue();
+            distObjVal.setValueUsingDistance(new BigDecimal(distance));
+            objVal.add(distObjVal);
+        }
+        return objVal;
+    }
+
+    @Test
+    public void closeValuesOrderedAsBigDecimals() {
+        ObjectiveValue.setValidating(true);
+        SumOfMultiObjectiveValue objVal1 = sumOfDistances("1000000000", "5");
+        SumOfMultiObjectiveValue objVal2 = sumOfDistances("999999999", "5");
+        SumOfMultiObjectiveValue objVal3 = sumOfDistances("999999999", "5");
+        assertTrue(objVal2.betterThan(objVal1));
+        assertTrue(objVal1.worseThan(objVal2));
+        assertEquals(0, objVal2.compareTo(objVal3));
+    }
+
+    @Test
+    public void sumOfOptimalOptimal() {
+        ObjectiveValue.setValidating(true);
+        SumOfMultiObjectiveValue objVal = sumOfDistances("0", "0");
+        objVal.add(ObjectiveValue.optimalObjectiveValue());
+        assertTrue(objVal.isOptimal());
+        objVal.add(sumOfDistances("0.000000000000000000000001"));
+        assertFalse(objVal.isOptimal());
+    }
+
+    @Test
+    public void bestOfUsesBestValue() {
+        ObjectiveValue.setValidating(true);
+        BestOfMultiObjectiveValue objVal = new BestOfMultiObjectiveValue();
+        assertTrue(objVal.isWorst());
+        objVal.add(sumOfDistances("10"));
+        objVal.add(sumOfDistances("2"));
+        objVal.add(sumOfDistances("7"));
+        assertEquals(0, objVal.compareTo(sumOfDistances("2")));
+        assertEquals(0, objVal.getValue().compareTo(sumOfDistances("2").getValue()));
+    }
 }
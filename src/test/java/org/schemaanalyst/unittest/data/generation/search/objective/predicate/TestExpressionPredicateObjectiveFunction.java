@@ -0,0 +1,86 @@
+package org.schemaanalyst.unittest.data.generation.search.objective.predicate;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
+import org.schemaanalyst.data.generation.search.objective.predicate.ExpressionPredicateObjectiveFunction;
+import org.schemaanalyst.logic.RelationalOperator;
+import org.schemaanalyst.sqlrepresentation.expression.ColumnExpression;
+import org.schemaanalyst.sqlrepresentation.expression.RelationalExpression;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.ExpressionPredicate;
+import org.schemaanalyst.unittest.testutil.mock.TwoColumnMockDatabase;
+
+import static org.schemaanalyst.unittest.testutil.assertion.ObjectiveValueAssert.assertEquivalent;
+import static org.schemaanalyst.unittest.testutil.assertion.ObjectiveValueAssert.assertNonOptimal;
+import static org.schemaanalyst.unittest.testutil.assertion.ObjectiveValueAssert.assertOptimal;
+
+public class TestExpressionPredicateObjectiveFunction {
+
+    private TwoColumnMockDatabase database;
+    private Data data;
+    private ExpressionPredicate predicate;
+
+    @Before
+    public void setup() {
+        database = new TwoColumnMockDatabase();
+        database.setDataValues(1, 2, 3, 4);
+        data = database.data;
+        predicate = new ExpressionPredicate(
+                database.table,
+                new RelationalExpression(
+                        new ColumnExpression(database.table, database.column1),
+                        RelationalOperator.EQUALS,
+                        new ColumnExpression(database.table, database.column2)),
+                true);
+    }
+
+    private Cell getCell(int index) {
+        return data.getCells().get(index);
+    }
+
+    private void setCell(int index, int value) {
+        ((NumericValue) getCell(index).getValue()).set(value);
+    }
+
+    @Test
+    public void testReportedChangeIsReevaluated() {
+        ObjectiveFunction<Data> objFun = new ExpressionPredicateObjectiveFunction(predicate);
+        assertNonOptimal(objFun.evaluate(data));
+
+        setCell(0, 2);
+        objFun.cellChanged(getCell(0));
+        assertNonOptimal(objFun.evaluate(data));
+        assertEquivalent(new ExpressionPredicateObjectiveFunction(predicate).evaluate(data), objFun.evaluate(data));
+
+        setCell(2, 4);
+        objFun.cellChanged(getCell(2));
+        assertOptimal(objFun.evaluate(data));
+    }
+
+    @Test
+    public void testUnreportedChangeIsReevaluated() {
+        ObjectiveFunction<Data> objFun = new ExpressionPredicateObjectiveFunction(predicate);
+        assertNonOptimal(objFun.evaluate(data));
+
+        setCell(0, 2);
+        setCell(2, 4);
+        assertOptimal(objFun.evaluate(data));
+    }
+
+    @Test
+    public void testChangeReportedBeforeEarlierChange() {
+        ObjectiveFunction<Data> objFun = new ExpressionPredicateObjectiveFunction(predicate);
+        objFun.evaluate(data);
+
+        // a change to one cell was reported, but another was made since
+        // the evaluation after it, and not reported
+        setCell(0, 2);
+        objFun.cellChanged(getCell(0));
+        objFun.evaluate(data);
+        setCell(2, 4);
+        assertOptimal(objFun.evaluate(data));
+    }
+}
@@ -0,0 +1,129 @@
+package org.schemaanalyst.unittest.data.generation.search.objective.predicate;
+
+import org.junit.Test;
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.ValueFactory;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+import org.schemaanalyst.data.generation.search.objective.predicate.MatchPredicateObjectiveFunction;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.MatchPredicate;
+import org.schemaanalyst.unittest.testutil.mock.TwoColumnMockDatabase;
+
+import java.util.Arrays;
+
+import static org.schemaanalyst.unittest.testutil.assertion.ObjectiveValueAssert.assertEquivalent;
+import static org.schemaanalyst.unittest.testutil.assertion.ObjectiveValueAssert.assertNonOptimal;
+import static org.schemaanalyst.unittest.testutil.assertion.ObjectiveValueAssert.assertOptimal;
+
+public class TestMatchPredicateObjectiveFunction {
+
+    private void setCell(Cell cell, int value) {
+        ((NumericValue) cell.getValue()).set(value);
+    }
+
+    /**
+     * Evaluates data with a function that has been told of the changes since
+     * its last evaluation, checking that the value is the same as that of a
+     * function evaluating every row afresh.
+     */
+    private ObjectiveValue evaluate(ObjectiveFunction<Data> objFun, MatchPredicate predicate, Data data) {
+        ObjectiveValue objVal = objFun.evaluate(data);
+        assertEquivalent(new MatchPredicateObjectiveFunction(predicate, new Data()).evaluate(data), objVal);
+        return objVal;
+    }
+
+    @Test
+    public void testUniqueChangeToEarlierRowIsReevaluated() {
+        TwoColumnMockDatabase database = new TwoColumnMockDatabase();
+        database.setDataValues(1, 2, 3, 4);
+        Data data = database.data;
+        MatchPredicate predicate = new MatchPredicate(
+                database.table,
+                MatchPredicate.EMPTY_COLUMN_LIST,
+                Arrays.asList(database.column1, database.column2),
+                MatchPredicate.Mode.OR);
+        ObjectiveFunction<Data> objFun = new MatchPredicateObjectiveFunction(predicate, new Data());
+        assertOptimal(evaluate(objFun, predicate, data));
+
+        // only the first row changes, but the second is compared to it
+        setCell(data.getCells().get(0), 3);
+        setCell(data.getCells().get(1), 4);
+        objFun.cellChanged(data.getCells().get(0));
+        objFun.cellChanged(data.getCells().get(1));
+        assertNonOptimal(evaluate(objFun, predicate, data));
+
+        setCell(data.getCells().get(0), 5);
+        objFun.cellChanged(data.getCells().get(0));
+        assertOptimal(evaluate(objFun, predicate, data));
+    }
+
+    @Test
+    public void testSelfReferencingForeignKeyChangeToEarlierRowIsReevaluated() {
+        TwoColumnMockDatabase database = new TwoColumnMockDatabase();
+        database.setDataValues(1, 5, 5, 3);
+        Data data = database.data;
+        MatchPredicate predicate = new MatchPredicate(
+                database.table,
+                Arrays.asList(database.column1),
+                MatchPredicate.EMPTY_COLUMN_LIST,
+                database.table,
+                Arrays.asList(database.column2),
+                MatchPredicate.EMPTY_COLUMN_LIST,
+                MatchPredicate.Mode.AND);
+        ObjectiveFunction<Data> objFun = new MatchPredicateObjectiveFunction(predicate, new Data());
+        assertNonOptimal(evaluate(objFun, predicate, data));
+
+        // the first row now references itself, but the second row no longer
+        // references the first
+        setCell(data.getCells().get(1), 1);
+        objFun.cellChanged(data.getCells().get(1));
+        assertNonOptimal(evaluate(objFun, predicate, data));
+
+        setCell(data.getCells().get(3), 5);
+        objFun.cellChanged(data.getCells().get(3));
+        assertOptimal(evaluate(objFun, predicate, data));
+    }
+
+    @Test
+    public void testForeignKeyChangeToReferencedRowIsReevaluated() {
+        Table parent = new Table("parent");
+        Column parentColumn = new Column("p", new IntDataType());
+        parent.addColumn(parentColumn);
+        Table child = new Table("child");
+        Column childColumn = new Column("c", new IntDataType());
+        child.addColumn(childColumn);
+
+        Data data = new Data();
+        ValueFactory valueFactory = new ValueFactory();
+        Row parentRow = data.addRow(parent, valueFactory);
+        Row childRow = data.addRow(child, valueFactory);
+        setCell(parentRow.getCell(parentColumn), 2);
+        setCell(childRow.getCell(childColumn), 1);
+
+        MatchPredicate predicate = new MatchPredicate(
+                child,
+                Arrays.asList(childColumn),
+                MatchPredicate.EMPTY_COLUMN_LIST,
+                parent,
+                Arrays.asList(parentColumn),
+                MatchPredicate.EMPTY_COLUMN_LIST,
+                MatchPredicate.Mode.AND);
+        ObjectiveFunction<Data> objFun = new MatchPredicateObjectiveFunction(predicate, new Data());
+        assertNonOptimal(evaluate(objFun, predicate, data));
+
+        // only the referenced row changes
+        setCell(parentRow.getCell(parentColumn), 1);
+        objFun.cellChanged(parentRow.getCell(parentColumn));
+        assertOptimal(evaluate(objFun, predicate, data));
+
+        setCell(childRow.getCell(childColumn), 3);
+        objFun.cellChanged(childRow.getCell(childColumn));
+        assertNonOptimal(evaluate(objFun, predicate, data));
+    }
+}
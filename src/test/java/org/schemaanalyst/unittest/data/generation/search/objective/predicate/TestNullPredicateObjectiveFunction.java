@@ -0,0 +1,68 @@
+package org.schemaanalyst.unittest.data.generation.search.objective.predicate;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+import org.schemaanalyst.data.generation.search.objective.predicate.NullPredicateObjectiveFunction;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.NullPredicate;
+import org.schemaanalyst.unittest.testutil.mock.TwoColumnMockDatabase;
+
+import static org.schemaanalyst.unittest.testutil.assertion.ObjectiveValueAssert.assertEquivalent;
+import static org.schemaanalyst.unittest.testutil.assertion.ObjectiveValueAssert.assertNonOptimal;
+import static org.schemaanalyst.unittest.testutil.assertion.ObjectiveValueAssert.assertOptimal;
+
+public class TestNullPredicateObjectiveFunction {
+
+    private Data data;
+    private NullPredicate predicate;
+
+    @Before
+    public void setup() {
+        TwoColumnMockDatabase database = new TwoColumnMockDatabase();
+        database.setDataValues(1, 2, 3, 4);
+        data = database.data;
+        predicate = new NullPredicate(database.table, database.column1, false);
+    }
+
+    private Cell getCell(int index) {
+        return data.getCells().get(index);
+    }
+
+    private ObjectiveValue evaluate(ObjectiveFunction<Data> objFun) {
+        ObjectiveValue objVal = objFun.evaluate(data);
+        assertEquivalent(new NullPredicateObjectiveFunction(predicate).evaluate(data), objVal);
+        return objVal;
+    }
+
+    @Test
+    public void testReportedChangeToOneRowIsReevaluated() {
+        ObjectiveFunction<Data> objFun = new NullPredicateObjectiveFunction(predicate);
+        assertOptimal(evaluate(objFun));
+
+        getCell(2).setNull(true);
+        objFun.cellChanged(getCell(2));
+        assertNonOptimal(evaluate(objFun));
+
+        // a change to another row and column leaves the second row's value
+        ((NumericValue) getCell(1).getValue()).set(5);
+        objFun.cellChanged(getCell(1));
+        assertNonOptimal(evaluate(objFun));
+
+        getCell(2).setNull(false);
+        objFun.cellChanged(getCell(2));
+        assertOptimal(evaluate(objFun));
+    }
+
+    @Test
+    public void testUnreportedChangeIsReevaluated() {
+        ObjectiveFunction<Data> objFun = new NullPredicateObjectiveFunction(predicate);
+        assertOptimal(evaluate(objFun));
+
+        getCell(0).setNull(true);
+        assertNonOptimal(evaluate(objFun));
+    }
+}
@@ -1,7 +1,23 @@
 package org.schemaanalyst.unittest.dbms;
 
+import org.schemaanalyst.data.DateValue;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.StringValue;
+import org.schemaanalyst.data.ValueFactory;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.datatype.DateDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.VarCharDataType;
+import org.schemaanalyst.sqlwriter.SQLWriter;
 
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -111,6 +127,142 @@ public abstract class AbstractTestDBMS {
         executeTest("Multi-column FOREIGN KEY test", setupStatements, testStatements, expectedResults);
     }
 
+    public void preparedInsertTest(boolean[] expectedResults) {
+        String[] setupStatements = {
+                "DROP TABLE IF EXISTS \"t\"",
+                "CREATE TABLE \"t\"(\"c1\" INT PRIMARY KEY, \"c2\" VARCHAR(10) NOT NULL, \"c3\" DATE)"
+        };
+
+        Table table = new Table("t");
+        table.addColumn(new Column("c1", new IntDataType()));
+        table.addColumn(new Column("c2", new VarCharDataType(10)));
+        table.addColumn(new Column("c3", new DateDataType()));
+
+        Row[] rows = {
+                createRow(table, 1, "a"),
+                createRow(table, 1, "b"),
+                createRow(table, 2, null),
+                createRow(table, 2, "b")
+        };
+
+        if (expectedResults.length != rows.length) {
+            throw new RuntimeException("expectedResults array not same size as rows");
+        }
+
+        DatabaseInteractor databaseInteractor = getDatabaseInteractor();
+        for (String statement : setupStatements) {
+            assertTrue("Setup statement failed (" + statement + ")", databaseInteractor.execute(statement) >= 0);
+        }
+
+        String statement = new SQLWriter().writeParameterisedInsertStatement(table);
+        for (int i = 0; i < rows.length; i++) {
+            Integer returnValue = databaseInteractor.executeInsert(statement, rows[i]);
+            String messageForTest = "Prepared INSERT test, row " + i + " (return value was " + returnValue + ", expected result was " + expectedResults[i] + ")";
+            if (returnValue == 1) {
+                assertTrue(messageForTest, expectedResults[i]);
+            } else {
+                assertFalse(messageForTest, expectedResults[i]);
+            }
+        }
+        databaseInteractor.releasePreparedStatements();
+    }
+
+    public void preparedInsertMatchesLiteralTest() {
+        String createStatement = "CREATE TABLE \"t\"(\"c1\" INT PRIMARY KEY, \"c2\" VARCHAR(10) NOT NULL, \"c3\" DATE, CHECK (\"c1\" > 0))";
+
+        Table table = new Table("t");
+        table.addColumn(new Column("c1", new IntDataType()));
+        table.addColumn(new Column("c2", new VarCharDataType(10)));
+        table.addColumn(new Column("c3", new DateDataType()));
+
+        Row[] rows = {
+                createRow(table, 1, "a"),
+                createRow(table, 1, "b"),
+                createRow(table, 2, null),
+                createRow(table, -1, "c"),
+                createRow(table, 3, "abcdefghijk"),
+                createRow(table, 2, "b")
+        };
+
+        DatabaseInteractor databaseInteractor = getDatabaseInteractor();
+        SQLWriter sqlWriter = new SQLWriter();
+        assertTrue("Setup statement failed", databaseInteractor.execute("DROP TABLE IF EXISTS \"t\"") >= 0);
+        assertTrue("Setup statement failed", databaseInteractor.execute(createStatement) >= 0);
+        boolean[] literalResults = new boolean[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            literalResults[i] = databaseInteractor.executeUpdate(sqlWriter.writeInsertStatement(rows[i])) == 1;
+        }
+
+        assertTrue("Setup statement failed", databaseInteractor.execute("DROP TABLE \"t\"") >= 0);
+        assertTrue("Setup statement failed", databaseInteractor.execute(createStatement) >= 0);
+        String statement = sqlWriter.writeParameterisedInsertStatement(table);
+        boolean[] boundResults = new boolean[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            boundResults[i] = databaseInteractor.executeInsert(statement, rows[i]) == 1;
+        }
+        databaseInteractor.releasePreparedStatements();
+
+        assertTrue("The first row should be accepted", literalResults[0]);
+        assertArrayEquals("Bound values should be accepted or rejected as literal values are", literalResults, boundResults);
+    }
+
+    public void batchInsertTest(int[] expectedResults) {
+        String[] setupStatements = {
+                "DROP TABLE IF EXISTS t",
+                "CREATE TABLE t(c1 INT PRIMARY KEY, c2 INT NOT NULL)"
+        };
+
+        List<String> statements = Arrays.asList(
+                "INSERT INTO t(c1, c2) VALUES(1, 1)",
+                "INSERT INTO t(c1, c2) VALUES(2, 1)",
+                "INSERT INTO t(c1, c2) VALUES(1, 2)",
+                "INSERT INTO t(c1, c2) VALUES(3, 2)"
+        );
+
+        DatabaseInteractor databaseInteractor = getDatabaseInteractor();
+        for (String statement : setupStatements) {
+            assertTrue("Setup statement failed (" + statement + ")", databaseInteractor.execute(statement) >= 0);
+        }
+
+        int[] results = databaseInteractor.executeInsertsAsBatch(statements);
+        assertArrayEquals("Batch INSERT test results", expectedResults, results);
+    }
+
+    public void rollbackIsolationTest() {
+        String[] setupStatements = {
+                "DROP TABLE IF EXISTS t",
+                "CREATE TABLE t(c1 INT PRIMARY KEY)"
+        };
+
+        DatabaseInteractor databaseInteractor = getDatabaseInteractor();
+        for (String statement : setupStatements) {
+            assertTrue("Setup statement failed (" + statement + ")", databaseInteractor.execute(statement) >= 0);
+        }
+
+        for (int i = 0; i < 2; i++) {
+            databaseInteractor.beginIsolation();
+            try {
+                assertEquals("Isolated INSERT test, run " + i, (Integer) 1, databaseInteractor.executeUpdate("INSERT INTO t(c1) VALUES(1)"));
+                assertEquals("Isolated duplicate INSERT test, run " + i, (Integer) 0, databaseInteractor.executeUpdate("INSERT INTO t(c1) VALUES(1)"));
+            } finally {
+                databaseInteractor.rollbackIsolation();
+            }
+        }
+        assertEquals("INSERT test after isolated INSERTs rolled back", (Integer) 1, databaseInteractor.executeUpdate("INSERT INTO t(c1) VALUES(1)"));
+    }
+
+    private Row createRow(Table table, int c1, String c2) {
+        Row row = new Row(table, new ValueFactory());
+        row.getCells().get(0).setValue(new NumericValue(c1));
+        if (c2 == null) {
+            row.getCells().get(1).setNull(true);
+        } else {
+            row.getCells().get(1).setValue(new StringValue(c2));
+        }
+        row.getCells().get(2).setValue(new DateValue(2000, 1, 31));
+        return row;
+    }
+
     public void executeTest(String message, String[] setupStatements, String[] testStatements, boolean[] expectedResults) {
         DatabaseInteractor databaseInteractor = getDatabaseInteractor();
 
@@ -0,0 +1,146 @@
+package org.schemaanalyst.unittest.dbms;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.configuration.LocationsConfiguration;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.DatabaseInteractorPool;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.*;
+
+public class TestDatabaseInteractorPool {
+
+    private DatabaseInteractor prototype;
+
+    @Before
+    public void setup() {
+        prototype = DBMSFactory.instantiate("SQLite").getDatabaseInteractor(
+                "test",
+                new DatabaseConfiguration(),
+                new LocationsConfiguration());
+    }
+
+    @Test
+    public void testSameThreadGetsSameInteractor() {
+        DatabaseInteractorPool pool = new DatabaseInteractorPool(prototype, 2);
+        DatabaseInteractor first = pool.acquire();
+        pool.release(first);
+        DatabaseInteractor second = pool.acquire();
+        pool.release(second);
+        assertSame("A thread should get back the interactor it last used", first, second);
+        assertNotSame("Pooled interactors should not be the prototype", prototype, first);
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(2, pool.getAcquisitions());
+        pool.close();
+    }
+
+    @Test
+    public void testInteractorsAreNotShared() {
+        DatabaseInteractorPool pool = new DatabaseInteractorPool(prototype, 2);
+        DatabaseInteractor first = pool.acquire();
+        DatabaseInteractor second = pool.acquire();
+        assertNotSame("Held interactors should not be handed out again", first, second);
+        assertEquals(2, pool.getCreatedCount());
+        pool.release(first);
+        pool.release(second);
+        pool.close();
+    }
+
+    @Test
+    public void testAcquireWaitsWhenExhausted() throws Exception {
+        final DatabaseInteractorPool pool = new DatabaseInteractorPool(prototype, 1);
+        DatabaseInteractor held = pool.acquire();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<DatabaseInteractor> future = executor.submit(new Callable<DatabaseInteractor>() {
+            @Override
+            public DatabaseInteractor call() {
+                DatabaseInteractor interactor = pool.acquire();
+                pool.release(interactor);
+                return interactor;
+            }
+        });
+        try {
+            future.get(100, TimeUnit.MILLISECONDS);
+            fail("Acquiring from an exhausted pool should wait");
+        } catch (TimeoutException e) {
+            // expected
+        }
+        pool.release(held);
+        assertSame("The released interactor should be handed to the waiting thread", held, future.get(10, TimeUnit.SECONDS));
+        assertEquals(1, pool.getCreatedCount());
+        executor.shutdown();
+        pool.close();
+    }
+
+    @Test
+    public void testInitialiseCalledOncePerInteractor() {
+        final int[] initialised = {0};
+        DatabaseInteractorPool pool = new DatabaseInteractorPool(prototype, 2) {
+            @Override
+            protected void initialise(DatabaseInteractor interactor) {
+                initialised[0]++;
+            }
+        };
+        for (int i = 0; i < 3; i++) {
+            pool.release(pool.acquire());
+        }
+        assertEquals(1, initialised[0]);
+        pool.close();
+    }
+
+    @Test
+    public void testFailedInitialiseFreesSlot() {
+        final int[] initialised = {0};
+        DatabaseInteractorPool pool = new DatabaseInteractorPool(prototype, 1) {
+            @Override
+            protected void initialise(DatabaseInteractor interactor) {
+                if (initialised[0]++ == 0) {
+                    throw new RuntimeException("initialise failed");
+                }
+            }
+        };
+        try {
+            pool.acquire();
+            fail("A failure to initialise should be thrown by acquire");
+        } catch (RuntimeException e) {
+            assertEquals("initialise failed", e.getMessage());
+        }
+        assertEquals("The interactor that failed should not be kept", 0, pool.getCreatedCount());
+        DatabaseInteractor interactor = pool.acquire();
+        assertEquals("A new interactor should be created in its place", 2, initialised[0]);
+        pool.release(interactor);
+        pool.close();
+    }
+
+    @Test
+    public void testCloseAddsInteractions() {
+        DatabaseInteractorPool pool = new DatabaseInteractorPool(prototype, 1);
+        DatabaseInteractor interactor = pool.acquire();
+        interactor.executeUpdate("CREATE TABLE t(c1 INT)");
+        interactor.executeUpdate("INSERT INTO t(c1) VALUES(1)");
+        pool.release(interactor);
+        long inserts = prototype.getInsertInteractions();
+        pool.close();
+        assertEquals(inserts + 1, prototype.getInsertInteractions());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReleaseForeignInteractor() {
+        DatabaseInteractorPool pool = new DatabaseInteractorPool(prototype, 1);
+        pool.release(prototype);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyPool() {
+        new DatabaseInteractorPool(prototype, 0);
+    }
+}
@@ -99,4 +99,35 @@ public class TestSQLite extends AbstractTestDBMS {
         };
         multiColumnForeignKeyConstraintTest(results);
     }
+
+    @Test
+    public void preparedInsertTest() {
+        boolean[] results = {
+                true,  // 0. (1, 'a')
+                false, // 1. (1, 'b') -- duplicate PRIMARY KEY
+                false, // 2. (2, NULL) -- NOT NULL
+                true   // 3. (2, 'b')
+        };
+        preparedInsertTest(results);
+    }
+
+    @Test
+    public void preparedInsertMatchesLiteralTest() {
+        super.preparedInsertMatchesLiteralTest();
+    }
+
+    @Test
+    public void batchInsertTest() {
+        int[] results = {
+                1, // 0. INSERT INTO t(c1, c2) VALUES(1, 1)
+                1, // 1. INSERT INTO t(c1, c2) VALUES(2, 1)
+                0  // 2. INSERT INTO t(c1, c2) VALUES(1, 2) -- duplicate PRIMARY KEY
+        };
+        batchInsertTest(results);
+    }
+
+    @Test
+    public void rollbackIsolationTest() {
+        super.rollbackIsolationTest();
+    }
 }
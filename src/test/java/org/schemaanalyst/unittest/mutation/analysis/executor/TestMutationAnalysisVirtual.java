@@ -0,0 +1,56 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor;
+
+import org.junit.Test;
+import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.MutationAnalysisVirtual;
+import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.VirtualTestSuiteResult;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestMutationAnalysisVirtual {
+
+    /**
+     * Exposes the steps of the analysis, so that the same test suite and
+     * mutants can be analysed with different numbers of threads.
+     */
+    private static class Analysis extends MutationAnalysisVirtual {
+
+        TestSuite suite;
+        List<Mutant<Schema>> mutants;
+        VirtualTestSuiteResult originalResult;
+
+        Analysis(String casestudy) {
+            this.casestudy = casestudy;
+            databaseConfiguration = new DatabaseConfiguration();
+            instantiateParameters();
+            suite = instantiateTestSuite();
+            mutants = generateMutants();
+            originalResult = executeTestSuite(schema, suite);
+        }
+
+        AnalysisResult analyse(int threads) {
+            this.threads = threads;
+            return analyse(suite, mutants, originalResult);
+        }
+    }
+
+    @Test
+    public void testThreadsGiveSameResults() {
+        Analysis analysis = new Analysis("parsedcasestudy.UnixUsage");
+        AnalysisResult serial = analysis.analyse(1);
+        assertFalse("Some mutants should be killed", serial.getKilled().isEmpty());
+        assertFalse("Some mutants should be live", serial.getLive().isEmpty());
+
+        AnalysisResult parallel = analysis.analyse(4);
+        assertEquals("The same mutants should be killed, in the same order",
+                serial.getKilled(), parallel.getKilled());
+        assertEquals("The same mutants should be live, in the same order",
+                serial.getLive(), parallel.getLive());
+    }
+}
@@ -0,0 +1,174 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.technique;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
+import org.schemaanalyst.mutation.analysis.executor.technique.CachingTechnique;
+import org.schemaanalyst.mutation.analysis.executor.technique.MutantResultCache;
+import org.schemaanalyst.mutation.analysis.executor.technique.Technique;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.mutation.operator.NNCA;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirement;
+import parsedcasestudy.Flights;
+import parsedcasestudy.UnixUsage;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestMutantResultCache {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final DBMS sqlite = DBMSFactory.instantiate("SQLite");
+
+    private TestSuite testSuite(int testCases) {
+        TestSuite testSuite = new TestSuite();
+        for (int i = 0; i < testCases; i++) {
+            testSuite.addTestCase(new TestCase(new TestRequirement(null, null, true, false), new Data(), new Data()));
+        }
+        return testSuite;
+    }
+
+    /**
+     * A technique killing every other mutant it is given, counting them.
+     */
+    private static class CountingTechnique extends Technique {
+
+        int analysed = 0;
+
+        CountingTechnique(Schema schema, List<Mutant<Schema>> mutants, DBMS dbms) {
+            super(schema, mutants, null, dbms, null, false);
+        }
+
+        @Override
+        public AnalysisResult analyse(TestSuiteResult originalResults) {
+            AnalysisResult result = new AnalysisResult();
+            for (Mutant<Schema> mutant : mutants) {
+                if (analysed++ % 2 == 0) {
+                    result.addKilled(mutant);
+                } else {
+                    result.addLive(mutant);
+                }
+            }
+            return result;
+        }
+    }
+
+    @Test
+    public void testKeyDependsOnContext() {
+        String key = MutantResultCache.key(new UnixUsage(), testSuite(1), sqlite, "original", false);
+        assertEquals("The key should be stable",
+                key, MutantResultCache.key(new UnixUsage(), testSuite(1), sqlite, "original", false));
+        assertNotEquals(key, MutantResultCache.key(new Flights(), testSuite(1), sqlite, "original", false));
+        assertNotEquals(key, MutantResultCache.key(new UnixUsage(), testSuite(2), sqlite, "original", false));
+        assertNotEquals(key, MutantResultCache.key(new UnixUsage(), testSuite(1), DBMSFactory.instantiate("HyperSQL"), "original", false));
+        assertNotEquals(key, MutantResultCache.key(new UnixUsage(), testSuite(1), sqlite, "minimalSchemata", false));
+        assertNotEquals(key, MutantResultCache.key(new UnixUsage(), testSuite(1), sqlite, "original", true));
+    }
+
+    @Test
+    public void testMutantKeyDependsOnStatements() {
+        List<Mutant<Schema>> mutants = new NNCA(new UnixUsage()).mutate();
+        String key = MutantResultCache.mutantKey(mutants.get(0).getMutatedArtefact(), sqlite);
+        assertEquals("Mutants with the same statements should have the same key",
+                key, MutantResultCache.mutantKey(mutants.get(0).getMutatedArtefact().duplicate(), sqlite));
+        assertNotEquals(key, MutantResultCache.mutantKey(mutants.get(1).getMutatedArtefact(), sqlite));
+    }
+
+    @Test
+    public void testPutFlushAndGet() throws IOException {
+        File directory = folder.newFolder();
+        MutantResultCache cache = new MutantResultCache(directory, Long.MAX_VALUE, "a");
+        assertNull(cache.get("m1"));
+        cache.put("m1", true);
+        cache.put("m2", false);
+        assertNull("Results should not be written before the cache is flushed",
+                new MutantResultCache(directory, Long.MAX_VALUE, "a").get("m1"));
+        cache.flush();
+
+        MutantResultCache other = new MutantResultCache(directory, Long.MAX_VALUE, "a");
+        assertEquals("A new cache on the same directory should find the results", true, other.get("m1"));
+        assertEquals(false, other.get("m2"));
+        assertNull("Results of another context should not be found",
+                new MutantResultCache(directory, Long.MAX_VALUE, "b").get("m1"));
+        assertEquals(2, other.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testFlushMergesResultsOfOtherCaches() throws IOException {
+        File directory = folder.newFolder();
+        MutantResultCache first = new MutantResultCache(directory, Long.MAX_VALUE, "a");
+        MutantResultCache second = new MutantResultCache(directory, Long.MAX_VALUE, "a");
+        assertNull(first.get("m1"));
+        assertNull(second.get("m2"));
+        first.put("m1", true);
+        second.put("m2", true);
+        first.flush();
+        second.flush();
+
+        MutantResultCache cache = new MutantResultCache(directory, Long.MAX_VALUE, "a");
+        assertNotNull(cache.get("m1"));
+        assertNotNull(cache.get("m2"));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() throws IOException {
+        File directory = folder.newFolder();
+        MutantResultCache cache = new MutantResultCache(directory, Long.MAX_VALUE, "a");
+        cache.put("m", true);
+        cache.flush();
+        long size = new File(directory, "a.results").length();
+
+        cache = new MutantResultCache(directory, 2 * size, "b");
+        cache.put("m", true);
+        cache.flush();
+        new File(directory, "a.results").setLastModified(1000);
+        new File(directory, "b.results").setLastModified(2000);
+        cache = new MutantResultCache(directory, 2 * size, "c");
+        cache.put("m", true);
+        cache.flush();
+
+        assertFalse("The least recently used context should be evicted", new File(directory, "a.results").exists());
+        assertTrue(new File(directory, "b.results").exists());
+        assertTrue(new File(directory, "c.results").exists());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testCachingTechniqueOnlyAnalysesNewMutants() throws IOException {
+        File directory = folder.newFolder();
+        Schema schema = new UnixUsage();
+        List<Mutant<Schema>> mutants = new NNCA(schema).mutate();
+
+        CountingTechnique counting = new CountingTechnique(schema, mutants, sqlite);
+        AnalysisResult first = new CachingTechnique(counting, new MutantResultCache(directory, Long.MAX_VALUE, "a")).analyse(null);
+        assertEquals("Every mutant should be analysed when the cache is empty",
+                mutants.size(), counting.analysed);
+
+        List<Mutant<Schema>> more = new NNCA(new Flights()).mutate();
+        more.addAll(new NNCA(schema).mutate());
+        counting = new CountingTechnique(schema, more, sqlite);
+        MutantResultCache cache = new MutantResultCache(directory, Long.MAX_VALUE, "a");
+        AnalysisResult second = new CachingTechnique(counting, cache).analyse(null);
+        assertEquals("Only the mutants not in the cache should be analysed",
+                more.size() - mutants.size(), counting.analysed);
+        assertEquals(mutants.size(), cache.getHits());
+        assertEquals(more.size() - mutants.size(), cache.getMisses());
+        assertEquals(more.size(), second.getKilled().size() + second.getLive().size());
+        assertEquals("Cached mutants should keep their results",
+                first.getKilled().size() + (more.size() - mutants.size() + 1) / 2, second.getKilled().size());
+    }
+}
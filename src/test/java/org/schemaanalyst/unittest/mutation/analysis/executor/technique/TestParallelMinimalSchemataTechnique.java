@@ -0,0 +1,97 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.technique;
+
+import org.junit.Test;
+import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.configuration.LocationsConfiguration;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
+import org.schemaanalyst.mutation.analysis.executor.technique.OriginalTechnique;
+import org.schemaanalyst.mutation.analysis.executor.technique.ParallelMinimalSchemataTechnique;
+import org.schemaanalyst.mutation.analysis.executor.technique.Technique;
+import org.schemaanalyst.mutation.analysis.executor.testcase.DeletingTestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.DeletingTestSuiteExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.mutation.pipeline.MutationPipelineFactory;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
+import parsedcasestudy.ArtistSimilarity;
+import parsedcasestudy.Flights;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestParallelMinimalSchemataTechnique {
+
+    private final DBMS sqlite = DBMSFactory.instantiate("SQLite");
+
+    private TestSuite generate(Schema schema) {
+        TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(
+                "CondAICC", schema, sqlite).generateRequirements();
+        testRequirements.filterInfeasible();
+        testRequirements.reduce();
+        return new TestSuiteGenerator(
+                schema, testRequirements, sqlite.getValueFactory(), "avsDefaults", 0, 100000, 1).generate();
+    }
+
+    private List<Mutant<Schema>> mutate(Schema schema) throws Exception {
+        return MutationPipelineFactory.<Schema>instantiate("AllOperatorsWithRemovers", schema, "SQLite").mutate();
+    }
+
+    /**
+     * Gets the positions of the killed mutants in the list given to the
+     * technique, as the techniques rename the mutants they analyse.
+     */
+    private List<Integer> killed(Technique technique, List<Mutant<Schema>> mutants, TestSuiteResult originalResults) {
+        AnalysisResult result = technique.analyse(originalResults);
+        List<Integer> killed = new ArrayList<>();
+        for (Mutant<Schema> mutant : result.getKilled()) {
+            for (int i = 0; i < mutants.size(); i++) {
+                if (mutants.get(i) == mutant) {
+                    killed.add(i);
+                }
+            }
+        }
+        Collections.sort(killed);
+        return killed;
+    }
+
+    private void assertSameKilledAsOriginal(Schema schema, int threads) throws Exception {
+        DatabaseInteractor interactor = sqlite.getDatabaseInteractor(
+                "test", new DatabaseConfiguration(), new LocationsConfiguration());
+        TestSuite suite = generate(schema);
+        TestSuiteResult originalResults = new DeletingTestSuiteExecutor().executeTestSuite(
+                new DeletingTestCaseExecutor(schema, sqlite, interactor), suite);
+
+        List<Mutant<Schema>> originalMutants = mutate(schema);
+        List<Integer> expected = killed(
+                new OriginalTechnique(schema, originalMutants, suite, sqlite, interactor, false),
+                originalMutants, originalResults);
+
+        List<Mutant<Schema>> parallelMutants = mutate(schema);
+        Technique parallel = new ParallelMinimalSchemataTechnique(schema, parallelMutants, suite, sqlite, interactor, false);
+        parallel.setThreads(threads, 0);
+        assertEquals("The same mutants of " + schema.getName() + " should be killed with " + threads + " threads",
+                expected, killed(parallel, parallelMutants, originalResults));
+        interactor.close();
+    }
+
+    @Test
+    public void testSameKilledAsOriginalWithOneThread() throws Exception {
+        assertSameKilledAsOriginal(new ArtistSimilarity(), 1);
+    }
+
+    @Test
+    public void testSameKilledAsOriginalWithSeveralThreads() throws Exception {
+        assertSameKilledAsOriginal(new ArtistSimilarity(), 3);
+        assertSameKilledAsOriginal(new Flights(), 4);
+    }
+}
@@ -0,0 +1,118 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.technique;
+
+import org.junit.Test;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
+import org.schemaanalyst.mutation.analysis.executor.technique.SequentialSampler;
+import org.schemaanalyst.mutation.analysis.executor.technique.Technique;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.sqlrepresentation.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TestSequentialSampler {
+
+    /**
+     * A technique killing the mutants whose description is "killed".
+     */
+    private static class DescriptionTechnique extends Technique {
+
+        DescriptionTechnique() {
+            super(null, null, null, null, null, false);
+        }
+
+        @Override
+        public AnalysisResult analyse(TestSuiteResult originalResults) {
+            AnalysisResult result = new AnalysisResult();
+            for (Mutant<Schema> mutant : mutants) {
+                if (mutant.getDescription().equals("killed")) {
+                    result.addKilled(mutant);
+                } else {
+                    result.addLive(mutant);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Makes 1000 mutants of operator A, 90% of them killed, and 1000 of
+     * operator B, 10% of them killed, so that the score is 0.5.
+     */
+    private List<Mutant<Schema>> makeMutants() {
+        Schema schema = new Schema("s");
+        List<Mutant<Schema>> mutants = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            mutants.add(makeMutant(schema, i < 900, "A"));
+            mutants.add(makeMutant(schema, i < 100, "B"));
+        }
+        return mutants;
+    }
+
+    private Mutant<Schema> makeMutant(Schema schema, boolean killed, String operator) {
+        Mutant<Schema> mutant = new Mutant<>(schema, killed ? "killed" : "live");
+        mutant.setSimpleDescription(operator);
+        return mutant;
+    }
+
+    private int getSize(AnalysisResult result) {
+        return result.getKilled().size() + result.getLive().size();
+    }
+
+    @Test
+    public void testStopsWithinMargin() {
+        SequentialSampler sampler = new SequentialSampler(0.05, 0.95, false, 10, new Random(0));
+        AnalysisResult result = sampler.analyse(new DescriptionTechnique(), null, makeMutants());
+        assertTrue("Sampling should stop before every mutant is analysed",
+                getSize(result) < 2000);
+        assertTrue("Sampling should not stop before the interval is within the margin",
+                sampler.getHalfWidth() <= 0.05);
+        assertEquals("The estimated score should be close to the score of every mutant",
+                0.5, sampler.getScore(), 0.05);
+    }
+
+    @Test
+    public void testStratifiedNeedsSmallerSample() {
+        SequentialSampler sampler = new SequentialSampler(0.05, 0.95, false, 10, new Random(0));
+        int unstratified = getSize(sampler.analyse(new DescriptionTechnique(), null, makeMutants()));
+        SequentialSampler stratifiedSampler = new SequentialSampler(0.05, 0.95, true, 10, new Random(0));
+        AnalysisResult result = stratifiedSampler.analyse(new DescriptionTechnique(), null, makeMutants());
+        assertTrue("Sampling each operator in proportion should need a smaller sample",
+                getSize(result) < unstratified);
+        assertEquals("Each operator should be sampled in proportion",
+                getSize(result) / 2, countOperator(result, "A"), 1);
+        assertEquals("The estimated score should be close to the score of every mutant",
+                0.5, stratifiedSampler.getScore(), 0.05);
+    }
+
+    private int countOperator(AnalysisResult result, String operator) {
+        int count = 0;
+        List<Mutant<Schema>> analysed = new ArrayList<>(result.getKilled());
+        analysed.addAll(result.getLive());
+        for (Mutant<Schema> mutant : analysed) {
+            if (mutant.getSimpleDescription().equals(operator)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testAnalysesEveryMutantIfMarginNotReached() {
+        SequentialSampler sampler = new SequentialSampler(0.001, 0.95, true, 300, new Random(0));
+        AnalysisResult result = sampler.analyse(new DescriptionTechnique(), null, makeMutants());
+        assertEquals("Every mutant should be analysed once", 2000, getSize(result));
+        assertEquals("The score of every mutant should be exact", 0.5, sampler.getScore(), 0);
+        assertEquals("The score of every mutant should have no interval", 0, sampler.getHalfWidth(), 0);
+    }
+
+    @Test
+    public void testGetZ() {
+        assertEquals(1.96, SequentialSampler.getZ(0.95), 0.001);
+        assertEquals(2.576, SequentialSampler.getZ(0.99), 0.001);
+    }
+}
@@ -0,0 +1,138 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.testcase;
+
+import org.junit.Test;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.mutation.analysis.executor.testcase.IndexedMatchPredicateChecker;
+import org.schemaanalyst.mutation.analysis.executor.testcase.VirtualRunningState;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.MatchPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.MatchPredicateChecker;
+import org.schemaanalyst.unittest.testutil.mock.TwoColumnMockDatabase;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestIndexedMatchPredicateChecker {
+
+    @Test
+    public void testSupports() {
+        TwoColumnMockDatabase database = new TwoColumnMockDatabase();
+        assertTrue(IndexedMatchPredicateChecker.supports(uniquePredicate(database)));
+        assertTrue(IndexedMatchPredicateChecker.supports(matchingPredicate(database)));
+        assertFalse(IndexedMatchPredicateChecker.supports(new MatchPredicate(
+                database.table,
+                Arrays.asList(database.column1, database.column2),
+                MatchPredicate.EMPTY_COLUMN_LIST,
+                MatchPredicate.Mode.OR)));
+        assertFalse(IndexedMatchPredicateChecker.supports(new MatchPredicate(
+                database.table,
+                Arrays.asList(database.column1),
+                Arrays.asList(database.column2),
+                MatchPredicate.Mode.AND)));
+    }
+
+    @Test
+    public void testUniqueDuplicateOfOnlyStateRow() {
+        testUnique(new Integer[] {1, 2}, new Integer[] {1, 2}, false);
+    }
+
+    @Test
+    public void testUniqueNotDuplicate() {
+        testUnique(new Integer[] {1, 2}, new Integer[] {1, 3}, true);
+    }
+
+    @Test
+    public void testUniqueDuplicateOfOneStateRow() {
+        testUnique(new Integer[] {1, 2, 3, 4}, new Integer[] {1, 2}, true);
+    }
+
+    @Test
+    public void testUniqueDuplicateOfAllStateRows() {
+        testUnique(new Integer[] {1, 2, 1, 2}, new Integer[] {1, 2}, false);
+    }
+
+    @Test
+    public void testUniqueNullInData() {
+        testUnique(new Integer[] {1, 2}, new Integer[] {1, null}, true);
+    }
+
+    @Test
+    public void testUniqueNullInState() {
+        testUnique(new Integer[] {1, null}, new Integer[] {1, 2}, true);
+    }
+
+    @Test
+    public void testUniqueDuplicateWithinData() {
+        testUnique(new Integer[] {}, new Integer[] {1, 2, 1, 2}, false);
+    }
+
+    @Test
+    public void testMatchingNoStateRows() {
+        testMatching(new Integer[] {}, new Integer[] {1, 2}, true);
+    }
+
+    @Test
+    public void testMatchingEqualStateRow() {
+        testMatching(new Integer[] {5, 6, 1, 2}, new Integer[] {1, 2}, true);
+    }
+
+    @Test
+    public void testMatchingNoEqualStateRow() {
+        testMatching(new Integer[] {5, 6, 1, 3}, new Integer[] {1, 2}, false);
+    }
+
+    @Test
+    public void testMatchingNullInState() {
+        testMatching(new Integer[] {5, 6, null, 3}, new Integer[] {1, 2}, false);
+    }
+
+    @Test
+    public void testMatchingNullInData() {
+        testMatching(new Integer[] {5, 6}, new Integer[] {null, 6}, true);
+    }
+
+    private void testUnique(Integer[] stateValues, Integer[] dataValues, boolean result) {
+        TwoColumnMockDatabase database = new TwoColumnMockDatabase();
+        test(database, uniquePredicate(database), stateValues, dataValues, result);
+    }
+
+    private void testMatching(Integer[] stateValues, Integer[] dataValues, boolean result) {
+        TwoColumnMockDatabase database = new TwoColumnMockDatabase();
+        test(database, matchingPredicate(database), stateValues, dataValues, result);
+    }
+
+    private void test(TwoColumnMockDatabase database, MatchPredicate matchPredicate,
+                      Integer[] stateValues, Integer[] dataValues, boolean result) {
+        Data state = database.createState(stateValues.length / 2);
+        database.setStateValues(stateValues);
+        Data data = database.createData(dataValues.length / 2);
+        database.setDataValues(dataValues);
+
+        VirtualRunningState runningState = new VirtualRunningState();
+        runningState.reset(state);
+
+        IndexedMatchPredicateChecker checker = new IndexedMatchPredicateChecker(matchPredicate, data, runningState);
+        MatchPredicateChecker scanningChecker = new MatchPredicateChecker(matchPredicate, true, data, state);
+
+        assertEquals(scanningChecker.check(), checker.check());
+        assertEquals(result, checker.check());
+    }
+
+    private MatchPredicate uniquePredicate(TwoColumnMockDatabase database) {
+        return new MatchPredicate(
+                database.table,
+                MatchPredicate.EMPTY_COLUMN_LIST,
+                Arrays.asList(database.column1, database.column2),
+                MatchPredicate.Mode.OR);
+    }
+
+    private MatchPredicate matchingPredicate(TwoColumnMockDatabase database) {
+        return new MatchPredicate(
+                database.table,
+                Arrays.asList(database.column1, database.column2),
+                MatchPredicate.EMPTY_COLUMN_LIST,
+                MatchPredicate.Mode.AND);
+    }
+}
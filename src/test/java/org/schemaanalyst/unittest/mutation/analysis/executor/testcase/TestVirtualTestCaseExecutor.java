@@ -0,0 +1,107 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.testcase;
+
+import org.junit.Test;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.ValueFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.testcase.VirtualTestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testcase.VirtualTestCaseResult;
+import org.schemaanalyst.mutation.operator.NNCA;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
+import parsedcasestudy.Flights;
+import parsedcasestudy.UnixUsage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestVirtualTestCaseExecutor {
+
+    private final DBMS dbms = DBMSFactory.instantiate("SQLite");
+
+    private TestSuite generate(Schema schema) {
+        TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(
+                "CondAICC", schema, dbms).generateRequirements();
+        testRequirements.filterInfeasible();
+        testRequirements.reduce();
+        return new TestSuiteGenerator(
+                schema, testRequirements, dbms.getValueFactory(), "avsDefaults", 0, 100000, 1).generate();
+    }
+
+    /**
+     * Checks that executing the test cases of a suite one after the other
+     * with a single executor, which reuses its insert checkers and data,
+     * gives the same results as executing each with a fresh executor.
+     */
+    private void assertReuseSameAsFresh(Schema schema, TestSuite suite) {
+        VirtualTestCaseExecutor reused = new VirtualTestCaseExecutor(schema, dbms);
+        for (TestCase testCase : suite.getTestCases()) {
+            VirtualTestCaseResult fresh = new VirtualTestCaseExecutor(schema, dbms).executeTestCase(testCase);
+            assertEquals("Reusing an executor should give the same result for " + testCase.getTestRequirement()
+                    + " of " + schema.getName(), fresh, reused.executeTestCase(testCase));
+        }
+    }
+
+    private Row makeRow(Table table, Column column, int value) {
+        Row row = new Row(table, new ValueFactory());
+        row.getCell(column).setValue(new NumericValue(value));
+        return row;
+    }
+
+    @Test
+    public void testRowsDoNotCarryOverBetweenTestCases() {
+        Schema schema = new Schema("s");
+        Table table = schema.createTable("t");
+        Column column = table.createColumn("a", new IntDataType());
+        schema.createPrimaryKeyConstraint(table, column);
+
+        Data state = new Data();
+        state.addRow(table, makeRow(table, column, 1));
+        Data data = new Data();
+        data.addRow(table, makeRow(table, column, 2));
+        Data otherData = new Data();
+        otherData.addRow(table, makeRow(table, column, 2));
+        TestCase withState = new TestCase(null, data, state);
+        TestCase withoutState = new TestCase(null, otherData, new Data());
+
+        VirtualTestCaseExecutor executor = new VirtualTestCaseExecutor(schema, dbms);
+        assertEquals(new VirtualTestCaseResult(Arrays.asList(true, true)), executor.executeTestCase(withState));
+        assertEquals("The rows of the previous test case should not be in the running state",
+                new VirtualTestCaseResult(Arrays.asList(true)), executor.executeTestCase(withoutState));
+        assertEquals(new VirtualTestCaseResult(Arrays.asList(true, true)), executor.executeTestCase(withState));
+    }
+
+    @Test
+    public void testReuseSameAsFreshUnixUsage() {
+        Schema schema = new UnixUsage();
+        assertReuseSameAsFresh(schema, generate(schema));
+    }
+
+    @Test
+    public void testReuseSameAsFreshFlightsMutants() {
+        Schema schema = new Flights();
+        TestSuite suite = generate(schema);
+        List<Schema> schemas = new ArrayList<>();
+        schemas.add(schema);
+        for (Mutant<Schema> mutant : new NNCA(schema).mutate()) {
+            schemas.add(mutant.getMutatedArtefact());
+        }
+        for (Schema mutantSchema : schemas) {
+            assertReuseSameAsFresh(mutantSchema, suite);
+        }
+    }
+}
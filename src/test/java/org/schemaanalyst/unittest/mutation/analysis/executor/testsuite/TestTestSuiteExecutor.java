@@ -0,0 +1,121 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.testsuite;
+
+import org.junit.Test;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.exceptions.InsertStatementException;
+import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
+import org.schemaanalyst.mutation.analysis.executor.technique.Technique;
+import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseResult;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirement;
+import parsedcasestudy.Flights;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+public class TestTestSuiteExecutor {
+
+    private static final int TEST_CASES = 5;
+
+    private final Schema flights = new Flights();
+    private final DBMS sqlite = DBMSFactory.instantiate("SQLite");
+    private final TestSuite suite = new TestSuite();
+
+    public TestTestSuiteExecutor() {
+        for (int i = 0; i < TEST_CASES; i++) {
+            suite.addTestCase(new TestCase(new TestRequirement(null, null, true, false), new Data(), new Data()));
+        }
+    }
+
+    /**
+     * A test case executor that fails the test cases from a given index
+     * onwards, without a database, counting those it executes.
+     */
+    private class StubTestCaseExecutor extends TestCaseExecutor {
+
+        final int failFrom;
+        int executed = 0;
+
+        StubTestCaseExecutor(int failFrom) {
+            super(flights, sqlite, null);
+            this.failFrom = failFrom;
+        }
+
+        @Override
+        public TestCaseResult executeTestCase(TestCase testCase) {
+            int index = suite.getTestCases().indexOf(testCase);
+            executed++;
+            return index < failFrom
+                    ? TestCaseResult.SuccessfulTestCaseResult
+                    : new TestCaseResult(new InsertStatementException("Failed", "INSERT"));
+        }
+    }
+
+    /**
+     * A technique executing the test suite against a single mutant.
+     */
+    private class SingleMutantTechnique extends Technique {
+
+        final TestCaseExecutor caseExecutor;
+
+        SingleMutantTechnique(TestCaseExecutor caseExecutor) {
+            super(flights, new ArrayList<Mutant<Schema>>(), suite, sqlite, null, false);
+            this.caseExecutor = caseExecutor;
+        }
+
+        @Override
+        public AnalysisResult analyse(TestSuiteResult originalResults) {
+            executeTestSuite(new TestSuiteExecutor(), caseExecutor, suite, originalResults);
+            return new AnalysisResult();
+        }
+    }
+
+    private TestSuiteResult originalResult() {
+        return new TestSuiteExecutor().executeTestSuite(new StubTestCaseExecutor(TEST_CASES), suite);
+    }
+
+    @Test
+    public void testUntilDifferentStopsAtFirstDifference() {
+        TestSuiteResult original = originalResult();
+        StubTestCaseExecutor executor = new StubTestCaseExecutor(2);
+        TestSuiteResult result = new TestSuiteExecutor().executeTestSuiteUntilDifferent(executor, suite, original, false);
+        assertEquals("Execution should stop at the first differing test case", 3, executor.executed);
+        assertEquals(3, result.getResultCount());
+        assertFalse(result.getResult(suite.getTestCases().get(2)).wasSuccessful());
+        assertNotEquals(original, result);
+    }
+
+    @Test
+    public void testUntilDifferentRunsEveryTestCaseWithoutDifference() {
+        TestSuiteResult original = originalResult();
+        StubTestCaseExecutor executor = new StubTestCaseExecutor(TEST_CASES);
+        TestSuiteResult result = new TestSuiteExecutor().executeTestSuiteUntilDifferent(executor, suite, original, false);
+        assertEquals(TEST_CASES, executor.executed);
+        assertEquals(original, result);
+    }
+
+    @Test
+    public void testTechniqueStopsAtFirstDifference() {
+        StubTestCaseExecutor executor = new StubTestCaseExecutor(0);
+        new SingleMutantTechnique(executor).analyse(originalResult());
+        assertEquals(1, executor.executed);
+    }
+
+    @Test
+    public void testTechniqueFullResultsRunsEveryTestCase() {
+        StubTestCaseExecutor executor = new StubTestCaseExecutor(0);
+        Technique technique = new SingleMutantTechnique(executor);
+        technique.setFullResults(true);
+        technique.analyse(originalResult());
+        assertEquals("Every test case should be executed with full results", TEST_CASES, executor.executed);
+    }
+}
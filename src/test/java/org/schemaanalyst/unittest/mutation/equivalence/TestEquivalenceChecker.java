@@ -24,6 +24,19 @@ public class TestEquivalenceChecker {
         }
     }
     
+    private class TestFingerprintChecker extends EquivalenceChecker<String> {
+
+        @Override
+        public boolean areEquivalent(String a, String b) {
+            return a.equalsIgnoreCase(b);
+        }
+
+        @Override
+        public int fingerprint(String a) {
+            return a.length();
+        }
+    }
+    
     @Test
     public void testAreEquivalent() {
         TestChecker tester = new TestChecker();
@@ -72,4 +85,21 @@ public class TestEquivalenceChecker {
         assertEquals("Subtracting a list of 3 from empty should give an empty "
                 + "list", 0, tester.subtract(b, a).size());
     }
+
+    @Test
+    public void testFingerprintedLists() {
+        TestFingerprintChecker tester = new TestFingerprintChecker();
+        List<String> a = Arrays.asList("a", "bb", "c", "ddd");
+        List<String> b = Arrays.asList("DDD", "C", "A", "BB", "a");
+        assertTrue("Two lists with equivalent items in a different order "
+                + "should be equivalent", tester.areEquivalent(a, b));
+        List<String> c = Arrays.asList("a", "bb", "e", "ddd");
+        assertFalse("Two lists with an item that has an equal fingerprint but "
+                + "is not equivalent should not be equivalent", tester.areEquivalent(a, c));
+        assertEquals("'a,bb,c,ddd' subtract 'a,bb,e,ddd' should result in 'c'",
+                Arrays.asList("c"), tester.subtract(a, c));
+        List<String> d = Arrays.asList("a", "bb", "c");
+        assertFalse("Two lists where one lacks a fingerprint of the other "
+                + "should not be equivalent", tester.areEquivalent(a, d));
+    }
 }
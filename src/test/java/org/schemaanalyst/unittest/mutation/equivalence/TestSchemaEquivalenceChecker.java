@@ -343,4 +343,30 @@ public class TestSchemaEquivalenceChecker {
         assertTrue("Adding a not null should be able to make two otherwise "
                 + "identical schemas equivalent", tester.areEquivalent(s1, s2));
     }
+
+    @Test
+    public void testFingerprint() {
+        SchemaEquivalenceChecker tester = new SchemaEquivalenceChecker();
+        Schema s1 = new Schema("s");
+        Table t1 = s1.createTable("t");
+        Column a1 = t1.createColumn("a", new IntDataType());
+        Column b1 = t1.createColumn("b", new IntDataType());
+        s1.addUniqueConstraint(new UniqueConstraint(t1, a1, b1));
+        s1.addNotNullConstraint(new NotNullConstraint(t1, a1));
+        s1.addNotNullConstraint(new NotNullConstraint(t1, b1));
+        Schema s2 = new Schema("s");
+        Table t2 = s2.createTable("t");
+        Column a2 = t2.createColumn("a", new IntDataType());
+        Column b2 = t2.createColumn("b", new IntDataType());
+        s2.addNotNullConstraint(new NotNullConstraint(t2, b2));
+        s2.addNotNullConstraint(new NotNullConstraint(t2, a2));
+        s2.addUniqueConstraint(new UniqueConstraint(t2, b2, a2));
+        assertTrue("Two schemas with the same constraints in a different order "
+                + "should be equivalent", tester.areEquivalent(s1, s2));
+        assertEquals("Two equivalent schemas should have the same fingerprint",
+                tester.fingerprint(s1), tester.fingerprint(s2));
+        s2.setPrimaryKeyConstraint(new PrimaryKeyConstraint(t2, a2));
+        assertNotEquals("Adding a primary key to one of two equivalent schemas "
+                + "should change its fingerprint", tester.fingerprint(s1), tester.fingerprint(s2));
+    }
 }
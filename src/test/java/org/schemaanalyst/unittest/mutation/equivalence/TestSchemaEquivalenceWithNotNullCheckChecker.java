@@ -514,4 +514,20 @@ public class TestSchemaEquivalenceWithNotNullCheckChecker {
         assertEquals(2, tester.flatten(expr6).size());
         assertEquals(2, tester.flatten(expr7).size());
     }
+
+    @Test
+    public void testNotNullWithCheckFingerprint() {
+        SchemaEquivalenceChecker tester = new SchemaEquivalenceWithNotNullCheckChecker();
+        Schema s1 = new Schema("s");
+        Table t1 = s1.createTable("t");
+        Column a1 = t1.createColumn("a", new IntDataType());
+        s1.addNotNullConstraint(new NotNullConstraint(t1, a1));
+        Schema s2 = new Schema("s");
+        Table t2 = s2.createTable("t");
+        Column a2 = t2.createColumn("a", new IntDataType());
+        s2.addCheckConstraint(new CheckConstraint(t2, new NullExpression(new ColumnExpression(t2, a2), true)));
+        assertEquals("A schema with a NOT NULL should have the same fingerprint "
+                + "as a schema with a check that enforces the same behaviour "
+                + "as the NOT NULL", tester.fingerprint(s1), tester.fingerprint(s2));
+    }
 }
@@ -0,0 +1,151 @@
+package org.schemaanalyst.unittest.mutation.pipeline;
+
+import org.junit.Test;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.equivalence.SchemaEquivalenceChecker;
+import org.schemaanalyst.mutation.operator.NNCA;
+import org.schemaanalyst.mutation.operator.NNCR;
+import org.schemaanalyst.mutation.operator.PKCColumnA;
+import org.schemaanalyst.mutation.operator.UCColumnA;
+import org.schemaanalyst.mutation.pipeline.MutantRemover;
+import org.schemaanalyst.mutation.pipeline.MutationPipeline;
+import org.schemaanalyst.mutation.redundancy.EquivalentMutantRemover;
+import org.schemaanalyst.mutation.redundancy.PrimaryKeyColumnNotNullRemover;
+import org.schemaanalyst.mutation.redundancy.RedundantMutantRemover;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestMutationPipeline {
+
+    private Schema makeSchema() {
+        Schema schema = new Schema("s");
+        Table t1 = schema.createTable("t1");
+        Column a = t1.createColumn("a", new IntDataType());
+        Column b = t1.createColumn("b", new IntDataType());
+        t1.createColumn("c", new IntDataType());
+        schema.createPrimaryKeyConstraint(t1, a);
+        schema.createNotNullConstraint(t1, b);
+        Table t2 = schema.createTable("t2");
+        Column d = t2.createColumn("d", new IntDataType());
+        t2.createColumn("e", new IntDataType());
+        schema.createUniqueConstraint(t2, d);
+        return schema;
+    }
+
+    private MutationPipeline<Schema> makePipeline(Schema schema, boolean removeRedundant, boolean removeAlternate) {
+        MutationPipeline<Schema> pipeline = new MutationPipeline<>();
+        pipeline.addProducer(new NNCA(schema));
+        pipeline.addProducer(new NNCR(schema));
+        pipeline.addProducer(new PKCColumnA(schema));
+        pipeline.addProducer(new UCColumnA(schema));
+        // Produce the same mutants again, which are redundant
+        pipeline.addProducer(new NNCA(schema));
+        pipeline.addRemover(new PrimaryKeyColumnNotNullRemover());
+        pipeline.addRemover(new EquivalentMutantRemover<>(new SchemaEquivalenceChecker(), schema));
+        if (removeAlternate) {
+            pipeline.addRemover(new MutantRemover<Schema>() {
+                @Override
+                public List<Mutant<Schema>> removeMutants(List<Mutant<Schema>> mutants) {
+                    List<Mutant<Schema>> result = new ArrayList<>();
+                    for (int i = 0; i < mutants.size(); i += 2) {
+                        result.add(mutants.get(i));
+                    }
+                    return result;
+                }
+            });
+        }
+        if (removeRedundant) {
+            pipeline.addRemover(new RedundantMutantRemover<>(new SchemaEquivalenceChecker()));
+        }
+        return pipeline;
+    }
+
+    private List<Mutant<Schema>> toList(Iterator<Mutant<Schema>> iterator) {
+        List<Mutant<Schema>> mutants = new ArrayList<>();
+        while (iterator.hasNext()) {
+            mutants.add(iterator.next());
+        }
+        return mutants;
+    }
+
+    private List<String> getDescriptions(List<Mutant<Schema>> mutants) {
+        List<String> descriptions = new ArrayList<>();
+        for (Mutant<Schema> mutant : mutants) {
+            descriptions.add(mutant.getSimpleDescription() + ": " + mutant.getDescription());
+        }
+        return descriptions;
+    }
+
+    @Test
+    public void testIncrementalSameAsBatch() {
+        Schema schema = makeSchema();
+        List<Mutant<Schema>> batch = makePipeline(schema, false, false).mutate();
+        MutationPipeline<Schema> pipeline = makePipeline(schema, false, false);
+        List<Mutant<Schema>> incremental = toList(pipeline.mutateIncrementally());
+
+        assertFalse("The pipeline should produce some mutants", batch.isEmpty());
+        assertEquals("Mutating incrementally should give the same mutants",
+                getDescriptions(batch), getDescriptions(incremental));
+        for (int i = 0; i < incremental.size(); i++) {
+            assertEquals("The mutants should be numbered in order",
+                    i + 1, (int) incremental.get(i).getIdentifier());
+        }
+        assertEquals("Every producer should be counted", 4, pipeline.getProducerCounts().size());
+        assertEquals("Every remover should be counted", 2, pipeline.getRemoverCounts().size());
+    }
+
+    @Test
+    public void testIncrementalWithBatchRemover() {
+        Schema schema = makeSchema();
+        List<Mutant<Schema>> batch = makePipeline(schema, false, true).mutate();
+        List<Mutant<Schema>> incremental = toList(makePipeline(schema, false, true).mutateIncrementally());
+
+        assertEquals("Removers that are not incremental should see all of the mutants",
+                getDescriptions(batch), getDescriptions(incremental));
+    }
+
+    @Test
+    public void testIncrementalRedundantRemoval() {
+        Schema schema = makeSchema();
+        List<Mutant<Schema>> batch = makePipeline(schema, true, false).mutate();
+        List<Mutant<Schema>> incremental = toList(makePipeline(schema, true, false).mutateIncrementally());
+        List<Mutant<Schema>> unreduced = makePipeline(schema, false, false).mutate();
+
+        assertTrue("The schema should give some redundant mutants", batch.size() < unreduced.size());
+        assertEquals("Mutating incrementally should remove as many redundant mutants",
+                batch.size(), incremental.size());
+        SchemaEquivalenceChecker checker = new SchemaEquivalenceChecker();
+        for (int i = 0; i < incremental.size(); i++) {
+            for (int j = i + 1; j < incremental.size(); j++) {
+                assertFalse("No two remaining mutants should be equivalent",
+                        checker.areEquivalent(incremental.get(i).getMutatedArtefact(), incremental.get(j).getMutatedArtefact()));
+            }
+        }
+    }
+
+    @Test
+    public void testParallelSameAsSerial() {
+        Schema schema = makeSchema();
+        List<Mutant<Schema>> serial = makePipeline(schema, true, true).mutate();
+        MutationPipeline<Schema> pipeline = makePipeline(schema, true, true);
+        pipeline.setThreads(3);
+        List<Mutant<Schema>> parallel = pipeline.mutate();
+
+        assertEquals("Mutating in parallel should give the same mutants in the same order",
+                getDescriptions(serial), getDescriptions(parallel));
+        for (int i = 0; i < parallel.size(); i++) {
+            assertEquals("The mutants should be numbered in order",
+                    i + 1, (int) parallel.get(i).getIdentifier());
+        }
+        assertEquals("Every producer should be counted", 4, pipeline.getProducerCounts().size());
+        assertEquals("Every remover should be counted", 4, pipeline.getRemoverCounts().size());
+    }
+}
@@ -0,0 +1,112 @@
+package org.schemaanalyst.unittest.mutation.quasimutant;
+
+import org.junit.Test;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.operator.NNCA;
+import org.schemaanalyst.mutation.quasimutant.DBMSRemover;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestDBMSRemover {
+
+    private Schema makeSchema() {
+        Schema schema = new Schema("s");
+        Table t1 = schema.createTable("t1");
+        Column a = t1.createColumn("a", new IntDataType());
+        t1.createColumn("b", new IntDataType());
+        schema.createPrimaryKeyConstraint(t1, a);
+        Table t2 = schema.createTable("t2");
+        Column c = t2.createColumn("c", new IntDataType());
+        t2.createColumn("d", new IntDataType());
+        schema.createForeignKeyConstraint(t2, c, t1, a);
+        return schema;
+    }
+
+    /**
+     * Gets a schema of two tables that are not connected, each with a named
+     * UNIQUE constraint.
+     */
+    private Schema makeUnconnectedSchema(String constraintName1, String constraintName2) {
+        Schema schema = new Schema("s");
+        Table t1 = schema.createTable("t1");
+        Column a = t1.createColumn("a", new IntDataType());
+        t1.createColumn("b", new IntDataType());
+        schema.createUniqueConstraint(constraintName1, t1, a);
+        Table t2 = schema.createTable("t2");
+        Column c = t2.createColumn("c", new IntDataType());
+        schema.createUniqueConstraint(constraintName2, t2, c);
+        return schema;
+    }
+
+    /**
+     * Gets the NOT NULL mutants of a schema, followed by a mutant with a
+     * table that has no columns, which cannot be created.
+     */
+    private List<Mutant<Schema>> makeMutants(Schema schema) {
+        List<Mutant<Schema>> mutants = new NNCA(schema).mutate();
+        Schema invalid = schema.duplicate();
+        invalid.createTable("t3");
+        mutants.add(new Mutant<>(invalid, "invalid"));
+        return mutants;
+    }
+
+    private List<String> getDescriptions(List<Mutant<Schema>> mutants) {
+        List<String> descriptions = new ArrayList<>();
+        for (Mutant<Schema> mutant : mutants) {
+            descriptions.add(mutant.getDescription());
+        }
+        return descriptions;
+    }
+
+    @Test
+    public void testRemovesInvalidMutant() {
+        Schema schema = makeSchema();
+        List<Mutant<Schema>> mutants = makeMutants(schema);
+        int numMutants = mutants.size();
+        DBMSRemover remover = new DBMSRemover(1);
+        List<Mutant<Schema>> remaining = remover.removeMutants(mutants);
+        assertEquals("Only the mutant that cannot be created should be removed",
+                numMutants - 1, remaining.size());
+        assertFalse("The mutant that cannot be created should be removed",
+                getDescriptions(remaining).contains("invalid"));
+        assertTrue("Each table that is unchanged should only be tested once",
+                remover.getTestCount() < numMutants * 2);
+
+        int testCount = remover.getTestCount();
+        remover.removeMutants(makeMutants(schema));
+        assertEquals("Tables tested before should not be tested again",
+                testCount, remover.getTestCount());
+    }
+
+    @Test
+    public void testParallelSameAsSerial() {
+        Schema schema = makeSchema();
+        List<Mutant<Schema>> serial = new DBMSRemover(1).removeMutants(makeMutants(schema));
+        List<Mutant<Schema>> parallel = new DBMSRemover(3).removeMutants(makeMutants(schema));
+        assertEquals("Testing tables in parallel should remove the same mutants",
+                getDescriptions(serial), getDescriptions(parallel));
+    }
+
+    @Test
+    public void testConstraintNameClashTestsPrecedingTables() {
+        DBMSRemover distinct = new DBMSRemover(1);
+        List<Mutant<Schema>> distinctMutants = new NNCA(makeUnconnectedSchema("u1", "u2")).mutate();
+        int numMutants = distinctMutants.size();
+        assertEquals(numMutants, distinct.removeMutants(distinctMutants).size());
+
+        DBMSRemover clashing = new DBMSRemover(1);
+        List<Mutant<Schema>> clashingMutants = new NNCA(makeUnconnectedSchema("u", "U")).mutate();
+        assertEquals("A clash that the DBMS accepts should remove no mutants",
+                numMutants, clashing.removeMutants(clashingMutants).size());
+        assertTrue("A table whose constraint is named like one of a preceding table's should be tested"
+                + " with that table, so it is tested again when that table changes",
+                clashing.getTestCount() > distinct.getTestCount());
+    }
+}
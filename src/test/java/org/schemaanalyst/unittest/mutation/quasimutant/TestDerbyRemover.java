@@ -0,0 +1,136 @@
+package org.schemaanalyst.unittest.mutation.quasimutant;
+
+import org.junit.Test;
+import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.configuration.LocationsConfiguration;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.quasimutant.DerbyRemover;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.datatype.DataType;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.VarCharDataType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestDerbyRemover {
+
+    private boolean isRemoved(Schema schema) {
+        List<Mutant<Schema>> mutants = new ArrayList<>();
+        mutants.add(new Mutant<>(schema, ""));
+        return new DerbyRemover().removeMutants(mutants).isEmpty();
+    }
+
+    private boolean isRejectedByDerby(Schema schema) {
+        DBMS dbms = DBMSFactory.instantiate("Derby");
+        DatabaseInteractor interactor = dbms.getDatabaseInteractor("test", new DatabaseConfiguration(), new LocationsConfiguration());
+        try {
+            for (String statement : dbms.getSQLWriter().writeCreateTableStatements(schema)) {
+                if (interactor.executeUpdate(statement) == -1) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            interactor.close();
+        }
+    }
+
+    private Schema makeForeignKeySchema(DataType type, DataType referenceType) {
+        Schema schema = new Schema("s");
+        Table t1 = schema.createTable("t1");
+        Column a = t1.createColumn("a", referenceType);
+        schema.createPrimaryKeyConstraint(t1, a);
+        Table t2 = schema.createTable("t2");
+        Column b = t2.createColumn("b", type);
+        schema.createForeignKeyConstraint(t2, b, t1, a);
+        return schema;
+    }
+
+    @Test
+    public void testForeignKeyTypes() {
+        assertFalse("A foreign key between columns of the same type should be kept",
+                isRemoved(makeForeignKeySchema(new VarCharDataType(4), new VarCharDataType(4))));
+        assertTrue("A foreign key between columns of different types should be removed",
+                isRemoved(makeForeignKeySchema(new IntDataType(), new VarCharDataType(4))));
+        assertTrue("A foreign key between columns of different lengths should be removed",
+                isRemoved(makeForeignKeySchema(new VarCharDataType(10), new VarCharDataType(4))));
+    }
+
+    @Test
+    public void testForeignKeyColumnOrder() {
+        Schema schema = new Schema("s");
+        Table t1 = schema.createTable("t1");
+        Column a = t1.createColumn("a", new IntDataType());
+        Column b = t1.createColumn("b", new IntDataType());
+        schema.createUniqueConstraint(t1, a, b);
+        Table t2 = schema.createTable("t2");
+        Column c = t2.createColumn("c", new IntDataType());
+        Column d = t2.createColumn("d", new IntDataType());
+        Schema reordered = schema.duplicate();
+
+        schema.createForeignKeyConstraint(t2, Arrays.asList(c, d), t1, Arrays.asList(a, b));
+        assertFalse("A foreign key referencing the columns of a key in order should be kept",
+                isRemoved(schema));
+
+        Table t1Reordered = reordered.getTable("t1");
+        Table t2Reordered = reordered.getTable("t2");
+        reordered.createForeignKeyConstraint(t2Reordered, t2Reordered.getColumns(),
+                t1Reordered, Arrays.asList(t1Reordered.getColumn("b"), t1Reordered.getColumn("a")));
+        assertTrue("A foreign key referencing the columns of a key in another order should be removed",
+                isRemoved(reordered));
+    }
+
+    @Test
+    public void testKeysWithSameColumns() {
+        Schema schema = new Schema("s");
+        Table t = schema.createTable("t");
+        Column a = t.createColumn("a", new IntDataType());
+        Column b = t.createColumn("b", new IntDataType());
+        schema.createUniqueConstraint(t, a);
+        schema.createUniqueConstraint(t, a);
+        assertFalse("Single column UNIQUE constraints on the same column are written once, so should be kept",
+                isRemoved(schema));
+
+        Schema withPrimaryKey = schema.duplicate();
+        Table tWithPrimaryKey = withPrimaryKey.getTable("t");
+        withPrimaryKey.createPrimaryKeyConstraint(tWithPrimaryKey, tWithPrimaryKey.getColumn("a"));
+        assertTrue("A UNIQUE constraint with the same column as the PRIMARY KEY should be removed",
+                isRemoved(withPrimaryKey));
+
+        schema.createUniqueConstraint(t, a, b);
+        schema.createUniqueConstraint(t, b, a);
+        assertTrue("UNIQUE constraints with the same columns in any order should be removed",
+                isRemoved(schema));
+    }
+
+    @Test
+    public void testAgreesWithDerby() {
+        List<Schema> schemas = Arrays.asList(
+                makeForeignKeySchema(new VarCharDataType(4), new VarCharDataType(4)),
+                makeForeignKeySchema(new IntDataType(), new VarCharDataType(4)),
+                makeForeignKeySchema(new VarCharDataType(10), new VarCharDataType(4)));
+        Schema keys = new Schema("s");
+        Table t = keys.createTable("t");
+        Column a = t.createColumn("a", new IntDataType());
+        keys.createUniqueConstraint(t, a);
+        Schema keysWithPrimaryKey = keys.duplicate();
+        keysWithPrimaryKey.createPrimaryKeyConstraint(keysWithPrimaryKey.getTable("t"), keysWithPrimaryKey.getTable("t").getColumn("a"));
+
+        List<Schema> all = new ArrayList<>(schemas);
+        all.add(keys);
+        all.add(keysWithPrimaryKey);
+        for (Schema schema : all) {
+            assertEquals("The remover should remove the schemas that Derby rejects",
+                    isRejectedByDerby(schema), isRemoved(schema));
+        }
+    }
+}
@@ -113,6 +113,33 @@ public class TestRedundancyRemovers {
                 + "each other should contain one item", 1, reducedList.size());
     }
     
+    @Test
+    public void TestIncrementalRedundancyKeepsEarlier() {
+        SchemaA instance1 = new SchemaA();
+        SchemaA instance2 = new SchemaA();
+        SchemaA instance3 = new SchemaA();
+        instance1.addNotNullConstraint(new NotNullConstraint(instance1.t1, instance1.a));
+        instance2.addNotNullConstraint(new NotNullConstraint(instance2.t1, instance2.a));
+        Mutant<Schema> mutant1 = new Mutant<>((Schema) instance1, "mutant1");
+        Mutant<Schema> mutant2 = new Mutant<>((Schema) instance2, "mutant2");
+        Mutant<Schema> mutant3 = new Mutant<>((Schema) instance3, "mutant3");
+        RedundantMutantRemover<Schema> remover = new RedundantMutantRemover<>(new SchemaEquivalenceChecker());
+        remover.reset();
+        List<Mutant<Schema>> part1 = new ArrayList<>();
+        part1.add(mutant1);
+        List<Mutant<Schema>> part2 = new ArrayList<>();
+        part2.add(mutant2);
+        part2.add(mutant3);
+        assertEquals("The first part should be retained", 1, remover.removeMutantsIncrementally(part1).size());
+        List<Mutant<Schema>> reducedList = remover.removeMutantsIncrementally(part2);
+        assertEquals("A mutant equivalent to one in an earlier part should be removed", 1, reducedList.size());
+        assertTrue("The mutant not equivalent to an earlier one should be retained", mutant3 == reducedList.get(0));
+        remover.reset();
+        part2 = new ArrayList<>();
+        part2.add(mutant2);
+        assertEquals("After resetting, earlier parts should be forgotten", 1, remover.removeMutantsIncrementally(part2).size());
+    }
+
     @Test
     public void TestUniqueOrderEquality() {
         SchemaA original = new SchemaA();
@@ -428,7 +428,85 @@ public class TestSchema {
 
     	assertFalse(
     			"The list of connected tables should not include t4",
-    			tables.contains(t4));    
+    			tables.contains(t4));
+    }
+
+    @Test
+    public void testTablesInOrderAfterChanges() {
+        Schema s = new Schema("s");
+        Table t1 = s.createTable("t1");
+        Column c1 = t1.createColumn("c1", new IntDataType());
+        Table t2 = s.createTable("t2");
+        Column c2 = t2.createColumn("c2", new IntDataType());
+
+        assertEquals("Unconnected tables should be in the order added",
+                t1, s.getTablesInOrder().get(0));
+
+        ForeignKeyConstraint fk = s.createForeignKeyConstraint(t1, c1, t2, c2);
+        assertEquals("A referenced table should come first once a foreign key is added",
+                t2, s.getTablesInOrder().get(0));
+        assertEquals("A referenced table should come last in reverse order",
+                t2, s.getTablesInReverseOrder().get(1));
+        assertEquals("t2 should be connected to t1", 1, s.getConnectedTables(t1).size());
+
+        s.getTablesInOrder().clear();
+        assertEquals("Clearing a returned list should not affect the schema",
+                2, s.getTablesInOrder().size());
+
+        s.removeForeignKeyConstraint(fk);
+        assertEquals("Tables should be back in the order added once the foreign key is removed",
+                t1, s.getTablesInOrder().get(0));
+        assertTrue("t1 should not be connected once the foreign key is removed",
+                s.getConnectedTables(t1).isEmpty());
+
+        Table t3 = s.createTable("t3");
+        assertEquals("A new table should be in the order", t3, s.getTablesInOrder().get(2));
+    }
+
+    @Test
+    public void testConstraintsAfterRenamingTable() {
+        Schema s = new Schema("s");
+        Table t = s.createTable("t");
+        Column c = t.createColumn("c", new IntDataType());
+        s.createPrimaryKeyConstraint(t, c);
+        s.createNotNullConstraint(t, c);
+        s.createUniqueConstraint(t, c);
+
+        assertEquals("The table should have three constraints", 3, s.getNumConstraints(t));
+        t.setName("renamed");
+        assertEquals("The renamed table should still have three constraints", 3, s.getNumConstraints(t));
+        assertTrue("The renamed table should still have a primary key", s.hasPrimaryKeyConstraint(t));
+        assertTrue("The column should still be NOT NULL", s.isNotNull(t, c));
+        assertTrue("The column should still be UNIQUE", s.isUnique(t, c));
+        assertEquals("A table of the same name should have the same constraints",
+                3, s.getNumConstraints(new Table("renamed")));
+    }
+
+    @Test
+    public void testShallowDuplicate() {
+        Schema s = new Schema("s");
+        Table t = s.createTable("t");
+        Column c = t.createColumn("c", new IntDataType());
+        s.createNotNullConstraint(t, c);
+
+        Schema copy = s.shallowDuplicate();
+        assertTrue("The copy should share its tables", copy.isShared());
+        assertSame("The copy should have the same table instance", t, copy.getTable("t"));
+        assertEquals("The copy should have the same constraints", s, copy);
+
+        copy.createUniqueConstraint(t, c);
+        copy.removeNotNullConstraint(copy.getNotNullConstraints().get(0));
+        assertTrue("Changing the copy should not change the original", s.isNotNull(t, c));
+        assertFalse("Changing the copy should not change the original", s.isUnique(t, c));
+        assertTrue("The copy should have the added constraint", copy.isUnique(t, c));
+
+        copy.unshare();
+        assertFalse("The copy should no longer share its tables", copy.isShared());
+        assertNotSame("The copy should have its own table", t, copy.getTable("t"));
+        copy.getTable("t").setName("renamed");
+        assertNotNull("Renaming the copy's table should not change the original", s.getTable("t"));
+        assertTrue("The copy should still have the added constraint",
+                copy.isUnique(copy.getTable("renamed"), copy.getTable("renamed").getColumn("c")));
     }
 
     @Test
@@ -0,0 +1,99 @@
+package org.schemaanalyst.unittest.testgeneration;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.ValueFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteCache;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirement;
+import parsedcasestudy.Flights;
+import parsedcasestudy.UnixUsage;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class TestTestSuiteCache {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private TestSuite testSuite(int testCases) {
+        TestSuite testSuite = new TestSuite();
+        for (int i = 0; i < testCases; i++) {
+            testSuite.addTestCase(new TestCase(new TestRequirement(null, null, true, false), new Data(), new Data()));
+        }
+        return testSuite;
+    }
+
+    @Test
+    public void testKeyDependsOnSettings() {
+        DBMS sqlite = DBMSFactory.instantiate("SQLite");
+        String key = TestSuiteCache.key(new UnixUsage(), sqlite, "CondAICC", "avsDefaults", 100000, 0, false);
+        assertEquals("The key should be stable",
+                key, TestSuiteCache.key(new UnixUsage(), sqlite, "CondAICC", "avsDefaults", 100000, 0, false));
+        assertNotEquals(key, TestSuiteCache.key(new Flights(), sqlite, "CondAICC", "avsDefaults", 100000, 0, false));
+        assertNotEquals(key, TestSuiteCache.key(new UnixUsage(), DBMSFactory.instantiate("HyperSQL"), "CondAICC", "avsDefaults", 100000, 0, false));
+        assertNotEquals(key, TestSuiteCache.key(new UnixUsage(), sqlite, "ClauseAICC", "avsDefaults", 100000, 0, false));
+        assertNotEquals(key, TestSuiteCache.key(new UnixUsage(), sqlite, "CondAICC", "random", 100000, 0, false));
+        assertNotEquals(key, TestSuiteCache.key(new UnixUsage(), sqlite, "CondAICC", "avsDefaults", 1000, 0, false));
+        assertNotEquals(key, TestSuiteCache.key(new UnixUsage(), sqlite, "CondAICC", "avsDefaults", 100000, 1, false));
+        assertNotEquals(key, TestSuiteCache.key(new UnixUsage(), sqlite, "CondAICC", "avsDefaults", 100000, 0, true));
+    }
+
+    @Test
+    public void testPutAndGet() throws IOException {
+        File directory = folder.newFolder();
+        TestSuiteCache cache = new TestSuiteCache(directory, Long.MAX_VALUE);
+        assertNull(cache.get("a", new UnixUsage(), new ValueFactory()));
+        cache.put("a", new TestSuiteCache.Entry(testSuite(3), 75.0, 42));
+
+        TestSuiteCache.Entry entry = new TestSuiteCache(directory, Long.MAX_VALUE).get("a", new UnixUsage(), new ValueFactory());
+        assertNotNull("A new cache on the same directory should find the test suite", entry);
+        assertEquals(3, entry.getTestSuite().getTestCases().size());
+        assertEquals(75.0, entry.getCoverage(), 0);
+        assertEquals(42, entry.getNumDataEvaluations());
+
+        assertNotNull(cache.get("a", new UnixUsage(), new ValueFactory()));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testUnreadableEntryIsAMiss() throws IOException {
+        File directory = folder.newFolder();
+        try (FileOutputStream out = new FileOutputStream(new File(directory, "a.suite"))) {
+            out.write(new byte[]{1, 2, 3});
+        }
+        TestSuiteCache cache = new TestSuiteCache(directory, Long.MAX_VALUE);
+        assertNull(cache.get("a", new UnixUsage(), new ValueFactory()));
+        assertEquals(1, cache.getMisses());
+        assertFalse("The unreadable entry should be deleted", new File(directory, "a.suite").exists());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() throws IOException {
+        File directory = folder.newFolder();
+        TestSuiteCache cache = new TestSuiteCache(directory, Long.MAX_VALUE);
+        cache.put("a", new TestSuiteCache.Entry(testSuite(1), 100, 0));
+        long size = new File(directory, "a.suite").length();
+
+        cache = new TestSuiteCache(directory, 2 * size);
+        cache.put("b", new TestSuiteCache.Entry(testSuite(1), 100, 0));
+        new File(directory, "a.suite").setLastModified(1000);
+        new File(directory, "b.suite").setLastModified(2000);
+        cache.put("c", new TestSuiteCache.Entry(testSuite(1), 100, 0));
+
+        assertFalse("The least recently used entry should be evicted", new File(directory, "a.suite").exists());
+        assertTrue(new File(directory, "b.suite").exists());
+        assertTrue(new File(directory, "c.suite").exists());
+        assertEquals(1, cache.getEvictions());
+    }
+}
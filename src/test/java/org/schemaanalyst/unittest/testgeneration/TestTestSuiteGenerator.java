@@ -3,12 +3,18 @@ package org.schemaanalyst.unittest.testgeneration;
 import org.junit.Test;
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.ValueFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
 import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlrepresentation.Table;
 import org.schemaanalyst.sqlrepresentation.constraint.ForeignKeyConstraint;
 import org.schemaanalyst.sqlrepresentation.datatype.CharDataType;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
 import org.schemaanalyst.testgeneration.TestSuiteGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
 import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.PredicateGenerator;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.Predicate;
 import parsedcasestudy.UnixUsage;
@@ -110,4 +116,29 @@ public class TestTestSuiteGenerator {
         tsg.addLinkedTableRowsToData(data, predicate, t);
         System.out.println("DATA is " + data);
     }
+
+    private String generateInParallel(Schema schema, int threads) {
+        DBMS dbms = DBMSFactory.instantiate("SQLite");
+        TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(
+                "CondAICC", schema, dbms).generateRequirements();
+        testRequirements.filterInfeasible();
+        testRequirements.reduce();
+
+        TestSuite testSuite = new TestSuiteGenerator(
+                schema, testRequirements, dbms.getValueFactory(), "avsDefaults", 0, 100000, threads).generate();
+
+        StringBuilder sb = new StringBuilder();
+        for (TestCase testCase : testSuite.getTestCases()) {
+            sb.append(testCase.getState()).append(testCase.getData());
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testParallelGenerationIsDeterministic() {
+        Schema s = new UnixUsage();
+        String oneThread = generateInParallel(s, 1);
+        assertEquals("The test suite should not depend on the number of threads",
+                oneThread, generateInParallel(s, 4));
+    }
 }
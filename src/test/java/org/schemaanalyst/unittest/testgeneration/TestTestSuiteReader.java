@@ -0,0 +1,106 @@
+package org.schemaanalyst.unittest.testgeneration;
+
+import org.junit.Test;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.ValueFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteGenerator;
+import org.schemaanalyst.testgeneration.TestSuiteReader;
+import org.schemaanalyst.testgeneration.TestSuiteWriter;
+import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
+import parsedcasestudy.Flights;
+import parsedcasestudy.UnixUsage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestTestSuiteReader {
+
+    private TestSuite generate(Schema schema, DBMS dbms) {
+        TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(
+                "CondAICC", schema, dbms).generateRequirements();
+        testRequirements.filterInfeasible();
+        testRequirements.reduce();
+        return new TestSuiteGenerator(
+                schema, testRequirements, dbms.getValueFactory(), "avsDefaults", 0, 100000, 1).generate();
+    }
+
+    private byte[] write(TestSuite testSuite) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TestSuiteWriter.write(testSuite, bytes);
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Schema schema = new UnixUsage();
+        DBMS dbms = DBMSFactory.instantiate("SQLite");
+        TestSuite testSuite = generate(schema, dbms);
+        testSuite.getTestCases().get(0).setDBMSResults(Arrays.asList(true, false));
+
+        TestSuite read = TestSuiteReader.read(new ByteArrayInputStream(write(testSuite)), schema, dbms.getValueFactory());
+        List<TestCase> testCases = testSuite.getTestCases();
+        List<TestCase> readTestCases = read.getTestCases();
+        assertEquals(testCases.size(), readTestCases.size());
+        for (int i = 0; i < testCases.size(); i++) {
+            TestCase testCase = testCases.get(i);
+            TestCase readTestCase = readTestCases.get(i);
+            assertEquals(testCase.getData().toString(), readTestCase.getData().toString());
+            assertEquals(testCase.getState().toString(), readTestCase.getState().toString());
+            assertEquals(testCase.getTestRequirement().toString(), readTestCase.getTestRequirement().toString());
+            assertEquals(testCase.getTestRequirement().getResult(), readTestCase.getTestRequirement().getResult());
+            assertEquals(testCase.getDBMSResults(), readTestCase.getDBMSResults());
+        }
+
+        Table table = readTestCases.get(0).getData().getTables().get(0);
+        assertSame("Tables should be those of the schema", schema.getTable(table.getName()), table);
+    }
+
+    @Test
+    public void testStreaming() throws IOException {
+        Schema schema = new Flights();
+        ValueFactory valueFactory = new ValueFactory();
+        Table table = schema.getTablesInOrder().get(0);
+        TestSuite testSuite = new TestSuite();
+        for (int i = 0; i < 3; i++) {
+            Data data = new Data();
+            data.addRow(table, valueFactory);
+            testSuite.addTestCase(new TestCase(null, data, new Data()));
+        }
+
+        try (TestSuiteReader reader = new TestSuiteReader(new ByteArrayInputStream(write(testSuite)), schema, valueFactory)) {
+            assertEquals(3, reader.getNumTestCases());
+            int numRead = 0;
+            while (reader.hasNext()) {
+                Row row = reader.next().getData().getRows(table).get(0);
+                assertEquals(table.getColumns().size(), row.getNumCells());
+                numRead++;
+            }
+            assertEquals(3, numRead);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrongSchema() throws IOException {
+        Schema schema = new UnixUsage();
+        DBMS dbms = DBMSFactory.instantiate("SQLite");
+        TestSuiteReader.read(new ByteArrayInputStream(write(generate(schema, dbms))), new Flights(), dbms.getValueFactory());
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotATestSuite() throws IOException {
+        TestSuiteReader.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), new Flights(), new ValueFactory());
+    }
+}